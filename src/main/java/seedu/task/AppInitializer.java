@@ -0,0 +1,140 @@
+package seedu.task;
+
+import seedu.task.commons.core.Config;
+import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.util.ConfigUtil;
+import seedu.task.commons.util.StringUtil;
+import seedu.task.model.Model;
+import seedu.task.model.ModelManager;
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.TaskBook;
+import seedu.task.model.UserPrefs;
+import seedu.task.storage.Storage;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Sets up the components that do not depend on the UI, for both {@link MainApp} and {@link CommandServer}.
+ */
+class AppInitializer {
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    static Config initConfig(String configFilePath) {
+        Config initializedConfig;
+        String configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if(configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. " +
+                    "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    static UserPrefs initPrefs(Config config, Storage storage) {
+        assert config != null;
+
+        String prefsFilePath = config.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. " +
+                    "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. . Will be starting with an empty TaskBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    static Model initModelManager(Storage storage, UserPrefs userPrefs, Config config) {
+        Optional<ReadOnlyTaskBook> taskBookOptional = Optional.empty();
+        ReadOnlyTaskBook initialData;
+        try {
+            taskBookOptional = storage.readTaskBook();
+            if(!taskBookOptional.isPresent()){
+                logger.info("Data file not found. Will be starting with an empty TaskBook");
+            }
+            initialData = taskBookOptional.orElse(new TaskBook());
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty TaskBook");
+            initialData = new TaskBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. . Will be starting with an empty TaskBook");
+            initialData = new TaskBook();
+        }
+
+        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        modelManager.setUndoHistoryDepth(config.getUndoHistoryDepth());
+        if (taskBookOptional.isPresent()) {
+            initUndoHistory(storage, modelManager);
+        }
+        return modelManager;
+    }
+
+    /**
+     * Restores the undo history saved with the task book, if any.
+     */
+    private static void initUndoHistory(Storage storage, ModelManager modelManager) {
+        try {
+            modelManager.restoreUndoHistory(storage.readUndoHistory());
+        } catch (DataConversionException e) {
+            logger.warning("Undo history file not in the correct format. Will be starting with no undo history");
+        } catch (IOException e) {
+            logger.warning("Problem while reading the undo history. Will be starting with no undo history");
+        }
+    }
+
+    /**
+     * Writes any task book changes still being saved, then the user prefs.
+     */
+    static void saveOnExit(Storage storage, UserPrefs userPrefs) {
+        storage.flushTaskBookSaves();
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
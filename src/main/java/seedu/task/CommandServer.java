@@ -0,0 +1,181 @@
+package seedu.task;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.task.commons.core.Config;
+import seedu.task.commons.core.EventsCenter;
+import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.events.ui.ExitAppRequestEvent;
+import seedu.task.commons.util.StringUtil;
+import seedu.task.logic.Logic;
+import seedu.task.logic.LogicManager;
+import seedu.task.model.Model;
+import seedu.task.model.UserPrefs;
+import seedu.task.storage.Storage;
+import seedu.task.storage.StorageManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+/**
+ * An entry point that runs the task book without a UI. Commands are read one per line, either from
+ * standard input or, with {@code --port PORT}, from any number of connections to that port on the
+ * loopback address. The feedback for each command is written back followed by an empty line.
+ *
+ * Nothing here refers to the UI, so the JavaFX toolkit is never started.
+ */
+public class CommandServer {
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    public static final String PORT_OPTION = "--port";
+    public static final String RESULT_SEPARATOR = "\n\n";
+    public static final String MESSAGE_USAGE = "Usage: CommandServer [" + PORT_OPTION + " PORT]";
+    public static final String MESSAGE_COMMAND_ERROR = "Command could not be executed: %1$s";
+
+    private final Logic logic;
+    private final Storage storage;
+    private final UserPrefs userPrefs;
+
+    private volatile boolean isExitRequested = false;
+    private volatile ServerSocket serverSocket;
+
+    CommandServer(Logic logic, Storage storage, UserPrefs userPrefs) {
+        this.logic = logic;
+        this.storage = storage;
+        this.userPrefs = userPrefs;
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    /**
+     * Executes the commands read from {@code in} in order until it ends or an exit command is executed,
+     * writing the feedback for each to {@code out}.
+     */
+    public void serve(BufferedReader in, Writer out) throws IOException {
+        String commandText;
+        while (!isExitRequested && (commandText = in.readLine()) != null) {
+            if (commandText.trim().isEmpty()) {
+                continue;
+            }
+            out.write(execute(commandText));
+            out.write(RESULT_SEPARATOR);
+            // while more commands are already waiting, their feedback is sent together
+            if (!in.ready()) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the feedback for the given command, which is an error message if it throws,
+     * so that one bad command does not stop the server.
+     */
+    private String execute(String commandText) {
+        try {
+            return logic.execute(commandText).feedbackToUser;
+        } catch (RuntimeException e) {
+            logger.warning("Command \"" + commandText + "\" threw " + StringUtil.getDetails(e));
+            return String.format(MESSAGE_COMMAND_ERROR, e);
+        }
+    }
+
+    /**
+     * Serves each connection to the given port on the loopback address on its own thread,
+     * until an exit command is executed.
+     */
+    public void listen(int port) throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            serverSocket = server;
+            logger.info("Listening for commands on " + server.getLocalSocketAddress());
+            while (!isExitRequested) {
+                Socket connection;
+                try {
+                    connection = server.accept();
+                } catch (SocketException e) {
+                    if (isExitRequested) {
+                        break;
+                    }
+                    throw e;
+                }
+                Thread connectionThread = new Thread(() -> serveConnection(connection), "Command connection");
+                connectionThread.setDaemon(true);
+                connectionThread.start();
+            }
+        }
+    }
+
+    private void serveConnection(Socket connection) {
+        try (Socket socket = connection;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            serve(in, out);
+        } catch (IOException e) {
+            logger.warning("Connection to " + connection.getRemoteSocketAddress() + " closed: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes any changes still being saved and the user prefs.
+     */
+    public void stop() {
+        logger.info("============================ [ Stopping Task Book ] =============================");
+        AppInitializer.saveOnExit(storage, userPrefs);
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        isExitRequested = true;
+        ServerSocket server = serverSocket;
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close server socket: " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Integer port = null;
+        if (args.length == 2 && args[0].equals(PORT_OPTION) && args[1].matches("\\d{1,5}")
+                && Integer.parseInt(args[1]) <= 65535) {
+            port = Integer.valueOf(args[1]);
+        } else if (args.length != 0) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        logger.info("=============================[ Initializing TaskBook ]===========================");
+        Config config = AppInitializer.initConfig(Config.USER_CONFIG_FILE);
+        Storage storage = new StorageManager(config);
+        UserPrefs userPrefs = AppInitializer.initPrefs(config, storage);
+        AppInitializer.initLogging(config);
+        Model model = AppInitializer.initModelManager(storage, userPrefs, config);
+        CommandServer server = new CommandServer(new LogicManager(model, storage), storage, userPrefs);
+
+        try {
+            if (port == null) {
+                server.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                        new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+            } else {
+                server.listen(port);
+            }
+        } finally {
+            server.stop();
+        }
+    }
+}
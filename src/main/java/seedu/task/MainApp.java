@@ -9,19 +9,16 @@ import seedu.task.commons.core.EventsCenter;
 import seedu.task.commons.core.LogsCenter;
 import seedu.task.commons.core.Version;
 import seedu.task.commons.events.ui.ExitAppRequestEvent;
-import seedu.task.commons.exceptions.DataConversionException;
-import seedu.task.commons.util.ConfigUtil;
-import seedu.task.commons.util.StringUtil;
+import seedu.task.commons.util.FxViewUtil;
 import seedu.task.logic.Logic;
 import seedu.task.logic.LogicManager;
+import seedu.task.logic.commands.RunCommand;
 import seedu.task.model.*;
 import seedu.task.storage.Storage;
 import seedu.task.storage.StorageManager;
 import seedu.task.ui.Ui;
 import seedu.task.ui.UiManager;
 
-import java.io.IOException;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
@@ -32,6 +29,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 0, 0, true);
 
+    /** Names the script to run once the app has started, as in {@code --run=tasks.txt} */
+    public static final String RUN_SCRIPT_PARAMETER = "run";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -47,13 +47,13 @@ public class MainApp extends Application {
         super.init();
 
         config = initConfig(Config.USER_CONFIG_FILE);
-        storage = new StorageManager(config.getTaskBookFilePath(), config.getUserPrefsFilePath());
+        storage = new StorageManager(config);
 
         userPrefs = initPrefs(config);
 
-        initLogging(config);
+        AppInitializer.initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = AppInitializer.initModelManager(storage, userPrefs, config);
 
         logic = new LogicManager(model, storage);
 
@@ -62,88 +62,12 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyTaskBook> taskBookOptional;
-        ReadOnlyTaskBook initialData;
-        try {
-            taskBookOptional = storage.readTaskBook();
-            if(!taskBookOptional.isPresent()){
-                logger.info("Data file not found. Will be starting with an empty TaskBook");
-            }
-            initialData = taskBookOptional.orElse(new TaskBook());
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TaskBook");
-            initialData = new TaskBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. . Will be starting with an empty TaskBook");
-            initialData = new TaskBook();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
     protected Config initConfig(String configFilePath) {
-        Config initializedConfig;
-        String configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if(configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. " +
-                    "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     protected UserPrefs initPrefs(Config config) {
-        assert config != null;
-
-        String prefsFilePath = config.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. " +
-                    "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. . Will be starting with an empty TaskBook");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(config, storage);
     }
 
     private void initEventsCenter() {
@@ -154,17 +78,28 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TaskBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        runStartupScript();
+    }
+
+    /**
+     * Runs the script named on the command line, if any, and shows its result.
+     */
+    private void runStartupScript() {
+        if (getParameters() == null) {
+            return;
+        }
+        String scriptPath = getParameters().getNamed().get(RUN_SCRIPT_PARAMETER);
+        if (scriptPath != null) {
+            logic.executeAsync(RunCommand.COMMAND_WORD + " " + scriptPath)
+                    .thenAcceptAsync(ui::showResult, Platform::runLater);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Task Book ] =============================");
         ui.stop();
-        try {
-            storage.saveUserPrefs(userPrefs);
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
-        }
+        AppInitializer.saveOnExit(storage, userPrefs);
         Platform.exit();
         System.exit(0);
     }
@@ -172,7 +107,8 @@ public class MainApp extends Application {
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        this.stop();
+        // the exit command raises this on the thread executing commands
+        FxViewUtil.runOnFxThread(this::stop);
     }
 
     public static void main(String[] args) {
@@ -11,12 +11,40 @@ public class Config {
     public static final String DEFAULT_CONFIG_FILE = "config.json";
     public static final String USER_CONFIG_FILE = "userConfig.json";
 
+    /**
+     * How often saves to the task book file are forced to the storage device.
+     * Saves are atomic under every policy; the policy only decides how much
+     * may be lost on a power failure.
+     */
+    public enum SyncPolicy {
+        /** Every save is forced to the device before it is considered done */
+        ALWAYS,
+        /** At most one save per second is forced to the device */
+        BATCHED,
+        /** Leaves it to the operating system to write saves to the device */
+        NEVER
+    }
+
+    /**
+     * The format the task book file is stored in.
+     */
+    public enum StorageFormat {
+        /** Binary if the file name ends in ".bin", xml otherwise */
+        AUTO,
+        XML,
+        BINARY
+    }
+
     // Config values customizable through config file
     private String appTitle = "Super Tasker";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
     private String taskBookFilePath = "data/taskbook.xml";
     private String taskBookName = "MyTaskBook";
+    private boolean taskBookJournalEnabled = false;
+    private SyncPolicy taskBookSyncPolicy = SyncPolicy.ALWAYS;
+    private StorageFormat taskBookStorageFormat = StorageFormat.AUTO;
+    private int undoHistoryDepth = 100;
 
     public Config() {
     }
@@ -68,6 +96,45 @@ public class Config {
         this.taskBookName = taskBookName;
     }
 
+    /**
+     * Returns true if changes to the task book are appended to a journal
+     * instead of rewriting the whole data file on every change.
+     */
+    public boolean isTaskBookJournalEnabled() {
+        return taskBookJournalEnabled;
+    }
+
+    public void setTaskBookJournalEnabled(boolean taskBookJournalEnabled) {
+        this.taskBookJournalEnabled = taskBookJournalEnabled;
+    }
+
+    public SyncPolicy getTaskBookSyncPolicy() {
+        return taskBookSyncPolicy;
+    }
+
+    public void setTaskBookSyncPolicy(SyncPolicy taskBookSyncPolicy) {
+        this.taskBookSyncPolicy = taskBookSyncPolicy;
+    }
+
+    public StorageFormat getTaskBookStorageFormat() {
+        return taskBookStorageFormat;
+    }
+
+    public void setTaskBookStorageFormat(StorageFormat taskBookStorageFormat) {
+        this.taskBookStorageFormat = taskBookStorageFormat;
+    }
+
+    /**
+     * Returns how many changes to the task book can be undone.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this){
@@ -83,12 +150,17 @@ public class Config {
                 && Objects.equals(logLevel, o.logLevel)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(taskBookFilePath, o.taskBookFilePath)
-                && Objects.equals(taskBookName, o.taskBookName);
+                && Objects.equals(taskBookName, o.taskBookName)
+                && taskBookJournalEnabled == o.taskBookJournalEnabled
+                && Objects.equals(taskBookSyncPolicy, o.taskBookSyncPolicy)
+                && Objects.equals(taskBookStorageFormat, o.taskBookStorageFormat)
+                && undoHistoryDepth == o.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskBookFilePath, taskBookName);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskBookFilePath, taskBookName,
+                taskBookJournalEnabled, taskBookSyncPolicy, taskBookStorageFormat, undoHistoryDepth);
     }
 
     @Override
@@ -99,6 +171,10 @@ public class Config {
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         sb.append("\nLocal data file location : " + taskBookFilePath);
         sb.append("\nTaskBook name : " + taskBookName);
+        sb.append("\nJournal enabled : " + taskBookJournalEnabled);
+        sb.append("\nSync policy : " + taskBookSyncPolicy);
+        sb.append("\nStorage format : " + taskBookStorageFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -0,0 +1,106 @@
+package seedu.task.commons.core;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An observable copy of another observable list that is only changed, and only reports its changes,
+ * on the JavaFX application thread, so that a list view can show a list that commands change on other threads.
+ * Each change to the other list is copied as it is made and made to this copy later, in the same order,
+ * so this copy never waits for whichever thread is changing the other list.
+ *
+ * The copy must be made before the other list is changed on any other thread.
+ */
+public class FxThreadObservableList<E> extends ObservableListBase<E> {
+
+    /** Only read and changed on the FX thread */
+    private final List<E> elements;
+    private final Executor fxThread;
+
+    /** Changes to the other list not yet made to this copy, oldest first */
+    private final Queue<Runnable> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isUpdateScheduled = new AtomicBoolean(false);
+
+    private final ListChangeListener<E> sourceListener = this::copyChange;
+
+    public FxThreadObservableList(ObservableList<? extends E> source) {
+        this(source, Platform::runLater);
+    }
+
+    /**
+     * @param fxThread runs the code that changes this copy, in the order given
+     */
+    FxThreadObservableList(ObservableList<? extends E> source, Executor fxThread) {
+        assert source != null;
+        this.elements = new ArrayList<>(source);
+        this.fxThread = fxThread;
+        source.addListener(new WeakListChangeListener<>(sourceListener));
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Copies the elements the change added or moved, on the thread that made it, and schedules it for this copy.
+     */
+    private void copyChange(ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int removedSize;
+            List<E> added;
+            if (change.wasPermutated() || change.wasUpdated()) {
+                removedSize = change.getTo() - from;
+                added = new ArrayList<>(change.getList().subList(from, change.getTo()));
+            } else {
+                removedSize = change.getRemovedSize();
+                added = new ArrayList<>(change.getAddedSubList());
+            }
+            pendingChanges.add(() -> replace(from, removedSize, added));
+        }
+        if (!isUpdateScheduled.getAndSet(true)) {
+            fxThread.execute(this::makePendingChanges);
+        }
+    }
+
+    /**
+     * Makes all the changes waiting so far, reported to listeners as one change.
+     */
+    private void makePendingChanges() {
+        isUpdateScheduled.set(false);
+        beginChange();
+        Runnable change;
+        while ((change = pendingChanges.poll()) != null) {
+            change.run();
+        }
+        endChange();
+    }
+
+    private void replace(int from, int removedSize, List<E> added) {
+        if (removedSize > 0) {
+            List<E> removed = elements.subList(from, from + removedSize);
+            nextRemove(from, new ArrayList<>(removed));
+            removed.clear();
+        }
+        if (!added.isEmpty()) {
+            elements.addAll(from, added);
+            nextAdd(from, from + added.size());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.task.commons.core;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.ArrayList;
+
+/**
+ * An observable view of another observable list, which can be swapped for a different list at any time.
+ * Changes to the current list are passed on to the listeners of this view, and swapping lists is
+ * reported as a replacement of the old contents by the new ones, so it costs no more than the two lists' sizes.
+ */
+public class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private ObservableList<? extends E> source;
+
+    private final ListChangeListener<E> sourceListener = this::forwardChange;
+    private final WeakListChangeListener<E> weakSourceListener = new WeakListChangeListener<>(sourceListener);
+
+    public SwitchableObservableList(ObservableList<? extends E> source) {
+        assert source != null;
+        this.source = source;
+        source.addListener(weakSourceListener);
+    }
+
+    /**
+     * Makes this a view of the given list. Does nothing if it already is.
+     */
+    public void setSource(ObservableList<? extends E> newSource) {
+        assert newSource != null;
+        if (newSource == source) {
+            return;
+        }
+        source.removeListener(weakSourceListener);
+        ObservableList<? extends E> oldSource = source;
+        source = newSource;
+        source.addListener(weakSourceListener);
+        if (!hasListeners()) {
+            return;
+        }
+
+        beginChange();
+        if (!oldSource.isEmpty()) {
+            nextRemove(0, new ArrayList<E>(oldSource));
+        }
+        if (!source.isEmpty()) {
+            nextAdd(0, source.size());
+        }
+        endChange();
+    }
+
+    public ObservableList<? extends E> getSource() {
+        return source;
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), new ArrayList<E>(change.getRemoved()));
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
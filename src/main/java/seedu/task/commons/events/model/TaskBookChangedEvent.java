@@ -2,16 +2,50 @@ package seedu.task.commons.events.model;
 
 import seedu.task.commons.events.BaseEvent;
 import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.TaskBook;
+import seedu.task.model.TaskBookSnapshot;
+import seedu.task.model.TaskListChange;
+import seedu.task.model.UndoHistoryChange;
+
+import java.util.Collections;
+import java.util.List;
 
 /** 
  * Indicates the TaskBook in the model has changed
  * */
 public class TaskBookChangedEvent extends BaseEvent {
 
+    /** Revision of an event that did not come from a {@link TaskBookSnapshot} */
+    public static final long UNVERSIONED = -1;
+
+    /** The tasks as they were when the event was raised. It never changes, so any thread may read it. */
     public final ReadOnlyTaskBook data;
 
+    /** The revision of the task book that {@link #data} was taken at, or {@link #UNVERSIONED} */
+    public final long revision;
+
+    /** The changes made to the task list since the previous event, oldest first */
+    public final List<TaskListChange> changes;
+
+    /** The changes made to the undo history since the previous event, oldest first */
+    public final List<UndoHistoryChange> undoHistoryChanges;
+
+    /**
+     * Creates an event that does not say what changed, with a copy of the given task book.
+     */
     public TaskBookChangedEvent(ReadOnlyTaskBook data){
+        this.data = new TaskBook(data).getSnapshot();
+        this.revision = UNVERSIONED;
+        this.changes = Collections.singletonList(TaskListChange.reset());
+        this.undoHistoryChanges = Collections.emptyList();
+    }
+
+    public TaskBookChangedEvent(TaskBookSnapshot data, List<TaskListChange> changes,
+            List<UndoHistoryChange> undoHistoryChanges) {
         this.data = data;
+        this.revision = data.getRevision();
+        this.changes = changes;
+        this.undoHistoryChanges = undoHistoryChanges;
     }
 
     @Override
@@ -0,0 +1,21 @@
+package seedu.task.commons.events.ui;
+
+import seedu.task.commons.events.BaseEvent;
+
+/**
+ * Indicates how far a long running command has got, while it is still executing
+ */
+public class CommandProgressEvent extends BaseEvent {
+
+    public final String message;
+
+    public CommandProgressEvent(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+
+}
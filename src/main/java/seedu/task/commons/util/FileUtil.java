@@ -1,14 +1,32 @@
 package seedu.task.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads file
  */
 public class FileUtil {
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to the given stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter<E extends Exception> {
+        void writeTo(OutputStream out) throws IOException, E;
+    }
 
     public static boolean isFileExists(File file) {
         return file.exists() && file.isFile();
@@ -74,6 +92,76 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the content of the given file with what {@code contentWriter} writes, such that the file
+     * holds either its old or its new content in full even if writing is interrupted.
+     * The content is written to a temporary file next to it, which is then moved over the file.
+     * Will create the file and its parent directories if they do not exist yet.
+     *
+     * @param isSyncRequired if true, the content is forced to the storage device before the move, and the
+     *                       move itself afterwards, so that the new content survives a power failure.
+     */
+    public static <E extends Exception> void writeToFileAtomically(File file, boolean isSyncRequired,
+            ContentWriter<E> contentWriter) throws IOException, E {
+        createParentDirsOfFile(file);
+        Path target = file.toPath().toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_FILE_SUFFIX);
+
+        boolean isWritten = false;
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isSyncRequired) {
+                    channel.force(true);
+                }
+            }
+            moveAtomically(temp, target);
+            isWritten = true;
+        } finally {
+            if (!isWritten) {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        if (isSyncRequired) {
+            syncDirectory(target.getParent());
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the contents of the given file, and its entry in its directory, to the storage device.
+     */
+    public static void forceToDevice(File file) throws IOException {
+        Path path = file.toPath().toAbsolutePath();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        syncDirectory(path.getParent());
+    }
+
+    /**
+     * Forces a change to the entries of the given directory, such as a rename, to the storage device.
+     * Not every platform allows directories to be opened, in which case nothing is done.
+     */
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is still atomic, it may just not be durable yet
+        }
+    }
+
     /**
      * Converts a string to a platform-specific file path
      * @param pathWithForwardSlash A String representing a file path but using '/' as the separator
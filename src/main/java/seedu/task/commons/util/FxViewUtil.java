@@ -1,5 +1,6 @@
 package seedu.task.commons.util;
 
+import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.layout.AnchorPane;
 
@@ -14,4 +15,16 @@ public class FxViewUtil {
         AnchorPane.setRightAnchor(node, right);
         AnchorPane.setTopAnchor(node, top);
     }
+
+    /**
+     * Runs the given code on the JavaFX application thread: at once if called from it, later otherwise.
+     * Commands are executed on another thread, so UI event handlers use this to change the UI.
+     */
+    public static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
 }
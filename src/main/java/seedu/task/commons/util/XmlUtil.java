@@ -6,12 +6,25 @@ import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Building a {@link JAXBContext} is expensive, so one context is created per class and reused.
+ * Marshallers and unmarshallers are not thread-safe, so each thread keeps its own.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -33,8 +46,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file));
     }
@@ -45,10 +57,22 @@ public class XmlUtil {
      * @param file Points to a valid xml file containing data that match the {@code classToConvert}.
      *             Cannot be null.
      * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if the file cannot be replaced.
      * @throws JAXBException         Thrown if there is an error during converting the data
      *                               into xml and writing to the file.
      */
-    public static <T> void saveDataToFile(File file, T data) throws FileNotFoundException, JAXBException {
+    public static <T> void saveDataToFile(File file, T data) throws IOException, JAXBException {
+        saveDataToFile(file, data, false);
+    }
+
+    /**
+     * Similar to {@link #saveDataToFile(File, Object)}
+     * The file is replaced atomically, so it is never left half written.
+     *
+     * @param isSyncRequired if true, the data is forced to the storage device before returning.
+     */
+    public static <T> void saveDataToFile(File file, T data, boolean isSyncRequired)
+            throws IOException, JAXBException {
 
         assert file != null;
         assert data != null;
@@ -57,11 +81,48 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = getMarshaller(data.getClass());
 
-        m.marshal(data, file);
+        FileUtil.writeToFileAtomically(file, isSyncRequired, out -> m.marshal(data, out));
+    }
+
+    /**
+     * Returns the cached {@link JAXBContext} for the given class, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> classToBind) throws JAXBException {
+        JAXBContext context = contexts.get(classToBind);
+        if (context == null) {
+            context = JAXBContext.newInstance(classToBind);
+            contexts.putIfAbsent(classToBind, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns this thread's unmarshaller for the given class.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> classToConvert) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller um = threadUnmarshallers.get(classToConvert);
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+            threadUnmarshallers.put(classToConvert, um);
+        }
+        return um;
+    }
+
+    /**
+     * Returns this thread's marshaller for the given class, set up to produce formatted output.
+     */
+    private static Marshaller getMarshaller(Class<?> classToConvert) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller m = threadMarshallers.get(classToConvert);
+        if (m == null) {
+            m = getContext(classToConvert).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(classToConvert, m);
+        }
+        return m;
     }
 
 }
@@ -4,6 +4,8 @@ import javafx.collections.ObservableList;
 import seedu.task.logic.commands.CommandResult;
 import seedu.task.model.task.ReadOnlyTask;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * API of the Logic component
  */
@@ -15,6 +17,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText);
 
+    /**
+     * Executes the command on a thread of the logic's own and returns at once.
+     * Commands given this way are executed one at a time, in the order given.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, completed on the logic's thread.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
     /** Returns the filtered list of tasks */
     ObservableList<ReadOnlyTask> getFilteredTaskList();
     
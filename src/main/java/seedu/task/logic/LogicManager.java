@@ -1,31 +1,51 @@
 package seedu.task.logic;
 
+import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import javafx.collections.ObservableList;
 import seedu.task.commons.core.ComponentManager;
 import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.events.ui.DatePickedOnCalendarEvent;
+import seedu.task.commons.events.ui.ListAllButtonEvent;
+import seedu.task.commons.events.ui.ListButtonEvent;
+import seedu.task.commons.events.ui.ListCompleteButtonEvent;
+import seedu.task.commons.events.ui.ListPendingButtonEvent;
 import seedu.task.commons.util.DateUtil;
 import seedu.task.logic.commands.Command;
 import seedu.task.logic.commands.CommandResult;
+import seedu.task.logic.parser.DateParser;
 import seedu.task.logic.parser.Parser;
 import seedu.task.model.Model;
 import seedu.task.model.task.ReadOnlyTask;
 import seedu.task.model.task.Status;
 import seedu.task.storage.Storage;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands hold the lock of the model while they execute, and may wait for the JavaFX thread, such as
+ * to ask for a directory. So the JavaFX thread must never take that lock: the lists picked with the
+ * buttons and calendar of the UI are shown by changing the filter on the thread executing commands.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Parser parser;
+    /** Runs the commands given to {@link #executeAsync(String)}, one at a time */
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Command executor").setDaemon(true).build());
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.parser = Parser.initialise();
+        DateParser.getInstance().warmUp();
     }
 
     @Override
@@ -33,7 +53,15 @@ public class LogicManager extends ComponentManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         Command command = parser.parseCommand(commandText);
         command.setData(model);
-        return command.execute();
+        // commands look tasks up in the filtered list before changing them, so each runs as one change
+        synchronized (model) {
+            return command.execute();
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        return CompletableFuture.supplyAsync(() -> execute(commandText), commandExecutor);
     }
 
     @Override
@@ -55,6 +83,39 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public int getSizeOfTaskBook() {
-        return model.getTaskBook().getTaskList().size();
+        return model.getSnapshot().getTaskList().size();
+    }
+
+    //@@author A0153723J
+    //==================== Event Handling Code =================================================================
+
+    @Subscribe
+    private void handleDatePickedOnCalendarEvent(DatePickedOnCalendarEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        commandExecutor.execute(() -> model.updateFilteredListByDate(event.date));
+    }
+
+    @Subscribe
+    private void handleListButtonEvent(ListButtonEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        commandExecutor.execute(() -> model.updateFilteredListByDate(event.date));
+    }
+
+    @Subscribe
+    private void handleListAllButtonEvent(ListAllButtonEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        commandExecutor.execute(model::updateFilteredListToShowAll);
+    }
+
+    @Subscribe
+    private void handleListPendingButtonEvent(ListPendingButtonEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        commandExecutor.execute(() -> model.updateFilteredListByStatus(Status.STATUS_PENDING));
+    }
+
+    @Subscribe
+    private void handleListCompleteButtonEvent(ListCompleteButtonEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        commandExecutor.execute(() -> model.updateFilteredListByStatus(Status.STATUS_COMPLETE));
     }
 }
@@ -40,8 +40,10 @@ public class ClearCommand extends Command {
                 return new CommandResult(MESSAGE_CLEAR_ALL_SUCCESS);
             }
         } catch (NoCompletedTasksFoundException nctfe) {
+            indicateAttemptToExecuteIncorrectCommand();
             return new CommandResult(MESSAGE_CLEAR_COMPLETED_FAIL);
         } catch (TaskNotFoundException tnfe) {
+            indicateAttemptToExecuteIncorrectCommand();
             return new CommandResult(Messages.MESSAGE_TASK_NOT_FOUND);
         }
         
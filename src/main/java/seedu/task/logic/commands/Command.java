@@ -1,10 +1,22 @@
 package seedu.task.logic.commands;
 
 
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+
 import seedu.task.commons.core.EventsCenter;
 import seedu.task.commons.core.Messages;
+import seedu.task.commons.core.UnmodifiableObservableList;
+import seedu.task.commons.events.ui.CommandProgressEvent;
 import seedu.task.commons.events.ui.IncorrectCommandAttemptedEvent;
 import seedu.task.model.Model;
+import seedu.task.model.task.ReadOnlyTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -12,6 +24,8 @@ import seedu.task.model.Model;
 public abstract class Command {
     protected Model model;
 
+    private boolean isFailed = false;
+
     /**
      * Constructs a feedback message to summarise an operation that displayed a listing of tasks.
      *
@@ -39,9 +53,44 @@ public abstract class Command {
     }
 
     /**
-     * Raises an event to indicate an attempt to execute an incorrect command
+     * Returns the tasks at the given one-based indexes of the last shown list, in list order.
+     * Returns an {@code Optional.empty()} if any of the indexes is beyond the list.
+     */
+    protected Optional<List<ReadOnlyTask>> getTasksFromLastShownList(RangeSet<Integer> targetIndexes) {
+        assert !targetIndexes.isEmpty();
+        UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
+        if (ContiguousSet.create(targetIndexes.span(), DiscreteDomain.integers()).last() > lastShownList.size()) {
+            return Optional.empty();
+        }
+        List<ReadOnlyTask> targetTasks = new ArrayList<>();
+        for (Range<Integer> range : targetIndexes.asRanges()) {
+            for (int index : ContiguousSet.create(range, DiscreteDomain.integers())) {
+                targetTasks.add(lastShownList.get(index - 1));
+            }
+        }
+        return Optional.of(targetTasks);
+    }
+
+    /**
+     * Marks this command as failed and raises an event to indicate an attempt to execute an incorrect command.
+     * Called on every path where the command does not do what was asked.
      */
     protected void indicateAttemptToExecuteIncorrectCommand() {
+        isFailed = true;
         EventsCenter.getInstance().post(new IncorrectCommandAttemptedEvent(this));
     }
+
+    /**
+     * Raises an event to report how far this command has got while it is still executing
+     */
+    protected void indicateProgress(String message) {
+        EventsCenter.getInstance().post(new CommandProgressEvent(message));
+    }
+
+    /**
+     * Returns true if this command was executed and failed.
+     */
+    public boolean isFailed() {
+        return isFailed;
+    }
 }
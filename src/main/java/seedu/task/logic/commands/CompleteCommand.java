@@ -1,55 +1,94 @@
 package seedu.task.logic.commands;
 
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+
 import seedu.task.commons.core.Messages;
-import seedu.task.commons.core.UnmodifiableObservableList;
+import seedu.task.model.TaskBatch;
 import seedu.task.model.task.ReadOnlyTask;
 import seedu.task.model.task.Status;
+import seedu.task.model.task.UniqueTaskList.DuplicateTaskException;
 import seedu.task.model.task.UniqueTaskList.TaskAlreadyCompletedException;
 import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
 
+import java.util.List;
+import java.util.Optional;
+
 //@@author A0138704E
 /**
- * Completes a task identified using its last displayed index from the task list.
+ * Completes the tasks identified using their last displayed indexes from the task list.
  */
 public class CompleteCommand extends Command {
 
     public static final String COMMAND_WORD = "complete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Completes the task identified by the index number used in the last task listing.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Completes the tasks identified by the index numbers used in the last task listing.\n"
+            + "Parameters: INDEX[,INDEX or FIRST_INDEX-LAST_INDEX]... (must be positive integers)\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 3,7,9";
 
     public static final String MESSAGE_COMPLETE_TASK_SUCCESS = "Completed task: %1$s";
+    public static final String MESSAGE_COMPLETE_TASKS_SUCCESS = "Completed %1$d tasks";
     public static final String MESSAGE_TASK_ALREADY_COMPLETED = "This task is already completed!";
+    public static final String MESSAGE_TASKS_ALREADY_COMPLETED = "Some of these tasks are already completed!";
 
-    public final int targetIndex;
+    public final RangeSet<Integer> targetIndexes;
 
     public CompleteCommand(int targetIndex) {
-        this.targetIndex = targetIndex;
+        this(ImmutableRangeSet.of(Range.singleton(targetIndex)));
+    }
+
+    public CompleteCommand(RangeSet<Integer> targetIndexes) {
+        this.targetIndexes = targetIndexes;
     }
 
     @Override
     public CommandResult execute() {
         
-        UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
+        Optional<List<ReadOnlyTask>> tasksToComplete = getTasksFromLastShownList(targetIndexes);
 
-        if (lastShownList.size() < targetIndex) {
+        if (!tasksToComplete.isPresent()) {
             indicateAttemptToExecuteIncorrectCommand();
             return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        ReadOnlyTask taskToComplete = lastShownList.get(targetIndex - 1);
+        if (tasksToComplete.get().size() > 1) {
+            return completeTasks(tasksToComplete.get());
+        }
+
+        ReadOnlyTask taskToComplete = tasksToComplete.get().get(0);
         try {
             model.completeTask(taskToComplete);
             model.updateFilteredListByStatus(Status.STATUS_PENDING);
         } catch (TaskNotFoundException e) {
             assert false : "The target task cannot be missing";
         } catch (TaskAlreadyCompletedException tace) {
+            indicateAttemptToExecuteIncorrectCommand();
             return new CommandResult(MESSAGE_TASK_ALREADY_COMPLETED);
         }
         
         return new CommandResult(String.format(MESSAGE_COMPLETE_TASK_SUCCESS, taskToComplete));
     }
+
+    /**
+     * Completes the given tasks as a single change to the task book, or none of them
+     * if any is already completed.
+     */
+    private CommandResult completeTasks(List<ReadOnlyTask> tasksToComplete) {
+        TaskBatch batch = new TaskBatch();
+        tasksToComplete.forEach(batch::complete);
+        try {
+            model.batch(batch);
+            model.updateFilteredListByStatus(Status.STATUS_PENDING);
+        } catch (TaskNotFoundException | DuplicateTaskException e) {
+            assert false : "The target tasks cannot be missing";
+        } catch (TaskAlreadyCompletedException tace) {
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(MESSAGE_TASKS_ALREADY_COMPLETED);
+        }
+
+        return new CommandResult(String.format(MESSAGE_COMPLETE_TASKS_SUCCESS, tasksToComplete.size()));
+    }
     
 }
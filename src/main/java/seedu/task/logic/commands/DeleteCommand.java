@@ -1,43 +1,61 @@
 //@@author A0153658W
 package seedu.task.logic.commands;
 
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+
 import seedu.task.commons.core.Messages;
-import seedu.task.commons.core.UnmodifiableObservableList;
+import seedu.task.model.TaskBatch;
 import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.UniqueTaskList.DuplicateTaskException;
+import seedu.task.model.task.UniqueTaskList.TaskAlreadyCompletedException;
 import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
- * Deletes a task identified using it's last displayed index from the task list.
+ * Deletes the tasks identified using their last displayed indexes from the task list.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the task identified by the index number used in the last task listing.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the tasks identified by the index numbers used in the last task listing.\n"
+            + "Parameters: INDEX[,INDEX or FIRST_INDEX-LAST_INDEX]... (must be positive integers)\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 1-5,8";
 
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted task: %1$s";
+    public static final String MESSAGE_DELETE_TASKS_SUCCESS = "Deleted %1$d tasks";
 
-    public final int targetIndex;
+    public final RangeSet<Integer> targetIndexes;
 
     public DeleteCommand(int targetIndex) {
-        this.targetIndex = targetIndex;
+        this(ImmutableRangeSet.of(Range.singleton(targetIndex)));
+    }
+
+    public DeleteCommand(RangeSet<Integer> targetIndexes) {
+        this.targetIndexes = targetIndexes;
     }
 
 
     @Override
     public CommandResult execute() {
 
-        UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getFilteredTaskList();
+        Optional<List<ReadOnlyTask>> tasksToDelete = getTasksFromLastShownList(targetIndexes);
 
-        if (lastShownList.size() < targetIndex) {
+        if (!tasksToDelete.isPresent()) {
             indicateAttemptToExecuteIncorrectCommand();
             return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
-        ReadOnlyTask taskToDelete = lastShownList.get(targetIndex - 1);
+        if (tasksToDelete.get().size() > 1) {
+            return deleteTasks(tasksToDelete.get());
+        }
+
+        ReadOnlyTask taskToDelete = tasksToDelete.get().get(0);
 
         try {
             model.deleteTask(taskToDelete, "delete");
@@ -49,4 +67,22 @@ public class DeleteCommand extends Command {
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
     }
 
+    /**
+     * Deletes the given tasks as a single change to the task book.
+     */
+    private CommandResult deleteTasks(List<ReadOnlyTask> tasksToDelete) {
+        TaskBatch batch = new TaskBatch();
+        tasksToDelete.forEach(batch::delete);
+        try {
+            model.batch(batch);
+        } catch (TaskNotFoundException tnfe) {
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(String.format(Messages.MESSAGE_TASK_NOT_FOUND, tasksToDelete.toString()));
+        } catch (DuplicateTaskException | TaskAlreadyCompletedException e) {
+            assert false : "Deleting tasks cannot add or complete any";
+        }
+
+        return new CommandResult(String.format(MESSAGE_DELETE_TASKS_SUCCESS, tasksToDelete.size()));
+    }
+
 }
@@ -103,9 +103,11 @@ public class EditCommand extends Command {
             try {
                 model.editTask(taskIndex, taskToEdit, resultTask);
             } catch (DuplicateTaskException e) {
+                indicateAttemptToExecuteIncorrectCommand();
                 return new CommandResult(MESSAGE_EDIT_TASK_FAIL);
             }
         } catch (TaskNotFoundException e) {
+            indicateAttemptToExecuteIncorrectCommand();
             return new CommandResult(String.format(Messages.MESSAGE_TASK_NOT_FOUND, taskToEdit.toString()));
         }
 
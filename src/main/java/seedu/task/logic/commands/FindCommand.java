@@ -9,21 +9,46 @@ import java.util.Set;
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String OPTION_FIND_CONTAINING = "";
+    public static final String OPTION_FIND_BY_PREFIX = "/s";
+    public static final String OPTION_FIND_SIMILAR = "/t";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " laundry ";
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Use " + OPTION_FIND_BY_PREFIX + " to find words starting with the keywords, or "
+            + OPTION_FIND_SIMILAR + " to allow typos. Both list the best matches first.\n"
+            + "Parameters: [OPTION] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " laundry or "
+                        + COMMAND_WORD + " " + OPTION_FIND_BY_PREFIX + " laun or "
+                        + COMMAND_WORD + " " + OPTION_FIND_SIMILAR + " lanudry";
 
     private final Set<String> keywords;
+    private final String option;
 
     public FindCommand(Set<String> keywords) {
+        this(keywords, OPTION_FIND_CONTAINING);
+    }
+
+    public FindCommand(Set<String> keywords, String option) {
         this.keywords = keywords;
+        this.option = option;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredTaskList(keywords);
+        switch (option) {
+
+        case OPTION_FIND_BY_PREFIX:
+            model.updateFilteredTaskListByPrefix(keywords);
+            break;
+
+        case OPTION_FIND_SIMILAR:
+            model.updateFilteredTaskListBySimilarity(keywords);
+            break;
+
+        default:
+            model.updateFilteredTaskList(keywords);
+        }
         return new CommandResult(getMessageForTaskListShownSummary(model.getFilteredTaskList().size()));
     }
 
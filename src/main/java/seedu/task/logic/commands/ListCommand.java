@@ -1,8 +1,16 @@
 package seedu.task.logic.commands;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+
+import seedu.task.commons.core.Messages;
 import seedu.task.commons.util.DateUtil;
+import seedu.task.model.task.ReadOnlyTask;
 import seedu.task.model.task.Status;
 
 //@@author A0138704E
@@ -16,29 +24,74 @@ public class ListCommand extends Command {
     public static final String OPTION_LIST_ALL = "/a";
     public static final String OPTION_LIST_COMPLETE = "/c";
     public static final String OPTION_LIST_PENDING = "/p";
+    public static final String OPTION_LIST_NEXT_DUE = "/n";
+    public static final String OPTION_LIST_OVERLAPPING = "/o";
+    public static final int DEFAULT_NEXT_DUE_COUNT = 5;
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Lists tasks from the task book.\n"
             + "Parameters: [OPTION]\n"
             + "Example: " + COMMAND_WORD + " or " 
                         + COMMAND_WORD + " " + OPTION_LIST_ALL + " or "
                         + COMMAND_WORD + " " + OPTION_LIST_COMPLETE + " or "
-                        + COMMAND_WORD + " " + OPTION_LIST_PENDING;
+                        + COMMAND_WORD + " " + OPTION_LIST_PENDING + " or "
+                        + COMMAND_WORD + " " + OPTION_LIST_NEXT_DUE + " 3 or "
+                        + COMMAND_WORD + " " + OPTION_LIST_OVERLAPPING + " 2 or "
+                        + COMMAND_WORD + " 8 nov to 12 nov";
 
     public static final String MESSAGE_LIST_TODAY_SUCCESS = "Listed tasks due today";
     public static final String MESSAGE_LIST_ALL_SUCCESS = "Listed all tasks";
     public static final String MESSAGE_LIST_COMPLETE_SUCCESS = "Listed completed tasks";
     public static final String MESSAGE_LIST_PENDING_SUCCESS = "Listed pending tasks";
     public static final String MESSAGE_LIST_DATE_SUCCESS = "Listed tasks on %1$s";
+    public static final String MESSAGE_LIST_DATE_RANGE_SUCCESS = "Listed tasks from %1$s to %2$s";
+    public static final String MESSAGE_LIST_NEXT_DUE_SUCCESS = "Listed the next %1$d tasks due";
+    public static final String MESSAGE_LIST_OVERLAPPING_SUCCESS = "Listed tasks during %1$s";
+    public static final String MESSAGE_NOT_AN_EVENT = "The task at this index is not an event";
 
     private String option;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int count;
+    private int targetIndex;
 
     public ListCommand(String option) {
         this.option = option;
     }
 
+    /**
+     * Lists the events and deadlines from {@code from} to {@code to} inclusive.
+     */
+    public ListCommand(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Lists the given number of pending tasks due next.
+     */
+    public ListCommand(int count) {
+        this.option = OPTION_LIST_NEXT_DUE;
+        this.count = count;
+    }
+
+    /**
+     * Lists the other events and deadlines during the event at the given index of the last shown list.
+     */
+    public ListCommand(String option, int targetIndex) {
+        assert option.equals(OPTION_LIST_OVERLAPPING);
+        this.option = option;
+        this.targetIndex = targetIndex;
+    }
+
     @Override
     public CommandResult execute() {
         assert model != null;
+
+        if (from != null) {
+            model.updateFilteredListByDateRange(from, to);
+            return new CommandResult(String.format(MESSAGE_LIST_DATE_RANGE_SUCCESS,
+                    DateUtil.formatLocalDateTimeToString(from), DateUtil.formatLocalDateTimeToString(to)));
+        }
         
         switch (option) {
         
@@ -57,6 +110,15 @@ public class ListCommand extends Command {
         case OPTION_LIST_PENDING:
             model.updateFilteredListByStatus(Status.STATUS_PENDING);
             return new CommandResult(MESSAGE_LIST_PENDING_SUCCESS);
+
+        case OPTION_LIST_NEXT_DUE:
+            model.updateFilteredListToShowNextDue(count);
+            // fewer tasks than asked for may be due
+            return new CommandResult(String.format(MESSAGE_LIST_NEXT_DUE_SUCCESS,
+                    model.getFilteredTaskList().size()));
+
+        case OPTION_LIST_OVERLAPPING:
+            return listOverlapping();
             
         default:
             LocalDate specifiedDate = DateUtil.parseStringToLocalDate(option);
@@ -65,4 +127,20 @@ public class ListCommand extends Command {
                     DateUtil.formatLocalDateToString(specifiedDate)));
         }   
     }
+
+    private CommandResult listOverlapping() {
+        Optional<List<ReadOnlyTask>> targetTasks = getTasksFromLastShownList(
+                ImmutableRangeSet.of(Range.singleton(targetIndex)));
+        if (!targetTasks.isPresent()) {
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        }
+        ReadOnlyTask event = targetTasks.get().get(0);
+        if (event.getStart() == null || event.getEnd() == null) {
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(MESSAGE_NOT_AN_EVENT);
+        }
+        model.updateFilteredListByOverlap(event);
+        return new CommandResult(String.format(MESSAGE_LIST_OVERLAPPING_SUCCESS, event.getName()));
+    }
 }
@@ -0,0 +1,32 @@
+package seedu.task.logic.commands;
+
+import java.util.EmptyStackException;
+import seedu.task.model.task.Status;
+
+/*
+ * Command to redo the most recently undone task
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redo the most recently undone task.";
+
+    public static final String MESSAGE_REDO_TASK_SUCCESS = "Redo successful, reapplied action: %s";
+    public static final String MESSAGE_REDO_STACK_END = "Nothing to redo.";
+
+    public RedoCommand() {
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            model.redo();
+            model.updateFilteredListByStatus(Status.STATUS_PENDING);
+        } catch (EmptyStackException e) {
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(MESSAGE_REDO_STACK_END);
+        }
+        return new CommandResult(String.format(MESSAGE_REDO_TASK_SUCCESS, model.getUndoInformation()));
+    }
+
+}
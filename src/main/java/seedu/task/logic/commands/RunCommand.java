@@ -0,0 +1,126 @@
+package seedu.task.logic.commands;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Runs the commands in a script file, one per line, as a single change to the task book.
+ * Lines are parsed on worker threads while the commands parsed so far are executed in order.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line.\n"
+            + "Empty lines and lines starting with " + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " C:\\Users\\Jim\\Desktop\\tasks.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_PROGRESS = "Running %1$s: %2$d of %3$d commands done";
+    public static final String MESSAGE_FAILED_LINES = "\n%1$d of them failed:";
+    public static final String MESSAGE_FAILED_LINE = "\nLine %1$d \"%2$s\": %3$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Script file not found: %1$s";
+    public static final String MESSAGE_READ_FAIL = "Unable to read script file: %1$s";
+    public static final String MESSAGE_PARSE_FAIL = "Could not be parsed: %1$s";
+    public static final String MESSAGE_EXECUTE_FAIL = "Could not be executed: %1$s";
+    public static final String MESSAGE_NOT_ALLOWED_IN_SCRIPT = "This command cannot be used in a script";
+
+    /** How many commands are run between reports of progress */
+    public static final int PROGRESS_INTERVAL = 100;
+
+    private static final ExecutorService parserThreads = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder().setNameFormat("Script parser %d").setDaemon(true).build());
+
+    private final String filePath;
+    private final List<String> lines;
+    private final Function<String, Command> parser;
+
+    /**
+     * @param lines the lines of the script
+     * @param parser parses one line into a command; it is called from several threads at once
+     */
+    public RunCommand(String filePath, List<String> lines, Function<String, Command> parser) {
+        this.filePath = filePath;
+        this.lines = lines;
+        this.parser = parser;
+    }
+
+    @Override
+    public CommandResult execute() {
+        assert model != null;
+
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<Future<Command>> parsedLines = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            lineNumbers.add(i + 1);
+            parsedLines.add(parserThreads.submit(() -> parser.apply(line)));
+        }
+
+        List<String> failedLines = new ArrayList<>();
+        model.runAsOneChange(() -> {
+            for (int i = 0; i < parsedLines.size(); i++) {
+                if (i > 0 && i % PROGRESS_INTERVAL == 0) {
+                    indicateProgress(String.format(MESSAGE_PROGRESS, filePath, i, parsedLines.size()));
+                }
+                int lineNumber = lineNumbers.get(i);
+                String failure = executeLine(parsedLines.get(i));
+                if (failure != null) {
+                    failedLines.add(String.format(MESSAGE_FAILED_LINE, lineNumber,
+                            lines.get(lineNumber - 1).trim(), failure));
+                }
+            }
+        });
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, parsedLines.size(), filePath));
+        if (!failedLines.isEmpty()) {
+            feedback.append(String.format(MESSAGE_FAILED_LINES, failedLines.size()));
+            failedLines.forEach(feedback::append);
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Executes the command parsed from a line, and returns why it failed, or null if it did not.
+     */
+    private String executeLine(Future<Command> parsedLine) {
+        Command command;
+        try {
+            command = Futures.getUnchecked(parsedLine);
+        } catch (UncheckedExecutionException e) {
+            return String.format(MESSAGE_PARSE_FAIL, e.getCause());
+        }
+        if (!isAllowedInScript(command)) {
+            return MESSAGE_NOT_ALLOWED_IN_SCRIPT;
+        }
+        command.setData(model);
+        CommandResult result;
+        try {
+            result = command.execute();
+        } catch (RuntimeException e) {
+            return String.format(MESSAGE_EXECUTE_FAIL, e);
+        }
+        return command.isFailed() ? result.feedbackToUser : null;
+    }
+
+    /**
+     * Returns false for commands that would run another script or stop the app part way through this one.
+     */
+    private static boolean isAllowedInScript(Command command) {
+        return !(command instanceof RunCommand) && !(command instanceof ExitCommand);
+    }
+}
@@ -33,6 +33,7 @@ public class StoreCommand extends Command{
 		} catch (DirectoryChooserOperationCancelledException e) {
 			return new CommandResult(MESSAGE_CANCEL_STORE_OPERATION);
 		} catch (IOException e) {
+			indicateAttemptToExecuteIncorrectCommand();
 			return new CommandResult(MESSAGE_SAVE_CONFIG_FAIL);
 		}
 		return new CommandResult(String.format(MESSAGE_SUCCESS, newSaveLocation));
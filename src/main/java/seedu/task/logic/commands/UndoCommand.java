@@ -24,6 +24,7 @@ public class UndoCommand extends Command {
             model.undo();
             model.updateFilteredListByStatus(Status.STATUS_PENDING);
         } catch (EmptyStackException e) {
+            indicateAttemptToExecuteIncorrectCommand();
             return new CommandResult(MESSAGE_UNDO_STACK_END);
         }
         return new CommandResult(String.format(MESSAGE_UNDO_TASK_SUCCESS, model.getUndoInformation()));
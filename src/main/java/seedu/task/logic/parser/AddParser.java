@@ -4,15 +4,10 @@ package seedu.task.logic.parser;
 import static seedu.task.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.joestelmach.natty.DateGroup;
-
 import seedu.task.commons.exceptions.IllegalValueException;
 import seedu.task.logic.commands.AddCommand;
 import seedu.task.logic.commands.Command;
@@ -22,8 +17,7 @@ import seedu.task.logic.commands.IncorrectCommand;
  * Parser class used to parse a add command
  */
 public class AddParser extends Parser {
-    private final Pattern NAME_FORMAT = Pattern.compile("^\\s*(\"(?<name>.*)\")\\s*.*");
-    private final com.joestelmach.natty.Parser parser = new com.joestelmach.natty.Parser();
+    private static final Pattern NAME_FORMAT = Pattern.compile("^\\s*(\"(?<name>.*)\")\\s*.*");
     
     @Override
     public Command parseCommand(String args) {
@@ -32,7 +26,7 @@ public class AddParser extends Parser {
         
         try {
             String name = getName(args);
-            String dateString = removeFromString(args, name);
+            String dateString = removeFromString(args, "\"" + name + "\"");
             List<LocalDateTime> dates = getDates(dateString);
             
             if (isEventCommand(dates)) {
@@ -77,13 +71,7 @@ public class AddParser extends Parser {
      * Retrieves task dates from string args
      */
     private List<LocalDateTime> getDates(String args) {
-        List<DateGroup> dateGroups = parser.parse(args);
-        if (dateGroups.size() == 0) {
-            return new ArrayList<LocalDateTime>();
-        }
-        
-        DateGroup group = dateGroups.get(0);
-        return extractLocalDates(group);
+        return DateParser.getInstance().parse(args);
     }
     
     private String removeFromString(String original, String toRemove) {
@@ -95,21 +83,6 @@ public class AddParser extends Parser {
     }
     
     
-    /**
-     * Extracts the local dates from a given dateGroup
-     */
-    private List<LocalDateTime> extractLocalDates(DateGroup dateGroup) {
-        List<Date> dates = dateGroup.getDates();
-        
-        List<LocalDateTime> localDates = new ArrayList<>();
-        for (Date date : dates) {
-            LocalDateTime local = LocalDateTime
-                    .ofInstant(date.toInstant(), ZoneId.systemDefault());
-            localDates.add(local);
-        }
-        return localDates;
-    }
-    
     private boolean isDeadlineCommand(List<LocalDateTime> dates) throws NullPointerException {
         return dates.size() == 1;
     }
@@ -4,6 +4,8 @@ import static seedu.task.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Optional;
 
+import com.google.common.collect.RangeSet;
+
 import seedu.task.logic.commands.Command;
 import seedu.task.logic.commands.CompleteCommand;
 import seedu.task.logic.commands.IncorrectCommand;
@@ -22,13 +24,13 @@ public class CompleteParser extends Parser {
      */
     @Override
     public Command parseCommand(String arguments) {
-        Optional<Integer> index = parseIndex(arguments);
-        if(!index.isPresent()){
+        Optional<RangeSet<Integer>> indexes = parseIndexes(arguments);
+        if(!indexes.isPresent()){
             return new IncorrectCommand(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, CompleteCommand.MESSAGE_USAGE));
         }
 
-        return new CompleteCommand(index.get());
+        return new CompleteCommand(indexes.get());
     }
 
 }
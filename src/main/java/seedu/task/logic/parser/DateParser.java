@@ -0,0 +1,143 @@
+package seedu.task.logic.parser;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.joestelmach.natty.DateGroup;
+import com.joestelmach.natty.ParseLocation;
+
+/**
+ * Reads dates written in natural language, such as "tomorrow 5pm", with the Natty parser.
+ * A single instance is shared by all the command parsers and may be used from any thread.
+ *
+ * The most common shapes, such as "25 dec 2026 10:00" or "tomorrow 5pm", are read by
+ * {@link SimpleDateRecognizer} without running Natty.
+ *
+ * Other recently read phrases are kept in a least recently used cache for the rest of the day, so that
+ * repeating one does not run Natty again. Phrases whose dates depend on the time of day they are
+ * read, such as "in 3 hours" or "tomorrow", where Natty takes the time from the current time, are not cached.
+ */
+public class DateParser {
+
+    public static final int CACHE_SIZE = 1024;
+
+    private static final String WARM_UP_PHRASE = "tomorrow 5pm";
+    private static final String EXPLICIT_TIME_RULE = "explicit_time";
+    private static final String RELATIVE_TIME_RULE = "relative_time";
+
+    private static final DateParser instance = new DateParser();
+
+    /** Natty builds a new grammar for each phrase and keeps no other state, so one instance can be shared */
+    private final com.joestelmach.natty.Parser parser = new com.joestelmach.natty.Parser();
+    private final Cache<String, List<LocalDateTime>> cache = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+    private final AtomicBoolean isWarmUpStarted = new AtomicBoolean(false);
+
+    private DateParser() {}
+
+    public static DateParser getInstance() {
+        return instance;
+    }
+
+    /**
+     * Loads Natty's grammar on a background thread, so the first command with a date does not wait for it.
+     * Does nothing after the first call.
+     */
+    public void warmUp() {
+        if (isWarmUpStarted.getAndSet(true)) {
+            return;
+        }
+        Thread warmUpThread = new Thread(() -> parser.parse(WARM_UP_PHRASE), "Date parser warm-up");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    /**
+     * Returns the dates in the first group of dates found in the given text, in order,
+     * or an empty list if there are none. The list cannot be modified.
+     */
+    public List<LocalDateTime> parse(String text) {
+        String phrase = normalize(text);
+        LocalDate today = LocalDate.now();
+        List<LocalDateTime> dates = SimpleDateRecognizer.recognize(phrase, today);
+        if (dates != null) {
+            return dates;
+        }
+
+        String key = today + " " + phrase;
+        dates = cache.getIfPresent(key);
+        if (dates != null) {
+            return dates;
+        }
+
+        List<DateGroup> dateGroups = parser.parse(phrase);
+        if (dateGroups.isEmpty()) {
+            dates = Collections.emptyList();
+        } else {
+            DateGroup group = dateGroups.get(0);
+            dates = Collections.unmodifiableList(extractLocalDates(group));
+            if (!isTimeOfDayIndependent(group)) {
+                return dates;
+            }
+        }
+        cache.put(key, dates);
+        return dates;
+    }
+
+    /**
+     * Returns the phrase in lower case with runs of whitespace made single spaces, which Natty reads the same way.
+     */
+    private static String normalize(String text) {
+        StringBuilder phrase = new StringBuilder(text.length());
+        boolean isAfterSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isAfterSpace = phrase.length() > 0;
+            } else {
+                if (isAfterSpace) {
+                    phrase.append(' ');
+                    isAfterSpace = false;
+                }
+                phrase.append(Character.toLowerCase(c));
+            }
+        }
+        return phrase.toString();
+    }
+
+    /**
+     * Returns true if every date in the group has a time of its own and none is counted from the current time.
+     * Natty fills in the current time of day for dates without one.
+     */
+    private static boolean isTimeOfDayIndependent(DateGroup group) {
+        Map<String, List<ParseLocation>> locations = group.getParseLocations();
+        List<ParseLocation> explicitTimes = locations.get(EXPLICIT_TIME_RULE);
+        return !locations.containsKey(RELATIVE_TIME_RULE)
+                && explicitTimes != null && explicitTimes.size() >= group.getDates().size();
+    }
+
+    /**
+     * Extracts the local dates as a list of LocalDateTime from a given DateGroup object
+     */
+    private static List<LocalDateTime> extractLocalDates(DateGroup dateGroup) {
+        List<Date> dates = dateGroup.getDates();
+
+        List<LocalDateTime> localDates = new ArrayList<>();
+        for (Date date : dates) {
+            LocalDateTime local = LocalDateTime
+                    .ofInstant(date.toInstant(), ZoneId.systemDefault());
+            localDates.add(local);
+        }
+        return localDates;
+    }
+}
@@ -3,6 +3,8 @@ import static seedu.task.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Optional;
 
+import com.google.common.collect.RangeSet;
+
 import seedu.task.logic.commands.Command;
 import seedu.task.logic.commands.DeleteCommand;
 import seedu.task.logic.commands.IncorrectCommand;
@@ -21,12 +23,12 @@ public class DeleteParser extends Parser {
 	@Override
 	public Command parseCommand(String args) {
 
-        Optional<Integer> index = parseIndex(args);
-        if(!index.isPresent()){
+        Optional<RangeSet<Integer>> indexes = parseIndexes(args);
+        if(!indexes.isPresent()){
             return new IncorrectCommand(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
         }
 
-        return new DeleteCommand(index.get());
+        return new DeleteCommand(indexes.get());
     }
 }
@@ -4,16 +4,11 @@ package seedu.task.logic.parser;
 import static seedu.task.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.joestelmach.natty.DateGroup;
-
 import seedu.task.commons.exceptions.IllegalValueException;
 import seedu.task.logic.commands.Command;
 import seedu.task.logic.commands.EditCommand;
@@ -25,9 +20,8 @@ import seedu.task.model.task.TaskDate;
  * Parser class used to parse an edit command
  */
 public class EditParser extends Parser {
-    private final Pattern NAME_FORMAT = Pattern.compile("^\\s*(\"(?<name>.*)\")\\s*.*");
-    private final Pattern INDEX_FORMAT = Pattern.compile("^\\s*(?<index>\\d+).*");
-    private final com.joestelmach.natty.Parser parser = new com.joestelmach.natty.Parser();
+    private static final Pattern NAME_FORMAT = Pattern.compile("^\\s*(\"(?<name>.*)\")\\s*.*");
+    private static final Pattern INDEX_FORMAT = Pattern.compile("^\\s*(?<index>\\d+).*");
    
     /**
      * Parses arguments in the context of the edit task command.
@@ -43,7 +37,9 @@ public class EditParser extends Parser {
             int index = getIndex(args);
             args = removeFromString(args, index);
             String name = getName(args);
-            args = removeFromString(args, name);
+            if (name != null) {
+                args = removeFromString(args, "\"" + name + "\"");
+            }
             List<LocalDateTime> dates = getDates(args);
             
             if (isEventCommand(dates)) {
@@ -76,28 +72,7 @@ public class EditParser extends Parser {
      * Retrieves task dates from string using the Natty parser
      */
     private List<LocalDateTime> getDates(String args) {
-        List<DateGroup> dateGroups = parser.parse(args);
-        if (dateGroups.size() == 0) {
-            return new ArrayList<LocalDateTime>();
-        }
-        
-        DateGroup group = dateGroups.get(0);
-        return extractLocalDates(group);
-    }
-    
-    /**
-     * Extracts the local dates as a list of LocalDateTime from a given DateGroup object
-     */
-    private List<LocalDateTime> extractLocalDates(DateGroup dateGroup) {
-        List<Date> dates = dateGroup.getDates();
-        
-        List<LocalDateTime> localDates = new ArrayList<>();
-        for (Date date : dates) {
-            LocalDateTime local = LocalDateTime
-                    .ofInstant(date.toInstant(), ZoneId.systemDefault());
-            localDates.add(local);
-        }
-        return localDates;
+        return DateParser.getInstance().parse(args);
     }
     
     /**
@@ -33,9 +33,22 @@ public class FindParser extends Parser {
                     FindCommand.MESSAGE_USAGE));
         }
         
-        // keywords delimited by whitespace
+        // keywords delimited by whitespace, optionally after a search option
         final String[] keywords = matcher.group("keywords").split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        final String option = keywords[0];
+        if (!isSearchOption(option)) {
+            return new FindCommand(new HashSet<>(Arrays.asList(keywords)));
+        }
+        if (keywords.length == 1) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindCommand.MESSAGE_USAGE));
+        }
+        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords).subList(1, keywords.length));
+        return new FindCommand(keywordSet, option);
+    }
+
+    private boolean isSearchOption(String argument) {
+        return argument.equals(FindCommand.OPTION_FIND_BY_PREFIX)
+                || argument.equals(FindCommand.OPTION_FIND_SIMILAR);
     }
 }
@@ -7,13 +7,9 @@ import static seedu.task.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.Date;
+import java.time.LocalTime;
 import java.util.List;
 
-import com.joestelmach.natty.DateGroup;
-
 import seedu.task.commons.util.DateUtil;
 import seedu.task.logic.commands.Command;
 import seedu.task.logic.commands.IncorrectCommand;
@@ -24,69 +20,75 @@ import seedu.task.logic.commands.ListCommand;
  */
 public class ListParser extends Parser {
     
-    private final com.joestelmach.natty.Parser parser = new com.joestelmach.natty.Parser();
-    private LocalDate date = null;
-    
     @Override
     public Command parseCommand(String arguments) {
         arguments = arguments.trim();
-        if (!isValidArgs(arguments)) {
-            return new IncorrectCommand(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        if (arguments.startsWith(ListCommand.OPTION_LIST_NEXT_DUE)) {
+            return parseNextDue(arguments);
         }
-        if (date != null) {
-            return new ListCommand(DateUtil.formatLocalDateToString(date));
+        if (arguments.startsWith(ListCommand.OPTION_LIST_OVERLAPPING)) {
+            return parseOverlapping(arguments);
         }
-        return new ListCommand(arguments);
+        if (arguments.isEmpty() 
+                || arguments.equals(ListCommand.OPTION_LIST_ALL)
+                || arguments.equals(ListCommand.OPTION_LIST_COMPLETE)
+                || arguments.equals(ListCommand.OPTION_LIST_PENDING)) {
+            return new ListCommand(arguments);
+        }
+        return parseDates(arguments);
     }
 
     /**
-     * Returns true if arguments for clear command are valid
+     * Parses the next due option, which is followed by nothing or a positive count.
      */
-    private boolean isValidArgs(String arguments) {
-        return arguments.isEmpty() 
-                || arguments.equals(ListCommand.OPTION_LIST_ALL)
-                || arguments.equals(ListCommand.OPTION_LIST_COMPLETE)
-                || arguments.equals(ListCommand.OPTION_LIST_PENDING)
-                || isLocalDateTime(arguments);
+    private Command parseNextDue(String arguments) {
+        String count = arguments.substring(ListCommand.OPTION_LIST_NEXT_DUE.length()).trim();
+        if (count.isEmpty()) {
+            return new ListCommand(ListCommand.DEFAULT_NEXT_DUE_COUNT);
+        }
+        if (!count.matches("[1-9]\\d{0,8}")) {
+            return createIncorrectCommand();
+        }
+        return new ListCommand(Integer.parseInt(count));
+    }
+
+    /**
+     * Parses the overlapping option, which is followed by the index of an event.
+     */
+    private Command parseOverlapping(String arguments) {
+        String index = arguments.substring(ListCommand.OPTION_LIST_OVERLAPPING.length()).trim();
+        if (!index.matches("[1-9]\\d{0,8}")) {
+            return createIncorrectCommand();
+        }
+        return new ListCommand(ListCommand.OPTION_LIST_OVERLAPPING, Integer.parseInt(index));
     }
 
-    private boolean isLocalDateTime(String arguments) {
+    /**
+     * Parses a date, or a range of two dates covering the whole of both days.
+     */
+    private Command parseDates(String arguments) {
         List<LocalDateTime> dates = getDates(arguments);
         if (dates.size() == 1) {
-            date = dates.get(0).toLocalDate();
-            return true;
+            LocalDate date = dates.get(0).toLocalDate();
+            return new ListCommand(DateUtil.formatLocalDateToString(date));
+        } else if (dates.size() == 2 && !dates.get(1).toLocalDate().isBefore(dates.get(0).toLocalDate())) {
+            LocalDateTime rangeStart = dates.get(0).toLocalDate().atStartOfDay();
+            LocalDateTime rangeEnd = dates.get(1).toLocalDate().atTime(LocalTime.MAX);
+            return new ListCommand(rangeStart, rangeEnd);
         } else {
-            return false;
+            return createIncorrectCommand();
         }
     }
+
+    private Command createIncorrectCommand() {
+        return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
     
     /**
      * Retrieves task dates from string using the Natty parser
      */
     private List<LocalDateTime> getDates(String args) {
-        List<DateGroup> dateGroups = parser.parse(args);
-        if (dateGroups.size() == 0) {
-            return new ArrayList<LocalDateTime>();
-        }
-        
-        DateGroup group = dateGroups.get(0);
-        return extractLocalDates(group);
-    }
-    
-    /**
-     * Extracts the local dates as a list of LocalDateTime from a given DateGroup object
-     */
-    private List<LocalDateTime> extractLocalDates(DateGroup dateGroup) {
-        List<Date> dates = dateGroup.getDates();
-        
-        List<LocalDateTime> localDates = new ArrayList<>();
-        for (Date date : dates) {
-            LocalDateTime local = LocalDateTime
-                    .ofInstant(date.toInstant(), ZoneId.systemDefault());
-            localDates.add(local);
-        }
-        return localDates;
+        return DateParser.getInstance().parse(args);
     }
 
 }
@@ -5,6 +5,12 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+
 import seedu.task.commons.util.StringUtil;
 import seedu.task.logic.commands.Command;
 
@@ -40,12 +46,35 @@ public abstract class Parser {
         }
         return Optional.of(Integer.parseInt(index));
     }
+
+    /**
+     * Returns the indexes specified in the {@code command} IF it is a comma separated list of
+     * positive unsigned integers and ranges of them, such as {@code 1-5,8}.
+     *   Returns an {@code Optional.empty()} otherwise.
+     */
+    public static Optional<RangeSet<Integer>> parseIndexes(String command) {
+        RangeSet<Integer> indexes = TreeRangeSet.create();
+        for (String item : command.split(",", -1)) {
+            String[] bounds = item.split("-", -1);
+            if (bounds.length > 2) {
+                return Optional.empty();
+            }
+            Optional<Integer> first = parseIndex(bounds[0]);
+            Optional<Integer> last = bounds.length == 1 ? first : parseIndex(bounds[1]);
+            if (!first.isPresent() || !last.isPresent() || first.get() > last.get()) {
+                return Optional.empty();
+            }
+            indexes.add(Range.closed(first.get(), last.get()).canonical(DiscreteDomain.integers()));
+        }
+        return Optional.of(ImmutableRangeSet.copyOf(indexes));
+    }
     
     /**
-     * Returns an implementation of this abstract class
+     * Returns an implementation of this abstract class, with a parser registered for every command.
+     * The same instance is returned each time.
      */
     public static ParserManager initialise() {
-        return new ParserManager();
+        return ParserManager.getInstance();
     }
 }
 
@@ -6,20 +6,63 @@ import seedu.task.logic.commands.*;
 import static seedu.task.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.task.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
- * Parses user input.
+ * Parses user input by passing its arguments to the parser registered for its command word.
+ * Every parser is stateless and created once, so the single instance returned by
+ * {@link Parser#initialise()} is shared by all callers and may be used from any thread.
  */
 public class ParserManager extends Parser {
 
+    private static final ParserManager instance = new ParserManager();
+
+    /** Only read after the constructor returns */
+    private final Map<String, Parser> parsers = new HashMap<>();
+
+    private ParserManager() {
+        register(AddCommand.COMMAND_WORD, new AddParser());
+        register(SelectCommand.COMMAND_WORD, new SelectParser());
+        register(DeleteCommand.COMMAND_WORD, new DeleteParser());
+        register(CompleteCommand.COMMAND_WORD, new CompleteParser());
+        register(EditCommand.COMMAND_WORD, new EditParser());
+        register(ClearCommand.COMMAND_WORD, new ClearParser());
+        register(FindCommand.COMMAND_WORD, new FindParser());
+        register(ListCommand.COMMAND_WORD, new ListParser());
+        register(StoreCommand.COMMAND_WORD, new StoreParser());
+        register(SortCommand.COMMAND_WORD, new SortParser());
+        register(RunCommand.COMMAND_WORD, new RunParser());
+        register(ExitCommand.COMMAND_WORD, ExitCommand::new);
+        register(HelpCommand.COMMAND_WORD, HelpCommand::new);
+        register(UndoCommand.COMMAND_WORD, UndoCommand::new);
+        register(RedoCommand.COMMAND_WORD, RedoCommand::new);
+    }
+
+    static ParserManager getInstance() {
+        return instance;
+    }
+
     /**
-     * Used for initial separation of command word and args.
+     * Makes the given parser parse the arguments of commands starting with the given command word.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private void register(String commandWord, Parser parser) {
+        assert !parsers.containsKey(commandWord) : "Command word registered twice: " + commandWord;
+        parsers.put(commandWord, parser);
+    }
 
-    public ParserManager() {}
+    /**
+     * Registers a command that takes no arguments; any arguments given are ignored.
+     */
+    private void register(String commandWord, Supplier<Command> command) {
+        register(commandWord, new Parser() {
+            @Override
+            public Command parseCommand(String arguments) {
+                return command.get();
+            }
+        });
+    }
 
     /**
      * Parses user input into command for execution.
@@ -27,58 +70,22 @@ public class ParserManager extends Parser {
      * @param userInput full user input string
      * @return the command based on the user input
      */
+    @Override
     public Command parseCommand(String userInput) {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String input = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < input.length() && !Character.isWhitespace(input.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddParser().parseCommand(arguments);
-
-        case SelectCommand.COMMAND_WORD:
-            return new SelectParser().parseCommand(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteParser().parseCommand(arguments);
-            
-        case CompleteCommand.COMMAND_WORD:
-            return new CompleteParser().parseCommand(arguments);
-            
-        case EditCommand.COMMAND_WORD:
-            return new EditParser().parseCommand(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearParser().parseCommand(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindParser().parseCommand(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListParser().parseCommand(arguments);
-
-        case StoreCommand.COMMAND_WORD:
-        	return new StoreParser().parseCommand(arguments);
-        	
-        case SortCommand.COMMAND_WORD:
-            return new SortParser().parseCommand(arguments);
-            
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-            
-        case UndoCommand.COMMAND_WORD:
-        	return new UndoCommand();
-        	
-        default:
+        final Parser parser = parsers.get(input.substring(0, commandWordEnd));
+        if (parser == null) {
             return new IncorrectCommand(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parseCommand(input.substring(commandWordEnd));
     }
 
-}
\ No newline at end of file
+}
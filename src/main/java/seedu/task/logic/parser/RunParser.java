@@ -0,0 +1,41 @@
+package seedu.task.logic.parser;
+
+import static seedu.task.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import seedu.task.commons.util.FileUtil;
+import seedu.task.logic.commands.Command;
+import seedu.task.logic.commands.IncorrectCommand;
+import seedu.task.logic.commands.RunCommand;
+
+/**
+ * Parser class used to parse a run command. The script is read here, before the model is locked.
+ */
+public class RunParser extends Parser {
+
+    @Override
+    public Command parseCommand(String arguments) {
+        String filePath = arguments.trim();
+        if (filePath.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        File file = new File(filePath);
+        if (!FileUtil.isFileExists(file)) {
+            return new IncorrectCommand(String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return new IncorrectCommand(String.format(RunCommand.MESSAGE_READ_FAIL, filePath));
+        }
+        return new RunCommand(filePath, lines, Parser.initialise()::parseCommand);
+    }
+
+}
@@ -0,0 +1,252 @@
+package seedu.task.logic.parser;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the few date shapes that most commands use, without running Natty:
+ * <ul>
+ * <li>{@code 25 dec 2026 10:00}, as written by {@code DateUtil.localDateTimeFormatter}</li>
+ * <li>{@code 2026-12-25 10:00} and {@code 2026-12-25t10:00}</li>
+ * <li>{@code today} or {@code tomorrow}, optionally followed by {@code at}, and a time such as {@code 17:00} or
+ *     {@code 5:30pm}</li>
+ * </ul>
+ * A second date may follow after {@code to}, or just a time on the same day as the first.
+ * The dates found are the same as Natty would find. Any other text, including a date without a time,
+ * for which Natty takes the time from the current time, is left to Natty.
+ *
+ * Phrases must be normalized as by {@link DateParser}: lower case, with single spaces between words.
+ */
+class SimpleDateRecognizer {
+
+    private static final String[] MONTHS = {
+        "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"
+    };
+    private static final String TODAY = "today";
+    private static final String TOMORROW = "tomorrow";
+    private static final String AT = "at";
+    private static final String TO = "to";
+    private static final String AM = "am";
+    private static final String PM = "pm";
+
+    /** Returned by the read methods when the text at the position is not what they read */
+    private static final int NOT_FOUND = -1;
+
+    private final String phrase;
+    private final LocalDate today;
+    private int position = 0;
+
+    private SimpleDateRecognizer(String phrase, LocalDate today) {
+        this.phrase = phrase;
+        this.today = today;
+    }
+
+    /**
+     * Returns the dates in the given normalized phrase, which cannot be modified,
+     * or null if the phrase is not one of the shapes read here.
+     */
+    static List<LocalDateTime> recognize(String phrase, LocalDate today) {
+        if (phrase.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SimpleDateRecognizer recognizer = new SimpleDateRecognizer(phrase, today);
+        LocalDateTime start = recognizer.readDateTime();
+        if (start == null) {
+            return null;
+        }
+        if (recognizer.isAtEnd()) {
+            return Collections.singletonList(start);
+        }
+        if (!recognizer.skipChar(' ') || !recognizer.skipWord(TO)) {
+            return null;
+        }
+        LocalDateTime end = recognizer.readDateTimeOrTime(start.toLocalDate());
+        if (end == null || !recognizer.isAtEnd()) {
+            return null;
+        }
+        return Collections.unmodifiableList(Arrays.asList(start, end));
+    }
+
+    /**
+     * Reads a date and a time, or a time alone on the given date.
+     */
+    private LocalDateTime readDateTimeOrTime(LocalDate date) {
+        int start = position;
+        LocalDateTime dateTime = readDateTime();
+        if (dateTime != null) {
+            return dateTime;
+        }
+        position = start;
+        LocalTime time = readTime();
+        return time == null ? null : date.atTime(time);
+    }
+
+    private LocalDateTime readDateTime() {
+        LocalDate date = readIsoDate();
+        if (date != null && skipChar('t')) {
+            LocalTime time = readTime();
+            return time == null ? null : date.atTime(time);
+        }
+        if (date == null) {
+            date = readNamedDay();
+        }
+        if (date == null) {
+            date = readDayMonthYear();
+        }
+        if (date == null || !skipChar(' ')) {
+            return null;
+        }
+        skipWord(AT);
+        LocalTime time = readTime();
+        return time == null ? null : date.atTime(time);
+    }
+
+    private LocalDate readNamedDay() {
+        if (skipWordEnd(TODAY)) {
+            return today;
+        }
+        if (skipWordEnd(TOMORROW)) {
+            return today.plusDays(1);
+        }
+        return null;
+    }
+
+    /**
+     * Reads a date such as {@code 2026-12-25}, with two digits for the month and the day.
+     */
+    private LocalDate readIsoDate() {
+        int start = position;
+        int year = readDigits(4, 4);
+        int month = year != NOT_FOUND && skipChar('-') ? readDigits(2, 2) : NOT_FOUND;
+        int day = month != NOT_FOUND && skipChar('-') ? readDigits(2, 2) : NOT_FOUND;
+        LocalDate date = day == NOT_FOUND ? null : toDate(year, month, day);
+        if (date == null) {
+            position = start;
+        }
+        return date;
+    }
+
+    /**
+     * Reads a date such as {@code 25 dec 2026}, with the month's three letter abbreviation.
+     */
+    private LocalDate readDayMonthYear() {
+        int start = position;
+        int day = readDigits(1, 2);
+        int month = day != NOT_FOUND && skipChar(' ') ? readMonth() : NOT_FOUND;
+        int year = month != NOT_FOUND && skipChar(' ') ? readDigits(4, 4) : NOT_FOUND;
+        LocalDate date = year == NOT_FOUND ? null : toDate(year, month, day);
+        if (date == null) {
+            position = start;
+        }
+        return date;
+    }
+
+    private int readMonth() {
+        for (int i = 0; i < MONTHS.length; i++) {
+            if (skipWordEnd(MONTHS[i])) {
+                return i + 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Reads a time such as {@code 17:00}, {@code 5pm} or {@code 5:30pm}.
+     * Hours run from 0 to 23, or from 1 to 12 before am or pm.
+     */
+    private LocalTime readTime() {
+        int start = position;
+        int hour = readDigits(1, 2);
+        boolean hasMinutes = hour != NOT_FOUND && skipChar(':');
+        int minute = hasMinutes ? readDigits(2, 2) : 0;
+        if (hour == NOT_FOUND || minute == NOT_FOUND || minute > 59) {
+            position = start;
+            return null;
+        }
+        if (skipWordEnd(AM) || skipWordEnd(PM)) {
+            if (hour < 1 || hour > 12) {
+                position = start;
+                return null;
+            }
+            boolean isPm = phrase.charAt(position - PM.length()) == 'p';
+            hour = hour % 12 + (isPm ? 12 : 0);
+        } else if (!hasMinutes || hour > 23 || !isWordEnd(position)) {
+            position = start;
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Reads a number written with from {@code minLength} to {@code maxLength} digits and not followed by another digit.
+     */
+    private int readDigits(int minLength, int maxLength) {
+        int start = position;
+        int value = 0;
+        while (position < phrase.length() && position - start < maxLength && isDigit(phrase.charAt(position))) {
+            value = value * 10 + (phrase.charAt(position) - '0');
+            position++;
+        }
+        if (position - start < minLength || (position < phrase.length() && isDigit(phrase.charAt(position)))) {
+            position = start;
+            return NOT_FOUND;
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static LocalDate toDate(int year, int month, int day) {
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private boolean skipChar(char c) {
+        if (position < phrase.length() && phrase.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips the given word if it ends the phrase or is followed by a space, which is not skipped.
+     */
+    private boolean skipWordEnd(String word) {
+        if (phrase.startsWith(word, position) && isWordEnd(position + word.length())) {
+            position += word.length();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips the given word and the space after it.
+     */
+    private boolean skipWord(String word) {
+        int next = position + word.length();
+        if (phrase.startsWith(word, position) && next < phrase.length() && phrase.charAt(next) == ' ') {
+            position = next + 1;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isWordEnd(int index) {
+        return index == phrase.length() || phrase.charAt(index) == ' ';
+    }
+
+    private boolean isAtEnd() {
+        return position == phrase.length();
+    }
+}
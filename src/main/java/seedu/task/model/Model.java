@@ -13,10 +13,16 @@ import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
 import java.io.IOException;
 import java.util.EmptyStackException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Set;
 
 /**
  * The API of the Model component.
+ *
+ * A model has a single writer at a time. Implementations synchronize every method that changes the
+ * task book or the filtered list on the model itself, and callers may hold its monitor to make several
+ * calls atomic. {@link #getTaskBook()} and the filtered list may only be read while holding it, or on the
+ * thread that makes all the changes. {@link #getSnapshot()} may be read from any thread without locking.
  */
 public interface Model {
     /** Clears existing backing model and replaces with the provided new data. */
@@ -25,6 +31,9 @@ public interface Model {
     /** Returns the TaskBook */
     ReadOnlyTaskBook getTaskBook();
 
+    /** Returns the task book as of the last completed change, which later changes do not affect */
+    TaskBookSnapshot getSnapshot();
+
     /** Deletes the given task. */
     void deleteTask(ReadOnlyTask target, String callingCommand) throws UniqueTaskList.TaskNotFoundException;
 
@@ -43,6 +52,19 @@ public interface Model {
     /** Completes the given task */
     void completeTask(ReadOnlyTask taskToComplete) throws TaskNotFoundException, TaskAlreadyCompletedException;
 
+    /**
+     * Makes all the changes in the given batch, or none of them if one fails,
+     * and reports them as a single change to the task book.
+     */
+    void batch(TaskBatch batch) throws DuplicateTaskException, TaskNotFoundException, TaskAlreadyCompletedException;
+
+    /**
+     * Runs the given changes while holding this model, and reports everything they change as a single
+     * change to the task book once they finish, so it is saved once and the task panels are refreshed once.
+     * Each change can still be undone on its own.
+     */
+    void runAsOneChange(Runnable changes);
+
     /** Returns the filtered task list as an {@code UnmodifiableObservableList<ReadOnlyTask>} */
     UnmodifiableObservableList<ReadOnlyTask> getFilteredTaskList();
 
@@ -52,13 +74,22 @@ public interface Model {
     /** Updates the filter of the filtered task list to filter by the given keywords */
     void updateFilteredTaskList(Set<String> keywords);
 
+    /** Updates the filtered task list to show tasks with a word starting with any of the given prefixes, best matches first */
+    void updateFilteredTaskListByPrefix(Set<String> prefixes);
+
+    /** Updates the filtered task list to show tasks with a word within a few typos of any of the given keywords, closest first */
+    void updateFilteredTaskListBySimilarity(Set<String> keywords);
+
     /** Changes storage file path */
     String changeStorageFilePath(String newFilePath) throws DirectoryChooserOperationCancelledException, IOException;
     
     /** Undo the most recent task */
     void undo() throws EmptyStackException;
+
+    /** Redo the most recently undone task */
+    void redo() throws EmptyStackException;
     
-    /**Provide undo information to user**/
+    /**Provide information on the last undone or redone task to user**/
     String getUndoInformation();
 
     /** 
@@ -70,6 +101,15 @@ public interface Model {
     /** Updates the filter of the filtered task list to filter tasks by task end date */
     void updateFilteredListByDate(LocalDate date);
 
+    /** Updates the filtered task list to show the events and deadlines from {@code from} to {@code to} inclusive */
+    void updateFilteredListByDateRange(LocalDateTime from, LocalDateTime to);
+
+    /** Updates the filtered task list to show the given number of pending tasks due next, soonest first */
+    void updateFilteredListToShowNextDue(int count);
+
+    /** Updates the filtered task list to show the other events and deadlines during the given event */
+    void updateFilteredListByOverlap(ReadOnlyTask event);
+
     /** Clears completed tasks from the task book */
     void clearCompletedTasks() throws NoCompletedTasksFoundException, TaskNotFoundException;
     
@@ -1,49 +1,60 @@
 //@@author A0153658W
 package seedu.task.model;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.task.commons.core.ComponentManager;
 import seedu.task.commons.core.Config;
 import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.core.SwitchableObservableList;
 import seedu.task.commons.core.UnmodifiableObservableList;
 import seedu.task.commons.events.model.TaskBookChangedEvent;
 import seedu.task.commons.events.storage.StorageFilePathChangedEvent;
-import seedu.task.commons.events.ui.DatePickedOnCalendarEvent;
 import seedu.task.commons.events.ui.DisplayDirectoryChooserRequestEvent;
-import seedu.task.commons.events.ui.ListButtonEvent;
-import seedu.task.commons.events.ui.ListCompleteButtonEvent;
-import seedu.task.commons.events.ui.ListPendingButtonEvent;
 import seedu.task.commons.events.ui.DisplayDirectoryChooserRequestEvent.DirectoryChooserOperationCancelledException;
-import seedu.task.commons.events.ui.ListAllButtonEvent;
 import seedu.task.commons.events.ui.TaskPanelDataChangedEvent;
 import seedu.task.commons.util.ConfigUtil;
-import seedu.task.commons.util.DateUtil;
 import seedu.task.commons.util.StringUtil;
 import seedu.task.model.task.ReadOnlyTask;
 import seedu.task.model.task.Status;
 import seedu.task.model.task.Task;
 import seedu.task.model.task.UniqueTaskList;
+import seedu.task.model.task.UniqueTaskList.DuplicateTaskException;
 import seedu.task.model.task.UniqueTaskList.NoCompletedTasksFoundException;
 import seedu.task.model.task.UniqueTaskList.TaskAlreadyCompletedException;
 import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.Subscribe;
-
 /**
  * Represents the in-memory model of the task book data.
  * All changes to any model should be synchronized.
+ *
+ * Every method that changes the task book or the filtered list, or reads the task book's indexes,
+ * is synchronized on this model, so there is one writer at a time. After each change the new
+ * snapshot of the task book is published, and {@link #getSnapshot()} returns it without locking.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final TaskBook taskBook;
-    private final FilteredList<Task> filteredTasks;
+    private final TaskPartitions taskPartitions;
+    private final SwitchableObservableList<Task> filteredTasks;
+
+    /** The task book as of the last completed change */
+    private volatile TaskBookSnapshot snapshot;
+
+    /** How many calls to {@link #runAsOneChange(Runnable)} are running, each inside the one before */
+    private int oneChangeDepth = 0;
+    private boolean isTaskBookChangePending = false;
+    private boolean isTaskListPanelChangePending = false;
 
     /**
      * Initializes a ModelManager with the given TaskBook
@@ -57,7 +68,9 @@ public class ModelManager extends ComponentManager implements Model {
         logger.fine("Initializing with task book: " + src + " and user prefs " + userPrefs);
 
         taskBook = new TaskBook(src);
-        filteredTasks = new FilteredList<>(taskBook.getTasks());
+        taskPartitions = new TaskPartitions(taskBook.getUniqueTaskList());
+        filteredTasks = new SwitchableObservableList<>(taskBook.getTasks());
+        snapshot = taskBook.getSnapshot();
     }
 
     public ModelManager() {
@@ -66,11 +79,13 @@ public class ModelManager extends ComponentManager implements Model {
 
     public ModelManager(ReadOnlyTaskBook initialData, UserPrefs userPrefs) {
         taskBook = new TaskBook(initialData);
-        filteredTasks = new FilteredList<>(taskBook.getTasks());
+        taskPartitions = new TaskPartitions(taskBook.getUniqueTaskList());
+        filteredTasks = new SwitchableObservableList<>(taskBook.getTasks());
+        snapshot = taskBook.getSnapshot();
     }
 
     @Override
-    public void resetData(ReadOnlyTaskBook newData) {
+    public synchronized void resetData(ReadOnlyTaskBook newData) {
         taskBook.resetData(newData);
         indicateTaskBookChanged();
     }
@@ -80,13 +95,27 @@ public class ModelManager extends ComponentManager implements Model {
         return taskBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public TaskBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /** Publishes the new snapshot and raises an event to indicate the model has changed */
     private void indicateTaskBookChanged() {
-        raise(new TaskBookChangedEvent(taskBook));
+        if (oneChangeDepth > 0) {
+            isTaskBookChangePending = true;
+            return;
+        }
+        snapshot = taskBook.getSnapshot();
+        raise(new TaskBookChangedEvent(snapshot, taskBook.takeChanges(), taskBook.takeUndoHistoryChanges()));
     }
     //@@author A0138704E
     /** Raises an event to indicate the task list panel data has changed */
     private void indicateTaskListPanelDataChanged() {
+        if (oneChangeDepth > 0) {
+            isTaskListPanelChangePending = true;
+            return;
+        }
         raise(new TaskPanelDataChangedEvent());
     }
     //@@author A0153658W
@@ -118,11 +147,45 @@ public class ModelManager extends ComponentManager implements Model {
     
     //@@author A0138704E
 	@Override
-    public void completeTask(ReadOnlyTask target) throws TaskNotFoundException, TaskAlreadyCompletedException {
+    public synchronized void completeTask(ReadOnlyTask target) throws TaskNotFoundException, TaskAlreadyCompletedException {
         taskBook.completeTask(target);
         indicateTaskBookChanged();
         indicateTaskListPanelDataChanged();
     }
+    //@@author
+    @Override
+    public synchronized void batch(TaskBatch batch)
+            throws DuplicateTaskException, TaskNotFoundException, TaskAlreadyCompletedException {
+        taskBook.applyBatch(batch);
+        indicateTaskBookChanged();
+        indicateTaskListPanelDataChanged();
+    }
+
+    @Override
+    public synchronized void runAsOneChange(Runnable changes) {
+        oneChangeDepth++;
+        try {
+            changes.run();
+        } finally {
+            oneChangeDepth--;
+            // the changes made before any exception are saved and shown too
+            if (oneChangeDepth == 0) {
+                raisePendingChanges();
+            }
+        }
+    }
+
+    private void raisePendingChanges() {
+        if (isTaskBookChangePending) {
+            isTaskBookChangePending = false;
+            indicateTaskBookChanged();
+        }
+        if (isTaskListPanelChangePending) {
+            isTaskListPanelChangePending = false;
+            indicateTaskListPanelDataChanged();
+        }
+    }
+
 	//@@author A0153723J 
 	@Override
 	public String changeStorageFilePath(String newFilePath) throws DirectoryChooserOperationCancelledException, IOException {
@@ -130,7 +193,7 @@ public class ModelManager extends ComponentManager implements Model {
 			newFilePath = getNewFilePathFromDirectoryChooser();
 		}
 		newFilePath += File.separatorChar + "taskbook.xml";
-		raise(new StorageFilePathChangedEvent(newFilePath, taskBook));
+		raise(new StorageFilePathChangedEvent(newFilePath, snapshot));
 		ConfigUtil.saveConfig(new Config(newFilePath), Config.USER_CONFIG_FILE);
 		return newFilePath;
 	}
@@ -143,43 +206,65 @@ public class ModelManager extends ComponentManager implements Model {
         DisplayDirectoryChooserRequestEvent event = new DisplayDirectoryChooserRequestEvent();
         raise(event);
         String newFilePath = event.getSelectedFilePath();
-        if(newFilePath.isEmpty()) {
+        // no path is set if nothing showed the chooser, such as when running without a UI
+        if(newFilePath == null || newFilePath.isEmpty()) {
         	throw new DirectoryChooserOperationCancelledException();
         }
         return newFilePath;
     }
     //@@author A0138704E
     @Override
-    public void sort() {
+    public synchronized void sort() {
         taskBook.sort();
         indicateTaskBookChanged();
     }
     
     @Override
-    public void clearCompletedTasks() throws NoCompletedTasksFoundException, TaskNotFoundException {
+    public synchronized void clearCompletedTasks() throws NoCompletedTasksFoundException, TaskNotFoundException {
 	    taskBook.clearCompletedTasks();
         indicateTaskBookChanged();
     }
     //@@author A0153658W
 	@Override
-    public void clearAllTasks() throws TaskNotFoundException {
+    public synchronized void clearAllTasks() throws TaskNotFoundException {
 	    taskBook.clearAllTasks();
         indicateTaskBookChanged();
     }
 	
     @Override
-    public void undo(){
+    public synchronized void undo() {
         taskBook.undoTask();
         indicateTaskBookChanged();
         indicateTaskListPanelDataChanged();
     }
+
+    @Override
+    public synchronized void redo() {
+        taskBook.redoTask();
+        indicateTaskBookChanged();
+        indicateTaskListPanelDataChanged();
+    }
+
+    /**
+     * Sets how many changes can be undone.
+     */
+    public synchronized void setUndoHistoryDepth(int undoHistoryDepth) {
+        taskBook.setUndoHistoryDepth(undoHistoryDepth);
+    }
+
+    /**
+     * Restores the undo history saved with the task book this model was created from, oldest record first.
+     */
+    public synchronized void restoreUndoHistory(List<UndoRecord> records) {
+        taskBook.restoreUndoHistory(records);
+    }
     
-    public String getUndoInformation(){
+    public synchronized String getUndoInformation(){
         return taskBook.getUndoInformation();
     }
 
 	@Override
-	public int getIndex(ReadOnlyTask target) throws TaskNotFoundException {
+	public synchronized int getIndex(ReadOnlyTask target) throws TaskNotFoundException {
 		return taskBook.getIndex(target);
 	}
 	
@@ -191,27 +276,82 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void updateFilteredListToShowAll() {
-        filteredTasks.setPredicate(null);
+    public synchronized void updateFilteredListToShowAll() {
+        filteredTasks.setSource(taskBook.getTasks());
+    }
+
+    @Override
+    public synchronized void updateFilteredTaskList(Set<String> keywords){
+        Expression expression = new PredicateExpression(new NameQualifier(keywords));
+        filteredTasks.setSource(new TaskSelection(taskBook.getUniqueTaskList(), taskBook.findTasks(keywords),
+                expression::satisfies));
+    }
+
+    @Override
+    public synchronized void updateFilteredTaskListByPrefix(Set<String> prefixes) {
+        filteredTasks.setSource(new TaskSelection(taskBook.getUniqueTaskList(), taskBook.findTasksByPrefix(prefixes),
+                task -> TaskNameIndex.getPrefixRank(task, prefixes)));
     }
 
     @Override
-    public void updateFilteredTaskList(Set<String> keywords){
-        updateFilteredTaskList(new PredicateExpression(new NameQualifier(keywords)));
+    public synchronized void updateFilteredTaskListBySimilarity(Set<String> keywords) {
+        filteredTasks.setSource(new TaskSelection(taskBook.getUniqueTaskList(), taskBook.findSimilarTasks(keywords),
+                task -> TaskNameIndex.getSimilarityRank(task, keywords)));
     }
     //@@author A0138704E
     @Override
-    public void updateFilteredListByStatus(boolean status) {
-        updateFilteredTaskList(new PredicateExpression(new StatusQualifier(status)));
+    public synchronized void updateFilteredListByStatus(boolean status) {
+        filteredTasks.setSource(taskPartitions.getTasksByStatus(status));
     }
     
     @Override
-    public void updateFilteredListByDate(LocalDate date) {
-        updateFilteredTaskList(new PredicateExpression(new DateQualifier(date)));
+    public synchronized void updateFilteredListByDate(LocalDate date) {
+        filteredTasks.setSource(taskPartitions.getTasksByEndDate(date));
     }
-    //@@author
-    private void updateFilteredTaskList(Expression expression) {
-        filteredTasks.setPredicate(expression::satisfies);
+
+    @Override
+    public synchronized void updateFilteredListByDateRange(LocalDateTime from, LocalDateTime to) {
+        filteredTasks.setSource(new TaskSelection(taskBook.getUniqueTaskList(),
+                taskBook.findTasksActiveBetween(from, to), task -> TaskIntervalIndex.isActiveBetween(task, from, to)));
+    }
+
+    @Override
+    public synchronized void updateFilteredListByOverlap(ReadOnlyTask event) {
+        LocalDateTime start = event.getStart().getTaskDate();
+        LocalDateTime end = event.getEnd().getTaskDate();
+        filteredTasks.setSource(new TaskSelection(taskBook.getUniqueTaskList(), taskBook.findTasksOverlapping(event),
+                task -> task != event && TaskIntervalIndex.isActiveBetween(task, start, end)));
+    }
+
+    @Override
+    public synchronized void updateFilteredListToShowNextDue(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> nextDueTasks = taskBook.findNextDueTasks(now, count);
+        // tasks added later are shown too if they are due before the last of these
+        LocalDateTime horizon = nextDueTasks.size() < count ? LocalDateTime.MAX
+                : nextDueTasks.get(nextDueTasks.size() - 1).getEnd().getTaskDate();
+        Map<Task, Integer> ranks = new IdentityHashMap<>();
+        for (Task task : nextDueTasks) {
+            ranks.put(task, getMinutesUntilDue(task, now));
+        }
+        filteredTasks.setSource(new TaskSelection(taskBook.getUniqueTaskList(), ranks, task -> {
+            if (task.isComplete() || task.getEnd() == null) {
+                return TaskSelection.NOT_SELECTED;
+            }
+            LocalDateTime end = task.getEnd().getTaskDate();
+            if (end.isBefore(now) || end.isAfter(horizon)) {
+                return TaskSelection.NOT_SELECTED;
+            }
+            return getMinutesUntilDue(task, now);
+        }));
+    }
+
+    /**
+     * Ranks tasks due soonest first.
+     */
+    private static int getMinutesUntilDue(ReadOnlyTask task, LocalDateTime now) {
+        long minutes = Duration.between(now, task.getEnd().getTaskDate()).toMinutes();
+        return (int) Math.min(minutes, Integer.MAX_VALUE);
     }
 
     //========== Inner classes/interfaces used for filtering ==================================================
@@ -265,93 +405,5 @@ public class ModelManager extends ComponentManager implements Model {
             return "name=" + String.join(", ", nameKeyWords);
         }
     }
-    
-    //@@author A0138704E
-    /**
-     * Class used to filter tasks by status
-     */
-    private class StatusQualifier implements Qualifier {
-        
-        private boolean status;
-        
-        StatusQualifier(boolean status) {
-            this.status = status;
-        }
-
-        @Override
-        public boolean run(ReadOnlyTask task) {
-            return task.getStatus().isComplete() == status;
-        }
-
-        @Override
-        public String toString() {
-            String taskStatus;
-            if (status) {
-                taskStatus = Status.STATUS_COMPLETE_STRING;
-            } else {
-                taskStatus = Status.STATUS_PENDING_STRING;
-            }
-            return "status=" + taskStatus;
-        }
-    }
-    
-    /**
-     * Class used to filter tasks by end date
-     */
-    private class DateQualifier implements Qualifier {
-        
-        private LocalDate date;
-        
-        DateQualifier(LocalDate date) {
-            this.date = date;
-        }
-
-        @Override
-        public boolean run(ReadOnlyTask task) {
-            if (task.getEnd() == null) {
-                return false;
-            } else {
-                return DateUtil.isEqual(task.getEnd().getTaskDate().toLocalDate(), date);
-            }
-        }
-
-        @Override
-        public String toString() {
-            return "endDate=" + DateUtil.formatLocalDateToString(date);
-        }
-    }
-    
-    //@@author A0153723J
-    //==================== Event Handling Code =================================================================
-    
-    @Subscribe
-    private void handleDatePickedOnCalendarEvent(DatePickedOnCalendarEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        updateFilteredListByDate(event.date);
-    }
-    
-    @Subscribe
-    private void handleListButtonEvent(ListButtonEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        updateFilteredListByDate(event.date);
-    }
-    
-    @Subscribe
-    private void handleListAllButtonEvent(ListAllButtonEvent event){
-    	logger.info(LogsCenter.getEventHandlingLogMessage(event));
-    	updateFilteredListToShowAll();
-    }
-    
-    @Subscribe
-    private void handleListPendingButtonEvent(ListPendingButtonEvent event){
-    	logger.info(LogsCenter.getEventHandlingLogMessage(event));
-    	updateFilteredListByStatus(Status.STATUS_PENDING);
-    }
-    
-    @Subscribe
-    private void handleListCompleteButtonEvent(ListCompleteButtonEvent event){
-    	logger.info(LogsCenter.getEventHandlingLogMessage(event));
-    	updateFilteredListByStatus(Status.STATUS_COMPLETE);
-    }
 
 }
@@ -0,0 +1,262 @@
+package seedu.task.model;
+
+import seedu.task.model.task.Task;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list of tasks. Changing it returns a new list that shares all but O(log n) of its
+ * structure with the old one, so any version can be kept as a snapshot at no cost.
+ *
+ * Tasks are kept in a weight-balanced tree ordered by position, where each node knows the size
+ * of its subtree. Getting, replacing, inserting and removing the task at a position each take O(log n).
+ */
+class PersistentTaskList {
+
+    /** A subtree may be at most this many times as heavy as its sibling */
+    private static final int DELTA = 3;
+    /** Decides between a single and a double rotation when rebalancing */
+    private static final int GAMMA = 2;
+
+    private static final PersistentTaskList EMPTY = new PersistentTaskList(null);
+
+    private final Node root;
+
+    private PersistentTaskList(Node root) {
+        this.root = root;
+    }
+
+    static PersistentTaskList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list of the given tasks, in order, in O(n).
+     */
+    static PersistentTaskList of(List<? extends Task> tasks) {
+        return new PersistentTaskList(build(tasks, 0, tasks.size()));
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    Task get(int index) {
+        checkIndex(index, size());
+        return get(root, index);
+    }
+
+    /**
+     * Returns this list with the task at the given index replaced.
+     */
+    PersistentTaskList set(int index, Task task) {
+        checkIndex(index, size());
+        return new PersistentTaskList(set(root, index, task));
+    }
+
+    /**
+     * Returns this list with the given task inserted at the given index.
+     */
+    PersistentTaskList add(int index, Task task) {
+        checkIndex(index, size() + 1);
+        return new PersistentTaskList(add(root, index, task));
+    }
+
+    /**
+     * Returns this list without the task at the given index.
+     */
+    PersistentTaskList remove(int index) {
+        checkIndex(index, size());
+        return new PersistentTaskList(remove(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable view of this list. Iterating over it takes O(n).
+     */
+    List<Task> asList() {
+        return new AbstractList<Task>() {
+            @Override
+            public Task get(int index) {
+                return PersistentTaskList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentTaskList.this.size();
+            }
+
+            @Override
+            public Iterator<Task> iterator() {
+                return new InOrderIterator(root);
+            }
+        };
+    }
+
+    //// tree operations
+
+    private static final class Node {
+        final Task task;
+        final Node left;
+        final Node right;
+        final int size;
+
+        Node(Task task, Node left, Node right) {
+            this.task = task;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int weight(Node node) {
+        return size(node) + 1;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (bound - 1));
+        }
+    }
+
+    private static Node build(List<? extends Task> tasks, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node(tasks.get(middle), build(tasks, from, middle), build(tasks, middle + 1, to));
+    }
+
+    private static Node set(Node node, int index, Task task) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node(node.task, set(node.left, index, task), node.right);
+        } else if (index == leftSize) {
+            return new Node(task, node.left, node.right);
+        } else {
+            return new Node(node.task, node.left, set(node.right, index - leftSize - 1, task));
+        }
+    }
+
+    private static Node add(Node node, int index, Task task) {
+        if (node == null) {
+            return new Node(task, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.task, add(node.left, index, task), node.right);
+        } else {
+            return balance(node.task, node.left, add(node.right, index - leftSize - 1, task));
+        }
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.task, remove(node.left, index), node.right);
+        } else if (index == leftSize) {
+            return glue(node.left, node.right);
+        } else {
+            return balance(node.task, node.left, remove(node.right, index - leftSize - 1));
+        }
+    }
+
+    /**
+     * Joins two subtrees that were balanced against each other, all of {@code left} coming first.
+     */
+    private static Node glue(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (size(left) > size(right)) {
+            Task last = get(left, size(left) - 1);
+            return balance(last, remove(left, size(left) - 1), right);
+        } else {
+            Task first = get(right, 0);
+            return balance(first, left, remove(right, 0));
+        }
+    }
+
+    private static Task get(Node node, int index) {
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.task;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a node with the given task and subtrees, rotated if one subtree has become too heavy
+     * after a single insertion or removal.
+     */
+    private static Node balance(Task task, Node left, Node right) {
+        if (DELTA * weight(left) < weight(right)) {
+            if (weight(right.left) < GAMMA * weight(right.right)) {
+                return new Node(right.task, new Node(task, left, right.left), right.right);
+            }
+            Node middle = right.left;
+            return new Node(middle.task, new Node(task, left, middle.left),
+                    new Node(right.task, middle.right, right.right));
+        }
+        if (DELTA * weight(right) < weight(left)) {
+            if (weight(left.right) < GAMMA * weight(left.left)) {
+                return new Node(left.task, left.left, new Node(task, left.right, right));
+            }
+            Node middle = left.right;
+            return new Node(middle.task, new Node(left.task, left.left, middle.left),
+                    new Node(task, middle.right, right));
+        }
+        return new Node(task, left, right);
+    }
+
+    private static class InOrderIterator implements Iterator<Task> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftmost(root);
+        }
+
+        private void pushLeftmost(Node node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Task next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.pop();
+            pushLeftmost(node.right);
+            return node.task;
+        }
+    }
+}
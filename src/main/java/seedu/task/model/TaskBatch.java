@@ -0,0 +1,75 @@
+package seedu.task.model;
+
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes to several tasks that {@link Model#batch(TaskBatch)} checks together and then applies together,
+ * as one change to the task book that is saved once and undone at once.
+ * Each existing task may be the target of only one change in a batch.
+ */
+public class TaskBatch {
+
+    private final List<Task> tasksToAdd = new ArrayList<>();
+    private final List<ReadOnlyTask> tasksToDelete = new ArrayList<>();
+    private final List<ReadOnlyTask> tasksToComplete = new ArrayList<>();
+    private final Map<ReadOnlyTask, Task> editedTasks = new LinkedHashMap<>();
+
+    /**
+     * Adds the given task to the end of the task list.
+     */
+    public TaskBatch add(Task task) {
+        assert task != null;
+        tasksToAdd.add(task);
+        return this;
+    }
+
+    public TaskBatch delete(ReadOnlyTask target) {
+        assert target != null;
+        tasksToDelete.add(target);
+        return this;
+    }
+
+    public TaskBatch complete(ReadOnlyTask target) {
+        assert target != null;
+        tasksToComplete.add(target);
+        return this;
+    }
+
+    /**
+     * Replaces the given task with the result of editing it, at the same position.
+     */
+    public TaskBatch edit(ReadOnlyTask target, Task result) {
+        assert target != null && result != null;
+        editedTasks.put(target, result);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return tasksToAdd.isEmpty() && tasksToDelete.isEmpty() && tasksToComplete.isEmpty()
+                && editedTasks.isEmpty();
+    }
+
+    List<Task> getTasksToAdd() {
+        return Collections.unmodifiableList(tasksToAdd);
+    }
+
+    List<ReadOnlyTask> getTasksToDelete() {
+        return Collections.unmodifiableList(tasksToDelete);
+    }
+
+    List<ReadOnlyTask> getTasksToComplete() {
+        return Collections.unmodifiableList(tasksToComplete);
+    }
+
+    /** Returns the result of each edit, by the task it replaces */
+    Map<ReadOnlyTask, Task> getEditedTasks() {
+        return Collections.unmodifiableMap(editedTasks);
+    }
+}
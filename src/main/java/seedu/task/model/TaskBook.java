@@ -1,41 +1,56 @@
 //@@author A0153658W 
 package seedu.task.model;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import seedu.task.model.task.DeadlineTask;
-import seedu.task.model.task.EventTask;
 import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Status;
 import seedu.task.model.task.Task;
 import seedu.task.model.task.UniqueTaskList;
-import seedu.task.model.task.UniqueTaskList.DuplicateTaskException;
 import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
 import seedu.task.model.task.UniqueTaskList.TaskAlreadyCompletedException;
 import seedu.task.model.task.UniqueTaskList.NoCompletedTasksFoundException;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * Wraps all data at the task-book level Duplicates are not allowed (by .equals
  * comparison)
+ *
+ * Tasks in the task book are not changed in place; a changed task replaces the old one. Snapshots
+ * of the tasks can therefore share them, and are taken in O(1) from a {@link PersistentTaskList}
+ * kept up to date with the task list.
  */
 public class TaskBook implements ReadOnlyTaskBook {
 
     private UniqueTaskList tasks;
     private UndoTaskStack undoTaskStack;
 
-    private static final String UNDO_ADD_COMMAND = "add";
-    private static final String UNDO_DELETE_COMMAND = "delete";
-    private static final String UNDO_EDIT_COMMAND = "edit";
-    private static final String UNDO_COMPLETE_COMMAND = "complete";
-    private static final String UNDO_CLEAR_COMMAND = "clear";
-    private static final String UNDO_CLEAR_ALL_COMMAND = "clear all";
+    /** Changes to the task list that have not been handed out by {@link #takeChanges()} yet */
+    private List<TaskListChange> pendingChanges = new ArrayList<>();
 
-    private static final int UNDO_FILLER_INDEX = -1;
+    /** Words in task names, kept up to date with the task list */
+    private TaskNameIndex nameIndex;
+
+    /** Dates of events and deadlines, kept up to date with the task list */
+    private TaskIntervalIndex intervalIndex;
+
+    /** The tasks as they are now, kept up to date with the task list */
+    private PersistentTaskList snapshotTasks;
+
+    /** Number of changes made to the task list so far */
+    private long revision;
 
     {
         tasks = new UniqueTaskList();
@@ -43,6 +58,7 @@ public class TaskBook implements ReadOnlyTaskBook {
     }
 
     public TaskBook() {
+        trackChanges();
     }
 
     // @@author
@@ -59,6 +75,7 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public TaskBook(UniqueTaskList tasks) {
         this.tasks = copyUniqueTaskList(tasks);
+        trackChanges();
         // the line of code below is the original code
         // I used the above method to copy the lists
         // because the original code changes all the tasks that is read from
@@ -71,21 +88,98 @@ public class TaskBook implements ReadOnlyTaskBook {
         return new TaskBook();
     }
 
+    /**
+     * Returns the changes made to the task list since the last call, oldest first.
+     */
+    public List<TaskListChange> takeChanges() {
+        List<TaskListChange> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        return changes;
+    }
+
+    private void trackChanges() {
+        tasks.getInternalList().addListener(this::recordChanges);
+        nameIndex = new TaskNameIndex(tasks);
+        intervalIndex = new TaskIntervalIndex(tasks);
+        snapshotTasks = PersistentTaskList.of(tasks.getInternalList());
+        tasks.getInternalList().addListener(this::updateSnapshotTasks);
+    }
+
+    /**
+     * Returns the tasks as they are now. Later changes to the task book do not affect the snapshot.
+     */
+    public TaskBookSnapshot getSnapshot() {
+        return new TaskBookSnapshot(snapshotTasks, revision);
+    }
+
+    /**
+     * Applies the given list change to {@link #snapshotTasks}. A change to many tasks at once,
+     * such as clearing or sorting the list, rebuilds it instead.
+     */
+    private void updateSnapshotTasks(ListChangeListener.Change<? extends Task> change) {
+        revision++;
+        while (change.next()) {
+            int changedCount = change.getRemovedSize() + change.getAddedSize();
+            if (change.wasPermutated() || changedCount > tasks.size() / 8) {
+                snapshotTasks = PersistentTaskList.of(tasks.getInternalList());
+                return;
+            }
+            int from = change.getFrom();
+            int replacedCount = Math.min(change.getRemovedSize(), change.getAddedSize());
+            for (int i = 0; i < replacedCount; i++) {
+                snapshotTasks = snapshotTasks.set(from + i, change.getList().get(from + i));
+            }
+            for (int i = replacedCount; i < change.getRemovedSize(); i++) {
+                snapshotTasks = snapshotTasks.remove(from + replacedCount);
+            }
+            for (int i = from + replacedCount; i < change.getTo(); i++) {
+                snapshotTasks = snapshotTasks.add(i, change.getList().get(i));
+            }
+        }
+    }
+
+    /**
+     * Records the given list change as positional changes. Once more changes are pending than
+     * there are tasks, they are collapsed into a single {@link TaskListChange.Type#RESET}, since
+     * writing the whole list is then cheaper than replaying them.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Task> change) {
+        if (isResetPending()) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() + change.getAddedSize() > tasks.size()) {
+                pendingChanges.clear();
+                pendingChanges.add(TaskListChange.reset());
+                return;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                pendingChanges.add(TaskListChange.removed(change.getFrom()));
+            }
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                pendingChanges.add(TaskListChange.added(i, change.getList().get(i)));
+            }
+        }
+        if (pendingChanges.size() > tasks.size()) {
+            pendingChanges.clear();
+            pendingChanges.add(TaskListChange.reset());
+        }
+    }
+
+    private boolean isResetPending() {
+        return !pendingChanges.isEmpty()
+                && pendingChanges.get(pendingChanges.size() - 1).getType() == TaskListChange.Type.RESET;
+    }
+
     //// list overwrite operations
 
     /*
-     * Returns a copy of the given unique task list
+     * Returns a copy of the given unique task list, sharing its tasks.
+     * The tasks are already unique, so they are added in a single change without checking them again.
      */
     private UniqueTaskList copyUniqueTaskList(UniqueTaskList tasks) {
-        UniqueTaskList newList = new UniqueTaskList();
-        for (int i = 0; i < tasks.size(); i++) {
-            try {
-                newList.add(tasks.getTaskFromIndex(i));
-            } catch (DuplicateTaskException e) {
-                // this should not happen since we're just copying items over to
-                // a new list
-            }
-        }
+        UniqueTaskList newList = new UniqueTaskList(tasks.size());
+        newList.getInternalList().setAll(tasks.getInternalList());
         return newList;
     }
 
@@ -117,7 +211,7 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void addTask(Task task) throws UniqueTaskList.DuplicateTaskException {
         tasks.add(task);
-        undoTaskStack.pushAddToUndoStack(UNDO_ADD_COMMAND, task, UNDO_FILLER_INDEX);
+        undoTaskStack.pushAddToUndoStack(task, tasks.size() - 1);
     }
 
     /**
@@ -132,9 +226,13 @@ public class TaskBook implements ReadOnlyTaskBook {
 
     public boolean removeTask(ReadOnlyTask key, String callingCommand) throws UniqueTaskList.TaskNotFoundException {
         int targetIndex = tasks.getIndex(key);
+        if (targetIndex == -1) {
+            throw new TaskNotFoundException();
+        }
+        Task taskToRemove = tasks.getTaskFromIndex(targetIndex);
 
         if (tasks.remove(key)) {
-            undoTaskStack.pushDeleteToUndoStack(key, callingCommand, targetIndex);
+            undoTaskStack.pushDeleteToUndoStack(taskToRemove, targetIndex);
             return true;
         } else {
             throw new TaskNotFoundException();
@@ -150,7 +248,7 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void editTask(int taskIndex, Task taskToEdit, Task resultTask)
             throws UniqueTaskList.DuplicateTaskException, TaskNotFoundException {
-        undoTaskStack.pushEditToUndoStack(UNDO_EDIT_COMMAND, taskToEdit, taskIndex);
+        undoTaskStack.pushEditToUndoStack(taskToEdit, resultTask, taskIndex);
 
         try {
             tasks.edit(taskIndex, resultTask);
@@ -176,9 +274,108 @@ public class TaskBook implements ReadOnlyTaskBook {
         if (taskToComplete.isComplete()) {
             throw new TaskAlreadyCompletedException();
         }
-        taskToComplete.setComplete();
+        Task completedTask = taskToComplete.withStatus(new Status(Status.STATUS_COMPLETE));
+        tasks.edit(targetIndex, completedTask);
+
+        undoTaskStack.pushCompleteToUndoStack(taskToComplete, completedTask, targetIndex);
+    }
+
+    // @@author
+    /**
+     * Makes the changes in the given batch as a single change to the undo history.
+     * Every change is checked before any is made, so nothing is changed if one of them fails.
+     *
+     * @throws TaskNotFoundException
+     *             if a task to delete, complete or edit cannot be found
+     * @throws TaskAlreadyCompletedException
+     *             if a task to complete is already marked as complete
+     * @throws UniqueTaskList.DuplicateTaskException
+     *             if an added or edited task equals another task
+     */
+    public void applyBatch(TaskBatch batch)
+            throws TaskNotFoundException, TaskAlreadyCompletedException, UniqueTaskList.DuplicateTaskException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // the task to put at each changed position, or null if the task there is deleted
+        TreeMap<Integer, Task> changes = new TreeMap<>();
+        for (ReadOnlyTask target : batch.getTasksToDelete()) {
+            changes.put(findBatchTarget(target, changes), null);
+        }
+        for (ReadOnlyTask target : batch.getTasksToComplete()) {
+            int targetIndex = findBatchTarget(target, changes);
+            Task taskToComplete = tasks.getTaskFromIndex(targetIndex);
+            if (taskToComplete.isComplete()) {
+                throw new TaskAlreadyCompletedException();
+            }
+            changes.put(targetIndex, taskToComplete.withStatus(new Status(Status.STATUS_COMPLETE)));
+        }
+        for (Map.Entry<ReadOnlyTask, Task> edit : batch.getEditedTasks().entrySet()) {
+            changes.put(findBatchTarget(edit.getKey(), changes), edit.getValue());
+        }
+        List<Task> newTasks = new ArrayList<>(batch.getTasksToAdd());
+        changes.values().stream().filter(Objects::nonNull).forEach(newTasks::add);
+        tasks.checkCanReplace(newTasks, changes.keySet());
+
+        List<Task> removedTasks = new ArrayList<>();
+        List<Task> insertedTasks = new ArrayList<>();
+        List<Integer> insertedPositions = new ArrayList<>();
+        int deletedCount = 0;
+        for (Map.Entry<Integer, Task> change : changes.entrySet()) {
+            removedTasks.add(tasks.getTaskFromIndex(change.getKey()));
+            if (change.getValue() == null) {
+                deletedCount++;
+            } else {
+                insertedTasks.add(change.getValue());
+                insertedPositions.add(change.getKey() - deletedCount);
+                tasks.edit(change.getKey(), change.getValue());
+            }
+        }
+        removeDeletedTasks(changes);
+        for (int i = 0; i < batch.getTasksToAdd().size(); i++) {
+            insertedPositions.add(tasks.size() + i);
+        }
+        tasks.getInternalList().addAll(batch.getTasksToAdd());
+        insertedTasks.addAll(batch.getTasksToAdd());
+
+        undoTaskStack.pushBatchToUndoStack(removedTasks.toArray(new Task[removedTasks.size()]),
+                changes.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                insertedTasks.toArray(new Task[insertedTasks.size()]),
+                insertedPositions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private int findBatchTarget(ReadOnlyTask target, Map<Integer, Task> changes) throws TaskNotFoundException {
+        int targetIndex = tasks.getIndex(target);
+        if (targetIndex == -1) {
+            throw new TaskNotFoundException();
+        }
+        assert !changes.containsKey(targetIndex) : "A task can only be changed once in a batch";
+        return targetIndex;
+    }
 
-        undoTaskStack.pushCompleteToUndoStack(taskToComplete, UNDO_COMPLETE_COMMAND, targetIndex);
+    /**
+     * Removes the tasks at the positions the given changes delete, one run of adjacent positions at a time.
+     */
+    private void removeDeletedTasks(TreeMap<Integer, Task> changes) {
+        int runEnd = -1;
+        int runStart = -1;
+        for (Map.Entry<Integer, Task> change : changes.descendingMap().entrySet()) {
+            if (change.getValue() != null) {
+                continue;
+            }
+            if (change.getKey() == runStart - 1) {
+                runStart--;
+                continue;
+            }
+            if (runStart != -1) {
+                tasks.getInternalList().remove(runStart, runEnd);
+            }
+            runStart = change.getKey();
+            runEnd = runStart + 1;
+        }
+        if (runStart != -1) {
+            tasks.getInternalList().remove(runStart, runEnd);
+        }
     }
 
     // @@author A0153658W
@@ -187,125 +384,123 @@ public class TaskBook implements ReadOnlyTaskBook {
     }
 
     /**
-     * Clears completed tasks from the task book
+     * Returns the tasks with a word in their name containing any of the given keywords, in list order.
+     * Keyword matching is not case sensitive.
+     */
+    public List<Task> findTasks(Set<String> keywords) {
+        return nameIndex.find(keywords);
+    }
+
+    /**
+     * Returns the rank of each task with a word in its name starting with any of the given prefixes.
+     * Tasks with a word that is a whole prefix rank first, at 0.
+     */
+    public Map<Task, Integer> findTasksByPrefix(Set<String> prefixes) {
+        return nameIndex.findByPrefix(prefixes);
+    }
+
+    /**
+     * Returns the rank of each task with a word in its name within a few typos of any of the given keywords.
+     * The rank is the number of typos, so exact matches rank first, at 0.
+     */
+    public Map<Task, Integer> findSimilarTasks(Set<String> keywords) {
+        return nameIndex.findSimilar(keywords);
+    }
+
+    /**
+     * Returns the events that overlap the period from {@code from} to {@code to} inclusive,
+     * and the deadlines in it, in list order.
+     */
+    public List<Task> findTasksActiveBetween(LocalDateTime from, LocalDateTime to) {
+        List<Task> activeTasks = intervalIndex.findActiveBetween(from, to);
+        activeTasks.sort(Comparator.comparingInt(tasks::getPosition));
+        return activeTasks;
+    }
+
+    /**
+     * Returns the other events and deadlines during the given event, in list order.
+     */
+    public List<Task> findTasksOverlapping(ReadOnlyTask event) {
+        assert event.getStart() != null && event.getEnd() != null;
+        List<Task> overlappingTasks = findTasksActiveBetween(event.getStart().getTaskDate(),
+                event.getEnd().getTaskDate());
+        overlappingTasks.removeIf(task -> task == event);
+        return overlappingTasks;
+    }
+
+    /**
+     * Returns up to {@code count} pending tasks due at or after the given time, soonest first.
+     */
+    public List<Task> findNextDueTasks(LocalDateTime from, int count) {
+        return intervalIndex.findNextDue(from, count);
+    }
+
+    /**
+     * Clears completed tasks from the task book in a single pass over the list and a single change to it.
+     * The cleared tasks and their positions are recorded for undo in the same pass.
      * 
      * @throws NoCompletedTasksFoundException
      *             if no completed tasks were found
-     * @throws TaskNotFoundException
      */
-    public void clearCompletedTasks() throws NoCompletedTasksFoundException, TaskNotFoundException {
-        UniqueTaskList copyTasks = copyUniqueTaskList(tasks);
-        List<Task> clearedTasks = new ArrayList<Task>();
-        List<Integer> clearedTasksIndices = new ArrayList<Integer>();
-        List<String> clearedStatus = new ArrayList<String>();
-
-        prepareClearedTasksForUndo(copyTasks, clearedTasks, clearedTasksIndices, clearedStatus, true);
-
-        // remove the completed tasks
-        for (Task readTask : copyTasks) {
-            if (readTask.isComplete()) {
-                try {
-                    tasks.remove(readTask);
-                } catch (TaskNotFoundException e) {
-                    throw new TaskNotFoundException();
-                }
+    public void clearCompletedTasks() throws NoCompletedTasksFoundException {
+        List<Task> remainingTasks = new ArrayList<>(tasks.size());
+        List<Task> clearedTasks = new ArrayList<>();
+        int[] clearedPositions = new int[tasks.size()];
+        for (Task task : tasks) {
+            if (task.isComplete()) {
+                clearedPositions[clearedTasks.size()] = clearedTasks.size() + remainingTasks.size();
+                clearedTasks.add(task);
+            } else {
+                remainingTasks.add(task);
             }
         }
-        if (copyTasks.size() == tasks.size()) {
+        if (clearedTasks.isEmpty()) {
             throw new NoCompletedTasksFoundException();
         }
 
-        undoTaskStack.pushClearCompletedToUndoStack(clearedTasks, clearedTasksIndices, UNDO_CLEAR_COMMAND);
+        tasks.getInternalList().setAll(remainingTasks);
+        undoTaskStack.pushClearCompletedToUndoStack(clearedTasks.toArray(new Task[clearedTasks.size()]),
+                Arrays.copyOf(clearedPositions, clearedTasks.size()));
     }
 
     /**
-     * Clears all tasks from the task book
-     * 
-     * @throws TaskNotFoundException
+     * Clears all tasks from the task book in a single change to the list.
+     * The cleared tasks are kept for undo as they are, without copying them.
      */
-    public void clearAllTasks() throws TaskNotFoundException {
-        UniqueTaskList copyTasks = copyUniqueTaskList(tasks);
-        List<Task> clearedTasks = new ArrayList<Task>();
-        List<Integer> clearedTasksIndices = new ArrayList<Integer>();
-        List<String> clearedStatus = new ArrayList<String>();
-
-        prepareClearedTasksForUndo(copyTasks, clearedTasks, clearedTasksIndices, clearedStatus, false);
-
-        // remove the completed tasks
-        for (Task readTask : copyTasks) {
-            try {
-                tasks.remove(readTask);
-            } catch (TaskNotFoundException e) {
-                throw new TaskNotFoundException();
-            }
-        }
+    public void clearAllTasks() {
+        Task[] clearedTasks = tasks.getInternalList().toArray(new Task[tasks.size()]);
+        tasks.getInternalList().clear();
+        undoTaskStack.pushClearAllToUndoStack(clearedTasks);
+    }
+
+    public void undoTask() {
+        undoTaskStack.undo(tasks);
+    }
 
-        undoTaskStack.pushClearAllToUndoStack(clearedTasks, clearedTasksIndices, clearedStatus, UNDO_CLEAR_ALL_COMMAND);
+    public void redoTask() {
+        undoTaskStack.redo(tasks);
     }
 
     /**
-     * Helper method to compile set of tasks and indices for clearing all tasks
-     * to prepare for undo stack
-     * 
-     * @param copyTasks,
-     *            clearedTasks, clearedTaskIndices, clearedStatus,
-     *            isClearCompleteOnly
-     * 
-     *            -copyTasks is the set of tasks currently in the task book
-     *            -clearedTasks is the list that maintains the cleared tasks
-     *            -clearedTaskIndices is the list that maintains indices of
-     *            -cleared tasks clearedStatus is the list that maintains the
-     *            status of cleared tasks 
-     *            -isClearCompleteOnly is a boolean that determines whether 
-     *            this method was called for clear complete only or clear all
+     * Sets how many changes can be undone.
      */
-    private void prepareClearedTasksForUndo(UniqueTaskList copyTasks, List<Task> clearedTasks,
-            List<Integer> clearedTasksIndices, List<String> clearedStatus, boolean isClearCompleteOnly)
-            throws TaskNotFoundException {
-        // compile set of tasks and indices being cleared to prepare for undo
-        for (Task readTask : copyTasks) {
-            try {
-                clearedTasksIndices.add(tasks.getIndex(readTask));
-                clearedStatus.add(readTask.getStatus().toString());
-
-                Class<? extends ReadOnlyTask> clearedTask = readTask.getClass();
-
-                if (clearedTask.equals(DeadlineTask.class)) {
-                    DeadlineTask cleared = new DeadlineTask(readTask.getName(), readTask.getEnd());
-                    clearedTasks.add(cleared);
-                } else if (clearedTask.equals(EventTask.class)) {
-                    EventTask cleared = new EventTask(readTask.getName(), readTask.getStart(), readTask.getEnd());
-                    clearedTasks.add(cleared);
-                } else {
-                    // cleared task must be a floating task
-                    Task cleared = new Task(readTask.getName());
-                    clearedTasks.add(cleared);
-                }
-
-            } catch (TaskNotFoundException e) {
-                throw new TaskNotFoundException();
-            }
-        }
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        undoTaskStack.setHistoryDepth(undoHistoryDepth);
+    }
 
-        // if this method was called to clear only completed, then remove the
-        // pending tasks
-        if (isClearCompleteOnly) {
-            for (int i = 0; i < clearedTasks.size(); i++) {
-                // if the task is pending, remove it
-                if (clearedStatus.get(i).equals("Pending")) {
-                    clearedTasks.remove(i);
-                    clearedTasksIndices.remove(i);
-                    clearedStatus.remove(i);
-                }
-            }
-        } else {
-            // keep all the pending and completed tasks in the list to push to
-            // undo stack
-        }
+    /**
+     * Returns the changes made to the undo history since the last call, oldest first.
+     */
+    public List<UndoHistoryChange> takeUndoHistoryChanges() {
+        return undoTaskStack.takeChanges();
     }
 
-    public void undoTask() {
-        undoTaskStack.undo(tasks);
+    /**
+     * Replaces the undo history with the given records, oldest first.
+     * They must have been saved from a task book whose tasks were the same as this one's are now.
+     */
+    public void restoreUndoHistory(List<UndoRecord> records) {
+        undoTaskStack.restore(records);
     }
 
     public String getUndoInformation() {
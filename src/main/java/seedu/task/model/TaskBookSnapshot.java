@@ -0,0 +1,47 @@
+package seedu.task.model;
+
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.UniqueTaskList;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The tasks of a {@link TaskBook} as they were when the snapshot was taken, unaffected by later changes.
+ * Taking a snapshot costs O(1), since the task book keeps its tasks in a {@link PersistentTaskList} as well.
+ */
+public class TaskBookSnapshot implements ReadOnlyTaskBook {
+
+    private final PersistentTaskList tasks;
+    private final long revision;
+
+    TaskBookSnapshot(PersistentTaskList tasks, long revision) {
+        this.tasks = tasks;
+        this.revision = revision;
+    }
+
+    /**
+     * Returns the number of changes made to the task list of the task book before the snapshot was taken.
+     * Snapshots of the same task book with the same revision hold the same tasks.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public UniqueTaskList getUniqueTaskList() {
+        UniqueTaskList list = new UniqueTaskList(tasks.size());
+        list.getInternalList().setAll(tasks.asList());
+        return list;
+    }
+
+    @Override
+    public List<ReadOnlyTask> getTaskList() {
+        return Collections.unmodifiableList(tasks.asList());
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " tasks";
+    }
+}
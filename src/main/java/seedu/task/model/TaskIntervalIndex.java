@@ -0,0 +1,254 @@
+package seedu.task.model;
+
+import javafx.collections.ListChangeListener;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.UniqueTaskList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An index of the dates of the tasks of a {@link UniqueTaskList}. An event spans the time from its start
+ * to its end, and a deadline is a single point in time at its end. Tasks without an end are not indexed.
+ *
+ * The spans are kept in an interval tree, a treap ordered by start in which every node also records
+ * the latest end below it, so the tasks active in a period are found in O(log n + k) by skipping every
+ * subtree that ends before the period or starts after it. The pending tasks are also kept in a set ordered
+ * by end, which finds the next tasks due without passing over completed ones. A task is completed by
+ * replacing it in the list, so both follow the changes to the list, one task at a time.
+ */
+class TaskIntervalIndex {
+
+    private static final Comparator<Span> BY_START = Comparator.<Span, LocalDateTime>comparing(span -> span.start)
+            .thenComparingLong(span -> span.sequenceNumber);
+    private static final Comparator<Span> BY_END = Comparator.<Span, LocalDateTime>comparing(span -> span.end)
+            .thenComparingLong(span -> span.sequenceNumber);
+
+    private final Map<Task, Span> spans = new IdentityHashMap<>();
+    /** The spans of the pending tasks */
+    private final NavigableSet<Span> pendingSpansByEnd = new TreeSet<>(BY_END);
+    private final Random random = new Random();
+    private Span root;
+    /** Tells apart spans with the same dates */
+    private long nextSequenceNumber;
+
+    /**
+     * The dates of a task, and a node of the interval tree.
+     */
+    private static class Span {
+        final Task task;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final long sequenceNumber;
+        final int priority;
+        Span left;
+        Span right;
+        /** The latest end of the spans in the subtree of this node */
+        LocalDateTime maxEnd;
+
+        Span(Task task, LocalDateTime start, LocalDateTime end, long sequenceNumber, int priority) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+            this.sequenceNumber = sequenceNumber;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Indexes the given list and follows its changes.
+     */
+    TaskIntervalIndex(UniqueTaskList tasks) {
+        for (Task task : tasks) {
+            addToIndex(task);
+        }
+        tasks.getInternalList().addListener(this::update);
+    }
+
+    /**
+     * Returns the tasks active at any time from {@code from} to {@code to} inclusive: the events that
+     * overlap the period and the deadlines that fall in it, in order of start.
+     */
+    List<Task> findActiveBetween(LocalDateTime from, LocalDateTime to) {
+        List<Task> activeTasks = new ArrayList<>();
+        collectActiveBetween(root, from, to, activeTasks);
+        return activeTasks;
+    }
+
+    /**
+     * Returns the given number of pending tasks that are due soonest at or after the given time,
+     * soonest first. Fewer are returned if there are not as many.
+     */
+    List<Task> findNextDue(LocalDateTime from, int count) {
+        Span earliest = new Span(null, from, from, Long.MIN_VALUE, 0);
+        List<Task> dueTasks = new ArrayList<>(count);
+        for (Span span : pendingSpansByEnd.tailSet(earliest, true)) {
+            if (dueTasks.size() == count) {
+                break;
+            }
+            dueTasks.add(span.task);
+        }
+        return dueTasks;
+    }
+
+    /**
+     * Returns true if the given task would be found by {@link #findActiveBetween(LocalDateTime, LocalDateTime)}.
+     */
+    static boolean isActiveBetween(ReadOnlyTask task, LocalDateTime from, LocalDateTime to) {
+        if (task.getEnd() == null) {
+            return false;
+        }
+        LocalDateTime end = task.getEnd().getTaskDate();
+        LocalDateTime start = task.getStart() == null ? end : task.getStart().getTaskDate();
+        return !start.isAfter(to) && !end.isBefore(from);
+    }
+
+    private void collectActiveBetween(Span node, LocalDateTime from, LocalDateTime to, List<Task> activeTasks) {
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return;
+        }
+        collectActiveBetween(node.left, from, to, activeTasks);
+        if (node.start.isAfter(to)) {
+            // everything to the right starts even later
+            return;
+        }
+        if (!node.end.isBefore(from)) {
+            activeTasks.add(node.task);
+        }
+        collectActiveBetween(node.right, from, to, activeTasks);
+    }
+
+    private void update(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            Set<Task> keptTasks = UniqueTaskList.getKeptTasks(change);
+            for (Task removed : change.getRemoved()) {
+                if (!keptTasks.contains(removed)) {
+                    removeFromIndex(removed);
+                }
+            }
+            for (Task added : change.getAddedSubList()) {
+                if (!keptTasks.contains(added)) {
+                    addToIndex(added);
+                }
+            }
+        }
+    }
+
+    private void addToIndex(Task task) {
+        if (task.getEnd() == null) {
+            return;
+        }
+        LocalDateTime end = task.getEnd().getTaskDate();
+        LocalDateTime start = task.getStart() == null ? end : task.getStart().getTaskDate();
+        Span span = new Span(task, start, end, nextSequenceNumber++, random.nextInt());
+        spans.put(task, span);
+        if (!task.isComplete()) {
+            pendingSpansByEnd.add(span);
+        }
+        root = insert(root, span);
+    }
+
+    private void removeFromIndex(Task task) {
+        Span span = spans.remove(task);
+        if (span == null) {
+            return;
+        }
+        pendingSpansByEnd.remove(span);
+        root = delete(root, span);
+    }
+
+    //// treap operations, each returning the new root of the subtree
+
+    private static Span insert(Span node, Span span) {
+        if (node == null) {
+            return span;
+        }
+        if (span.priority > node.priority) {
+            Span[] parts = split(node, span);
+            span.left = parts[0];
+            span.right = parts[1];
+            return updateMaxEnd(span);
+        }
+        if (BY_START.compare(span, node) < 0) {
+            node.left = insert(node.left, span);
+        } else {
+            node.right = insert(node.right, span);
+        }
+        return updateMaxEnd(node);
+    }
+
+    private static Span delete(Span node, Span span) {
+        if (node == span) {
+            return merge(node.left, node.right);
+        }
+        if (BY_START.compare(span, node) < 0) {
+            node.left = delete(node.left, span);
+        } else {
+            node.right = delete(node.right, span);
+        }
+        return updateMaxEnd(node);
+    }
+
+    /**
+     * Splits a subtree into the spans ordered before {@code key} and the rest.
+     */
+    private static Span[] split(Span node, Span key) {
+        if (node == null) {
+            return new Span[] {null, null};
+        }
+        if (BY_START.compare(node, key) < 0) {
+            Span[] parts = split(node.right, key);
+            node.right = parts[0];
+            parts[0] = updateMaxEnd(node);
+            return parts;
+        } else {
+            Span[] parts = split(node.left, key);
+            node.left = parts[1];
+            parts[1] = updateMaxEnd(node);
+            return parts;
+        }
+    }
+
+    /**
+     * Joins two subtrees, where every span in {@code left} is ordered before every span in {@code right}.
+     */
+    private static Span merge(Span left, Span right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return updateMaxEnd(left);
+        } else {
+            right.left = merge(left, right.left);
+            return updateMaxEnd(right);
+        }
+    }
+
+    private static Span updateMaxEnd(Span node) {
+        node.maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(node.maxEnd)) {
+            node.maxEnd = node.right.maxEnd;
+        }
+        return node;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.task.model;
+
+import seedu.task.model.task.ReadOnlyTask;
+
+/**
+ * A single positional change made to the task list of a {@link TaskBook}.
+ * Applying a sequence of changes, in order, to a copy of the list as it was before them
+ * reproduces the list as it is after them.
+ */
+public class TaskListChange {
+
+    public enum Type {
+        /** {@link #getTask()} was inserted at {@link #getIndex()} */
+        ADD,
+        /** The task at {@link #getIndex()} was removed */
+        REMOVE,
+        /** The list changed in a way that is not worth describing task by task */
+        RESET
+    }
+
+    private final Type type;
+    private final int index;
+    private final ReadOnlyTask task;
+
+    private TaskListChange(Type type, int index, ReadOnlyTask task) {
+        this.type = type;
+        this.index = index;
+        this.task = task;
+    }
+
+    public static TaskListChange added(int index, ReadOnlyTask task) {
+        assert task != null;
+        return new TaskListChange(Type.ADD, index, task);
+    }
+
+    public static TaskListChange removed(int index) {
+        return new TaskListChange(Type.REMOVE, index, null);
+    }
+
+    public static TaskListChange reset() {
+        return new TaskListChange(Type.RESET, -1, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the inserted task for an {@link Type#ADD} change, null otherwise.
+     */
+    public ReadOnlyTask getTask() {
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+        case ADD:
+            return "add " + index + " " + task.getAsText();
+        case REMOVE:
+            return "remove " + index;
+        default:
+            return "reset";
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.task.model;
+
+import javafx.collections.ListChangeListener;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.UniqueTaskList;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower-cased words in task names to the tasks of a {@link UniqueTaskList}.
+ *
+ * The index follows the changes to the list, so adding, removing or editing a task only updates the
+ * entries of that task's words. A keyword is looked up against the distinct words in the index rather
+ * than against every task, and matches any word containing it, as {@code find} always has.
+ *
+ * The words are also kept in a {@link WordTrie}, which finds the words starting with a prefix or
+ * within a few typos of a keyword without looking at the other words.
+ */
+class TaskNameIndex {
+
+    private static final String WORD_SEPARATOR_REGEX = "\\s+";
+
+    /** Keywords up to this long must match a word exactly when finding similar words */
+    private static final int MAX_LENGTH_WITHOUT_TYPOS = 2;
+    /** Keywords up to this long may be one edit away from a word when finding similar words */
+    private static final int MAX_LENGTH_WITH_ONE_TYPO = 5;
+    /** The most edits allowed between a longer keyword and a word */
+    private static final int MAX_TYPOS = 2;
+
+    private final UniqueTaskList tasks;
+
+    /** Tasks whose names contain each word, by identity */
+    private final Map<String, Set<Task>> postings = new HashMap<>();
+
+    /** The same tasks as {@link #postings}, by word */
+    private final WordTrie<Set<Task>> trie = new WordTrie<>();
+
+    /**
+     * Indexes the given list and follows its changes. Must be created after the list,
+     * so that its positions are up to date by the time a change is seen here.
+     */
+    TaskNameIndex(UniqueTaskList tasks) {
+        this.tasks = tasks;
+        for (Task task : tasks) {
+            addToIndex(task);
+        }
+        tasks.getInternalList().addListener(this::update);
+    }
+
+    /**
+     * Splits a task name or a search query into the words that are indexed.
+     */
+    static String[] toWords(String text) {
+        return text.toLowerCase().split(WORD_SEPARATOR_REGEX);
+    }
+
+    /**
+     * Returns the tasks with a word in their name that contains any of the given keywords, in list order.
+     * Keyword matching is not case sensitive.
+     */
+    List<Task> find(Set<String> keywords) {
+        BitSet matchingPositions = new BitSet(tasks.size());
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.toLowerCase();
+            postings.forEach((word, tasksWithWord) -> {
+                if (word.contains(lowerCaseKeyword)) {
+                    for (Task task : tasksWithWord) {
+                        matchingPositions.set(tasks.getPosition(task));
+                    }
+                }
+            });
+        }
+        List<Task> matches = new ArrayList<>(matchingPositions.cardinality());
+        for (int i = matchingPositions.nextSetBit(0); i >= 0; i = matchingPositions.nextSetBit(i + 1)) {
+            matches.add(tasks.getTaskFromIndex(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the rank of each task with a word in its name that starts with any of the given prefixes.
+     * The rank is the number of letters the closest such word has beyond the prefix, so whole words come first.
+     */
+    Map<Task, Integer> findByPrefix(Set<String> prefixes) {
+        Map<Task, Integer> ranks = new IdentityHashMap<>();
+        for (String prefix : prefixes) {
+            String lowerCasePrefix = prefix.toLowerCase();
+            trie.forEachWithPrefix(lowerCasePrefix, (tasksWithWord, extraLetters) ->
+                    addRanks(ranks, tasksWithWord, extraLetters));
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the rank of each task with a word in its name that is within a few edits of any of the
+     * given keywords, allowing more edits for longer keywords. The rank is the number of edits
+     * between the closest such word and keyword.
+     */
+    Map<Task, Integer> findSimilar(Set<String> keywords) {
+        Map<Task, Integer> ranks = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.toLowerCase();
+            trie.forEachSimilar(lowerCaseKeyword, getMaxEditDistance(lowerCaseKeyword),
+                    (tasksWithWord, distance) -> addRanks(ranks, tasksWithWord, distance));
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the rank {@link #findByPrefix(Set)} gives the given task, or {@link TaskSelection#NOT_SELECTED}.
+     */
+    static int getPrefixRank(ReadOnlyTask task, Set<String> prefixes) {
+        int rank = TaskSelection.NOT_SELECTED;
+        for (String word : toWords(task.getName().fullName)) {
+            for (String prefix : prefixes) {
+                String lowerCasePrefix = prefix.toLowerCase();
+                if (word.startsWith(lowerCasePrefix)) {
+                    rank = minRank(rank, word.length() - lowerCasePrefix.length());
+                }
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the rank {@link #findSimilar(Set)} gives the given task, or {@link TaskSelection#NOT_SELECTED}.
+     */
+    static int getSimilarityRank(ReadOnlyTask task, Set<String> keywords) {
+        int rank = TaskSelection.NOT_SELECTED;
+        for (String word : toWords(task.getName().fullName)) {
+            for (String keyword : keywords) {
+                String lowerCaseKeyword = keyword.toLowerCase();
+                int distance = WordTrie.computeEditDistance(lowerCaseKeyword, word);
+                if (distance <= getMaxEditDistance(lowerCaseKeyword)) {
+                    rank = minRank(rank, distance);
+                }
+            }
+        }
+        return rank;
+    }
+
+    private static int minRank(int rank, int otherRank) {
+        return rank == TaskSelection.NOT_SELECTED ? otherRank : Math.min(rank, otherRank);
+    }
+
+    private static void addRanks(Map<Task, Integer> ranks, Set<Task> tasksWithWord, int rank) {
+        for (Task task : tasksWithWord) {
+            ranks.merge(task, rank, Math::min);
+        }
+    }
+
+    private static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= MAX_LENGTH_WITHOUT_TYPOS) {
+            return 0;
+        }
+        if (keyword.length() <= MAX_LENGTH_WITH_ONE_TYPO) {
+            return 1;
+        }
+        return MAX_TYPOS;
+    }
+
+    private void update(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            Set<Task> keptTasks = UniqueTaskList.getKeptTasks(change);
+            for (Task removed : change.getRemoved()) {
+                if (!keptTasks.contains(removed)) {
+                    removeFromIndex(removed);
+                }
+            }
+            for (Task added : change.getAddedSubList()) {
+                if (!keptTasks.contains(added)) {
+                    addToIndex(added);
+                }
+            }
+        }
+    }
+
+    private void addToIndex(Task task) {
+        for (String word : toWords(task.getName().fullName)) {
+            Set<Task> tasksWithWord = postings.get(word);
+            if (tasksWithWord == null) {
+                tasksWithWord = Collections.newSetFromMap(new IdentityHashMap<>(1));
+                postings.put(word, tasksWithWord);
+                trie.put(word, tasksWithWord);
+            }
+            tasksWithWord.add(task);
+        }
+    }
+
+    private void removeFromIndex(Task task) {
+        for (String word : toWords(task.getName().fullName)) {
+            Set<Task> tasksWithWord = postings.get(word);
+            if (tasksWithWord != null) {
+                tasksWithWord.remove(task);
+                if (tasksWithWord.isEmpty()) {
+                    postings.remove(word);
+                    trie.remove(word);
+                }
+            }
+        }
+    }
+}
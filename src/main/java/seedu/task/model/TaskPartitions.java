@@ -0,0 +1,193 @@
+package seedu.task.model;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.UniqueTaskList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The tasks of a {@link UniqueTaskList} partitioned by status and by end date, each partition in list order.
+ *
+ * The partitions are kept up to date as the list changes. A change to a single task only touches the
+ * partitions that task leaves and joins, and finds its place in them by binary search on list positions.
+ * Changes to more than one task at once, such as sorting or resetting the list, rebuild every partition.
+ *
+ * A date's partition is forgotten once it is empty and nothing listens to it, so that dates looked at
+ * once do not pile up. Callers should listen to a date's partition for as long as they keep it.
+ */
+class TaskPartitions {
+
+    private final UniqueTaskList tasks;
+
+    private final Partition pendingTasks = new Partition(null);
+    private final Partition completeTasks = new Partition(null);
+    private final Map<LocalDate, Partition> tasksByEndDate = new HashMap<>();
+
+    /** The partitions each task was put in, by identity, so that taking a task out needs no status or date lookup */
+    private final Map<Task, List<Partition>> partitionsOfTask = new IdentityHashMap<>();
+
+    /**
+     * Partitions the given list and follows its changes. Must be created after the list,
+     * so that its positions are up to date by the time a change is seen here.
+     */
+    TaskPartitions(UniqueTaskList tasks) {
+        this.tasks = tasks;
+        rebuild();
+        tasks.getInternalList().addListener(this::update);
+    }
+
+    /**
+     * Returns the tasks with the given status, in list order.
+     * @param status true = completed tasks, false = pending tasks
+     */
+    ObservableList<Task> getTasksByStatus(boolean status) {
+        return getStatusPartition(status);
+    }
+
+    /**
+     * Returns the tasks that end on the given date, in list order.
+     */
+    ObservableList<Task> getTasksByEndDate(LocalDate date) {
+        // dates whose views have since been switched away from are only found here
+        tasksByEndDate.values().removeIf(Partition::isUnused);
+        return getDatePartition(date);
+    }
+
+    private Partition getStatusPartition(boolean status) {
+        return status ? completeTasks : pendingTasks;
+    }
+
+    private Partition getDatePartition(LocalDate date) {
+        return tasksByEndDate.computeIfAbsent(date, Partition::new);
+    }
+
+    private void update(ListChangeListener.Change<? extends Task> change) {
+        if (!change.next() || change.wasPermutated() || change.wasUpdated()
+                || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+            rebuild();
+            return;
+        }
+        int from = change.getFrom();
+        List<? extends Task> removed = change.getRemoved();
+        List<? extends Task> added = change.getAddedSubList();
+        if (change.next()) {
+            rebuild();
+            return;
+        }
+
+        for (Task task : removed) {
+            for (Partition partition : partitionsOfTask.remove(task)) {
+                int index = tasks.findPositionIn(partition, from, task);
+                assert partition.get(index) == task;
+                partition.delete(index);
+                if (partition.date != null && partition.isUnused()) {
+                    tasksByEndDate.remove(partition.date, partition);
+                }
+            }
+        }
+        for (Task task : added) {
+            List<Partition> partitions = getPartitions(task);
+            for (Partition partition : partitions) {
+                partition.insert(tasks.findPositionIn(partition, tasks.getPosition(task), task), task);
+            }
+            partitionsOfTask.put(task, partitions);
+        }
+    }
+
+    private void rebuild() {
+        partitionsOfTask.clear();
+        Map<Partition, List<Task>> contents = new IdentityHashMap<>();
+        contents.put(pendingTasks, new ArrayList<>());
+        contents.put(completeTasks, new ArrayList<>());
+        for (Partition partition : tasksByEndDate.values()) {
+            contents.put(partition, new ArrayList<>());
+        }
+        for (Task task : tasks) {
+            List<Partition> partitions = getPartitions(task);
+            for (Partition partition : partitions) {
+                contents.computeIfAbsent(partition, key -> new ArrayList<>()).add(task);
+            }
+            partitionsOfTask.put(task, partitions);
+        }
+        contents.forEach(Partition::setTasks);
+        tasksByEndDate.values().removeIf(Partition::isUnused);
+    }
+
+    private List<Partition> getPartitions(Task task) {
+        Partition statusPartition = getStatusPartition(task.isComplete());
+        if (task.getEnd() == null) {
+            return Collections.singletonList(statusPartition);
+        }
+        return Arrays.asList(statusPartition,
+                getDatePartition(task.getEnd().getTaskDate().toLocalDate()));
+    }
+
+    /**
+     * The tasks of one partition in list order, which only this class changes.
+     */
+    private static class Partition extends ObservableListBase<Task> {
+
+        /** The end date of the partition's tasks, or null for a status partition */
+        private final LocalDate date;
+        private final List<Task> elements = new ArrayList<>();
+
+        Partition(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public Task get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        boolean isUnused() {
+            return elements.isEmpty() && !hasListeners();
+        }
+
+        void insert(int index, Task task) {
+            elements.add(index, task);
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void delete(int index) {
+            Task removed = elements.remove(index);
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        void setTasks(List<Task> newElements) {
+            if (elements.isEmpty() && newElements.isEmpty()) {
+                return;
+            }
+            List<Task> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(newElements);
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+            endChange();
+        }
+    }
+}
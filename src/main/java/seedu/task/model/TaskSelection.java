@@ -0,0 +1,172 @@
+package seedu.task.model;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.TransformationList;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.UniqueTaskList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * The tasks of a {@link UniqueTaskList} that satisfy a condition, kept up to date as the list changes.
+ * Tasks may be ranked, in which case they are ordered by rank, lowest first, and then in list order.
+ *
+ * Unlike a {@link javafx.collections.transformation.FilteredList}, it starts from the matching tasks as
+ * worked out elsewhere, e.g. from an index, so creating it does not test every task in the list.
+ * Only tasks added to the list afterwards are tested, and only changes to more than one task at once,
+ * such as resetting the list, test every task again.
+ */
+class TaskSelection extends TransformationList<Task, Task> {
+
+    /** Rank given to tasks that do not satisfy the condition of the selection */
+    static final int NOT_SELECTED = -1;
+
+    private final UniqueTaskList tasks;
+    private final ToIntFunction<? super Task> ranking;
+    private final List<Task> selectedTasks;
+    /** Rank of each selected task, by identity */
+    private final Map<Task, Integer> ranks = new IdentityHashMap<>();
+
+    /**
+     * Creates an unranked selection.
+     * @param initialSelection the tasks of the list that satisfy {@code condition}, in list order
+     */
+    TaskSelection(UniqueTaskList tasks, List<Task> initialSelection, Predicate<? super Task> condition) {
+        super(tasks.getInternalList());
+        this.tasks = tasks;
+        this.ranking = task -> condition.test(task) ? 0 : NOT_SELECTED;
+        this.selectedTasks = new ArrayList<>(initialSelection);
+        for (Task task : initialSelection) {
+            ranks.put(task, 0);
+        }
+    }
+
+    /**
+     * Creates a ranked selection.
+     * @param initialRanks the rank of each task of the list that is ranked by {@code ranking}, by identity
+     * @param ranking gives the rank of a task, or {@link #NOT_SELECTED}
+     */
+    TaskSelection(UniqueTaskList tasks, Map<Task, Integer> initialRanks, ToIntFunction<? super Task> ranking) {
+        super(tasks.getInternalList());
+        this.tasks = tasks;
+        this.ranking = ranking;
+        this.ranks.putAll(initialRanks);
+        this.selectedTasks = new ArrayList<>(initialRanks.keySet());
+        selectedTasks.sort(Comparator.<Task>comparingInt(ranks::get).thenComparingInt(tasks::getPosition));
+    }
+
+    @Override
+    public Task get(int index) {
+        return selectedTasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return selectedTasks.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return tasks.getPosition(selectedTasks.get(index));
+    }
+
+    public int getViewIndex(int index) {
+        Task task = getSource().get(index);
+        Integer rank = ranks.get(task);
+        if (rank == null) {
+            return NOT_SELECTED;
+        }
+        return findIndex(rank, index, task);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Task> change) {
+        if (!change.next() || change.wasPermutated() || change.wasUpdated()
+                || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+            reselect();
+            return;
+        }
+        int from = change.getFrom();
+        List<? extends Task> removed = change.getRemoved();
+        List<? extends Task> added = change.getAddedSubList();
+        if (change.next()) {
+            reselect();
+            return;
+        }
+
+        beginChange();
+        for (Task task : removed) {
+            Integer rank = ranks.get(task);
+            if (rank != null) {
+                int index = findIndex(rank, from, task);
+                ranks.remove(task);
+                selectedTasks.remove(index);
+                nextRemove(index, task);
+            }
+        }
+        for (Task task : added) {
+            int rank = ranking.applyAsInt(task);
+            if (rank != NOT_SELECTED) {
+                ranks.put(task, rank);
+                int index = findIndex(rank, tasks.getPosition(task), task);
+                selectedTasks.add(index, task);
+                nextAdd(index, index + 1);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the index of the first selected task that comes at or after the given rank and list position.
+     * {@code task} is taken to be at that position even if it has just left the list.
+     */
+    private int findIndex(int rank, int position, Task task) {
+        int low = 0;
+        int high = selectedTasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Task candidate = selectedTasks.get(middle);
+            int candidateRank = ranks.get(candidate);
+            int candidatePosition = candidate == task ? position : tasks.getPosition(candidate);
+            if (candidateRank < rank || (candidateRank == rank && candidatePosition < position)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Ranks every task in the list again.
+     */
+    private void reselect() {
+        List<Task> oldSelection = new ArrayList<>(selectedTasks);
+        selectedTasks.clear();
+        ranks.clear();
+        for (Task task : getSource()) {
+            int rank = ranking.applyAsInt(task);
+            if (rank != NOT_SELECTED) {
+                ranks.put(task, rank);
+                selectedTasks.add(task);
+            }
+        }
+        // a stable sort, so tasks of the same rank stay in list order
+        selectedTasks.sort(Comparator.comparingInt(ranks::get));
+
+        beginChange();
+        if (!oldSelection.isEmpty()) {
+            nextRemove(0, oldSelection);
+        }
+        if (!selectedTasks.isEmpty()) {
+            nextAdd(0, selectedTasks.size());
+        }
+        endChange();
+    }
+}
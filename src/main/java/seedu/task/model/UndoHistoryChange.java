@@ -0,0 +1,62 @@
+package seedu.task.model;
+
+/**
+ * A single change to the undo history of a {@link TaskBook}.
+ * Applying a sequence of changes, in order, to a copy of the history as it was before them
+ * reproduces the history as it is after them, apart from records beyond the history depth.
+ */
+public class UndoHistoryChange {
+
+    public enum Type {
+        /** {@link #getRecord()} became the most recent change that can be undone */
+        PUSH,
+        /** The most recent change was undone */
+        POP,
+        /** Every record was dropped */
+        CLEAR
+    }
+
+    private final Type type;
+    private final UndoRecord record;
+
+    private UndoHistoryChange(Type type, UndoRecord record) {
+        this.type = type;
+        this.record = record;
+    }
+
+    public static UndoHistoryChange pushed(UndoRecord record) {
+        assert record != null;
+        return new UndoHistoryChange(Type.PUSH, record);
+    }
+
+    public static UndoHistoryChange popped() {
+        return new UndoHistoryChange(Type.POP, null);
+    }
+
+    public static UndoHistoryChange cleared() {
+        return new UndoHistoryChange(Type.CLEAR, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the pushed record for a {@link Type#PUSH} change, null otherwise.
+     */
+    public UndoRecord getRecord() {
+        return record;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+        case PUSH:
+            return "push " + record.getDescription();
+        case POP:
+            return "pop";
+        default:
+            return "clear";
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package seedu.task.model;
+
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.UniqueTaskList;
+import seedu.task.model.task.UniqueTaskList.DuplicateTaskException;
+import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A change to the task list of a {@link TaskBook} that can be reversed and reapplied.
+ *
+ * A record refers to the tasks themselves rather than to copies of them, since tasks in a task book
+ * are never changed in place, so even clearing every task only costs an array of references.
+ * A record read back from storage holds equal tasks instead, which works just as well.
+ */
+public class UndoRecord {
+
+    public enum Type {
+        /** {@link #getTasks()} holds the task added at {@link #getIndex()} */
+        ADD,
+        /** {@link #getTasks()} holds the task deleted from {@link #getIndex()} */
+        DELETE,
+        /** {@link #getTasks()} holds the task at {@link #getIndex()} before and after the edit */
+        EDIT,
+        /** {@link #getTasks()} holds the task at {@link #getIndex()} before and after it was marked as complete */
+        COMPLETE,
+        /** {@link #getTasks()} holds the completed tasks that were cleared, at {@link #getPositions()} */
+        CLEAR_COMPLETED,
+        /** {@link #getTasks()} holds every task that was cleared, in list order */
+        CLEAR_ALL,
+        /**
+         * {@link #getTasks()} holds the first {@link #getIndex()} tasks removed from {@link #getPositions()}
+         * in the list before the change, followed by the tasks put at {@link #getPositions()} in the list after it
+         */
+        BATCH
+    }
+
+    private final Type type;
+    private final int index;
+    private final Task[] tasks;
+    /** Positions of the tasks, ascending within the tasks removed and within the tasks put back */
+    private final int[] positions;
+
+    /**
+     * Creates a record from its parts, as returned by the getters of another record.
+     */
+    public UndoRecord(Type type, int index, Task[] tasks, int[] positions) {
+        assert type != null && tasks != null;
+        assert hasPositions(type) == (positions != null);
+        assert positions == null || positions.length == tasks.length;
+        assert type != Type.BATCH || (index >= 0 && index <= tasks.length);
+        this.type = type;
+        this.index = index;
+        this.tasks = tasks;
+        this.positions = positions;
+    }
+
+    public static UndoRecord added(Task addedTask, int index) {
+        return new UndoRecord(Type.ADD, index, new Task[] {addedTask}, null);
+    }
+
+    public static UndoRecord deleted(Task deletedTask, int index) {
+        return new UndoRecord(Type.DELETE, index, new Task[] {deletedTask}, null);
+    }
+
+    public static UndoRecord edited(Task taskBeforeEdit, Task taskAfterEdit, int index) {
+        return new UndoRecord(Type.EDIT, index, new Task[] {taskBeforeEdit, taskAfterEdit}, null);
+    }
+
+    public static UndoRecord completed(Task pendingTask, Task completedTask, int index) {
+        return new UndoRecord(Type.COMPLETE, index, new Task[] {pendingTask, completedTask}, null);
+    }
+
+    public static UndoRecord clearedCompleted(Task[] clearedTasks, int[] clearedPositions) {
+        return new UndoRecord(Type.CLEAR_COMPLETED, -1, clearedTasks, clearedPositions);
+    }
+
+    public static UndoRecord clearedAll(Task[] clearedTasks) {
+        return new UndoRecord(Type.CLEAR_ALL, -1, clearedTasks, null);
+    }
+
+    /**
+     * Creates a record of several changes made at once.
+     *
+     * @param removedTasks the tasks deleted or replaced, in list order
+     * @param removedPositions the position each removed task had in the list before the change
+     * @param insertedTasks the tasks added or put in place of others, in list order
+     * @param insertedPositions the position each inserted task has in the list after the change
+     */
+    public static UndoRecord batch(Task[] removedTasks, int[] removedPositions, Task[] insertedTasks,
+            int[] insertedPositions) {
+        Task[] tasks = Arrays.copyOf(removedTasks, removedTasks.length + insertedTasks.length);
+        System.arraycopy(insertedTasks, 0, tasks, removedTasks.length, insertedTasks.length);
+        int[] positions = Arrays.copyOf(removedPositions, tasks.length);
+        System.arraycopy(insertedPositions, 0, positions, removedPositions.length, insertedPositions.length);
+        return new UndoRecord(Type.BATCH, removedTasks.length, tasks, positions);
+    }
+
+    /**
+     * Returns whether records of the given type have positions.
+     */
+    public static boolean hasPositions(Type type) {
+        return type == Type.CLEAR_COMPLETED || type == Type.BATCH;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index of the changed task, the number of removed tasks for {@link Type#BATCH},
+     * or -1 for records of clears.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public List<ReadOnlyTask> getTasks() {
+        return Collections.unmodifiableList(Arrays.asList(tasks));
+    }
+
+    /**
+     * Returns the positions of the tasks for {@link Type#CLEAR_COMPLETED} and {@link Type#BATCH}, null otherwise.
+     */
+    public int[] getPositions() {
+        return positions == null ? null : positions.clone();
+    }
+
+    /**
+     * Reverses the change, given the list as the change left it.
+     */
+    void undo(UniqueTaskList list) throws DuplicateTaskException, TaskNotFoundException {
+        switch (type) {
+        case ADD:
+            list.remove(tasks[0]);
+            break;
+        case DELETE:
+            list.add(index, tasks[0]);
+            break;
+        case EDIT:
+        case COMPLETE:
+            checkTaskAt(list, index, tasks[1]);
+            list.edit(index, tasks[0]);
+            break;
+        case BATCH:
+            replaceTasks(list, index, tasks.length, 0, index);
+            break;
+        default:
+            replaceTasks(list, 0, 0, 0, tasks.length);
+        }
+    }
+
+    /**
+     * Reapplies the change, given the list as {@link #undo(UniqueTaskList)} left it.
+     */
+    void redo(UniqueTaskList list) throws DuplicateTaskException, TaskNotFoundException {
+        switch (type) {
+        case ADD:
+            list.add(index, tasks[0]);
+            break;
+        case DELETE:
+            list.remove(tasks[0]);
+            break;
+        case EDIT:
+        case COMPLETE:
+            checkTaskAt(list, index, tasks[0]);
+            list.edit(index, tasks[1]);
+            break;
+        case BATCH:
+            replaceTasks(list, 0, index, index, tasks.length);
+            break;
+        default:
+            replaceTasks(list, 0, tasks.length, 0, 0);
+        }
+    }
+
+    /**
+     * Checks that the list still has the given task at the given index, which it may not have
+     * if the list was reordered since the change was made.
+     */
+    private static void checkTaskAt(UniqueTaskList list, int index, Task expected) throws TaskNotFoundException {
+        if (index >= list.size() || !list.getTaskFromIndex(index).equals(expected)) {
+            throw new TaskNotFoundException();
+        }
+    }
+
+    /**
+     * Takes out the tasks in {@code [removeFrom, removeTo)} and puts in those in {@code [insertFrom, insertTo)}
+     * in a single change to the list.
+     *
+     * @throws TaskNotFoundException if a task to take out is not at its position
+     * @throws DuplicateTaskException if a task to put in is already in the list and not taken out
+     */
+    private void replaceTasks(UniqueTaskList list, int removeFrom, int removeTo, int insertFrom, int insertTo)
+            throws TaskNotFoundException, DuplicateTaskException {
+        List<Task> remainingTasks = removeTasks(list.getInternalList(), removeFrom, removeTo);
+        Set<Integer> removedPositions = new HashSet<>();
+        for (int i = removeFrom; i < removeTo; i++) {
+            removedPositions.add(positions == null ? i : positions[i]);
+        }
+        // the list bypasses its own checks when set whole, and may not be the one this record was made on
+        list.checkCanReplace(Arrays.asList(tasks).subList(insertFrom, insertTo), removedPositions);
+        list.getInternalList().setAll(insertTasks(remainingTasks, insertFrom, insertTo));
+    }
+
+    /**
+     * Returns the given tasks with the tasks in {@code [from, to)} put back at their positions.
+     */
+    private List<Task> insertTasks(List<Task> remainingTasks, int from, int to) {
+        List<Task> restoredTasks = new ArrayList<>(remainingTasks.size() + to - from);
+        int remainingIndex = 0;
+        for (int i = from; i < to; i++) {
+            int position = positions == null ? i : positions[i];
+            while (restoredTasks.size() < position && remainingIndex < remainingTasks.size()) {
+                restoredTasks.add(remainingTasks.get(remainingIndex++));
+            }
+            restoredTasks.add(tasks[i]);
+        }
+        restoredTasks.addAll(remainingTasks.subList(remainingIndex, remainingTasks.size()));
+        return restoredTasks;
+    }
+
+    /**
+     * Returns the given tasks without the tasks in {@code [from, to)}, taken from their positions.
+     *
+     * @throws TaskNotFoundException if a task is not at its position
+     */
+    private List<Task> removeTasks(List<Task> currentTasks, int from, int to) throws TaskNotFoundException {
+        List<Task> remainingTasks = new ArrayList<>(Math.max(currentTasks.size() - (to - from), 0));
+        int currentIndex = 0;
+        for (int i = from; i < to; i++) {
+            int position = positions == null ? i : positions[i];
+            if (position >= currentTasks.size() || !currentTasks.get(position).equals(tasks[i])) {
+                throw new TaskNotFoundException();
+            }
+            remainingTasks.addAll(currentTasks.subList(currentIndex, position));
+            currentIndex = position + 1;
+        }
+        remainingTasks.addAll(currentTasks.subList(currentIndex, currentTasks.size()));
+        return remainingTasks;
+    }
+
+    /**
+     * Describes the change as the command that made it.
+     */
+    String getDescription() {
+        switch (type) {
+        case ADD:
+            if (tasks[0].toString().equals(tasks[0].getUndoFormatString())) {
+                return "add " + tasks[0].getUndoFormatString();
+            }
+            return "add " + tasks[0].getName() + " " + tasks[0].getUndoFormatString();
+        case DELETE:
+            return "delete " + (index + 1);
+        case EDIT:
+            return "edit " + (index + 1) + " " + tasks[1].getUndoFormatString();
+        case COMPLETE:
+            return "complete " + (index + 1);
+        case CLEAR_COMPLETED:
+            return "clear";
+        case BATCH:
+            return "changes to " + Math.max(index, tasks.length - index) + " tasks";
+        default:
+            return "clear /a";
+        }
+    }
+}
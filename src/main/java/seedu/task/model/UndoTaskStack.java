@@ -1,272 +1,219 @@
 //@@author A0153658W
 package seedu.task.model;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.EmptyStackException;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Stack;
+import java.util.logging.Logger;
 
-import seedu.task.commons.core.Messages;
-import seedu.task.commons.exceptions.IllegalValueException;
-import seedu.task.logic.commands.CommandResult;
-import seedu.task.model.task.DeadlineTask;
-import seedu.task.model.task.EventTask;
-import seedu.task.model.task.Name;
-import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.commons.core.LogsCenter;
 import seedu.task.model.task.Task;
 import seedu.task.model.task.UniqueTaskList;
 import seedu.task.model.task.UniqueTaskList.DuplicateTaskException;
 import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
 
+/**
+ * The history of changes to the task list that can be undone, and of the undone changes that can be redone.
+ * Each change is kept as an {@link UndoRecord}, and only the most recent changes are kept.
+ *
+ * Changes to the undo history itself are handed out by {@link #takeChanges()}, so that it can be saved
+ * by appending to what was saved before. Redoing a change pushes its record again.
+ */
 public class UndoTaskStack {
-    private Stack<String> previousActionType = new Stack<>();
-    private Stack<Task> previousTask = new Stack<>();
-    private Stack<Integer> previousActionIndex = new Stack<>();
+    private static final Logger logger = LogsCenter.getLogger(UndoTaskStack.class);
 
-    private Stack<List<Task>> previousClearedTasks = new Stack<>();
-    private Stack<List<Integer>> previousClearedIndices = new Stack<>();
-    private Stack<List<String>> previousClearedStatus = new Stack<>();
+    /** The number of changes that can be undone by default */
+    public static final int DEFAULT_HISTORY_DEPTH = 100;
 
-    private static final int UNDO_FILLER_INDEX = -1;
+    /** Most recent change first */
+    private final Deque<UndoRecord> undoRecords = new ArrayDeque<>();
+    private final Deque<UndoRecord> redoRecords = new ArrayDeque<>();
+    private int historyDepth = DEFAULT_HISTORY_DEPTH;
 
-    private String previousActionUndoString;
+    /** Changes to the undo history that have not been handed out by {@link #takeChanges()} yet */
+    private List<UndoHistoryChange> pendingChanges = new ArrayList<>();
 
-    private static final String MESSAGE_NOTHING_TO_UNDO = "Nothing to undo.";
+    private String previousActionUndoString;
 
     public UndoTaskStack() {
     }
 
     /**
-     * Pushes the add command to the undo stack.
-     * 
-     * @params callingCommand, addedTask
-     * 
-     *         callingCommand will be "add"
-     *         addedTask is the task added 
-     *         targetIndex holds the index specified by the user that they added
-     **/
-    public void pushAddToUndoStack(String callingCommand, Task addedTask, int targetIndex) {
-        previousActionType.push(callingCommand);
-        previousActionIndex.push(UNDO_FILLER_INDEX);
-        previousTask.push(addedTask);
+     * Sets how many changes can be undone, forgetting the oldest changes beyond that.
+     */
+    public void setHistoryDepth(int historyDepth) {
+        assert historyDepth >= 0;
+        this.historyDepth = historyDepth;
+        while (undoRecords.size() > historyDepth) {
+            undoRecords.removeLast();
+        }
     }
 
     /**
-     * Pushes the delete command to the undo stack.
-     * 
-     * @params key, callingCommand, targetIndex
-     * 
-     *         key is the task that the user deleted 
-     *         callingCommand will be "delete" 
-     *         targetIndex holds the index specified by the user that they deleted or edited
-     **/
-    public void pushDeleteToUndoStack(ReadOnlyTask key, String callingCommand, int targetIndex) {
-        previousActionType.push(callingCommand);
-        previousActionIndex.push(targetIndex);
-
-        Class<? extends ReadOnlyTask> deletedTask = key.getClass();
+     * Records that the given task was added at the given index.
+     */
+    public void pushAddToUndoStack(Task addedTask, int targetIndex) {
+        push(UndoRecord.added(addedTask, targetIndex));
+    }
 
-        if (deletedTask.equals(DeadlineTask.class)) {
-            DeadlineTask deleted = new DeadlineTask(key.getName(), key.getEnd());
-            previousTask.push(deleted);
-        } else if (deletedTask.equals(EventTask.class)) {
-            EventTask deleted = new EventTask(key.getName(), key.getStart(), key.getEnd());
-            previousTask.push(deleted);
-        } else {
-            // deleted task must be a floating task
-            Task deleted = new Task(key.getName());
-            previousTask.push(deleted);
-        }
+    /**
+     * Records that the given task was deleted from the given index.
+     */
+    public void pushDeleteToUndoStack(Task deletedTask, int targetIndex) {
+        push(UndoRecord.deleted(deletedTask, targetIndex));
     }
 
     /**
-     * Pushes the edit command to the undo stack.
-     * 
-     * @params callingCommand, taskToEdit
-     * 
-     *         callingCommand will be "edit" taskToEdit is the task before it is
-     *         edited targetIndex holds the index of the task about to be edited
-     **/
-    public void pushEditToUndoStack(String callingCommand, Task taskToEdit, int targetIndex) {
-        previousActionType.push(callingCommand);
-        previousActionIndex.push(targetIndex);
-        previousTask.push(taskToEdit);
+     * Records that the task at the given index was replaced by an edited task.
+     */
+    public void pushEditToUndoStack(Task taskToEdit, Task resultTask, int targetIndex) {
+        push(UndoRecord.edited(taskToEdit, resultTask, targetIndex));
     }
 
     /**
-     * Pushes the complete command to the undo stack.
-     * 
-     * @params taskToComplete, callingCommand, targetIndex
-     * 
-     *         taskToComplete is the task marked for completion 
-     *         callingCommand will be "complete" 
-     *         targetIndex holds the index specified by the user to complete
-     **/
-    public void pushCompleteToUndoStack(Task taskToComplete, String callingCommand, int targetIndex) {
-        previousActionType.push(callingCommand);
-        previousActionIndex.push(targetIndex);
-        previousTask.push(taskToComplete);
+     * Records that the task at the given index was replaced by a copy marked as complete.
+     */
+    public void pushCompleteToUndoStack(Task pendingTask, Task completedTask, int targetIndex) {
+        push(UndoRecord.completed(pendingTask, completedTask, targetIndex));
     }
 
     /**
-     * Pushes the clear command to the undo stack.
-     * 
-     * @params clearedTasks, clearedTasksIndices, callingCommand
-     * 
-     *         clearedTasks is the set of tasks that were cleared
-     *         clearedTasksIndices is the set of indices corresponding to the
-     *         tasks cleared callingCommand is the command passed in (it'll
-     *         always be "clear")
-     * 
-     *         actionIndex will be -1; there is no index specified when clearing
-     *         a set of tasks, just pushing to keep the stacks balanced
-     **/
-    public void pushClearCompletedToUndoStack(List<Task> clearedTasks, List<Integer> clearedTaskIndices,
-            String callingCommand) {
-        previousActionType.push(callingCommand);
-        previousActionIndex.push(UNDO_FILLER_INDEX);
+     * Records that the completed tasks were cleared.
+     *
+     * @param clearedTasks the tasks that were cleared, in list order
+     * @param clearedPositions the position each cleared task had in the list
+     */
+    public void pushClearCompletedToUndoStack(Task[] clearedTasks, int[] clearedPositions) {
+        push(UndoRecord.clearedCompleted(clearedTasks, clearedPositions));
+    }
 
-        previousClearedTasks.push(clearedTasks);
-        previousClearedIndices.push(clearedTaskIndices);
-        try {
-            previousTask.push(new Task(new Name("filler")));
-        } catch (IllegalValueException e) {
-            assert false : "Task will always be pushed to task stack because it's hard coded";
-        }
+    /**
+     * Records that every task was cleared.
+     *
+     * @param clearedTasks all the tasks that were in the list, in list order
+     */
+    public void pushClearAllToUndoStack(Task[] clearedTasks) {
+        push(UndoRecord.clearedAll(clearedTasks));
     }
 
     /**
-     * Pushes the clear all command to the undo stack.
-     * 
-     * @params clearedTasks, clearedTasksIndices, callingCommand
-     * 
-     *         clearedTasks is the set of tasks that were cleared
-     *         clearedTasksIndices is the set of indices corresponding to each
-     *         tasks cleared clearedStatus is the set of statuses for each task
-     *         cleared callingCommand is the command passed in (it'll always be
-     *         "clear")
-     * 
-     *         actionIndex will be -1; there is no index specified when clearing
-     *         a set of tasks, just pushing to keep the stacks balanced
-     **/
-    public void pushClearAllToUndoStack(List<Task> clearedTasks, List<Integer> clearedTaskIndices,
-            List<String> clearedStatus, String callingCommand) {
-        previousActionType.push(callingCommand);
-        previousActionIndex.push(UNDO_FILLER_INDEX);
+     * Records that several tasks were changed at once.
+     *
+     * @param removedTasks the tasks deleted or replaced, in list order
+     * @param removedPositions the position each removed task had in the list before the change
+     * @param insertedTasks the tasks added or put in place of others, in list order
+     * @param insertedPositions the position each inserted task has in the list after the change
+     */
+    public void pushBatchToUndoStack(Task[] removedTasks, int[] removedPositions, Task[] insertedTasks,
+            int[] insertedPositions) {
+        push(UndoRecord.batch(removedTasks, removedPositions, insertedTasks, insertedPositions));
+    }
 
-        previousClearedTasks.push(clearedTasks);
-        previousClearedIndices.push(clearedTaskIndices);
-        previousClearedStatus.push(clearedStatus);
-        try {
-            previousTask.push(new Task(new Name("filler")));
-        } catch (IllegalValueException e) {
-            assert false : "Task will always be pushed to task stack because it's hard coded";
+    private void push(UndoRecord record) {
+        redoRecords.clear();
+        if (historyDepth == 0) {
+            return;
+        }
+        if (undoRecords.size() == historyDepth) {
+            undoRecords.removeLast();
         }
+        undoRecords.push(record);
+        recordChange(UndoHistoryChange.pushed(record));
     }
 
     /**
-     * Undo the previous action by popping off the stack
-     **/
-    public CommandResult undo(UniqueTaskList tasks) {
-        if (!previousTask.isEmpty()) {
-            Task userTask = previousTask.pop();
-            String userAction = previousActionType.pop();
-            int taskIndex = previousActionIndex.pop();
+     * Replaces the history with the given records, oldest first, such as those saved by an earlier session.
+     * Nothing can be redone afterwards.
+     */
+    public void restore(List<UndoRecord> records) {
+        undoRecords.clear();
+        redoRecords.clear();
+        for (UndoRecord record : records) {
+            undoRecords.push(record);
+        }
+        while (undoRecords.size() > historyDepth) {
+            undoRecords.removeLast();
+        }
+        pendingChanges.clear();
+    }
 
-            switch (userAction) {
-            // previous action was an add; delete the added task
-            case "add":
-                try {
-                    tasks.remove(userTask);
-                    if (userTask.toString().equals(userTask.getUndoFormatString())) {
-                        previousActionUndoString = userAction + " " + userTask.getUndoFormatString();
-                    } else {
-                        previousActionUndoString = userAction + " " + userTask.getName() + " "
-                                + userTask.getUndoFormatString();
-                    }
-                } catch (TaskNotFoundException e) {
-                    return new CommandResult(
-                            String.format(Messages.MESSAGE_TASK_NOT_FOUND, userTask.getUndoFormatString()));
-                }
-                break;
-            // previous action was a delete; add back the deleted task
-            case "delete":
-                try {
-                    tasks.add(taskIndex, userTask);
-                    previousActionUndoString = userAction + " " + (taskIndex + 1);
-                } catch (DuplicateTaskException e) {
-                    return new CommandResult(
-                            String.format(Messages.MESSAGE_DUPLICATE_TASK_FOUND, userTask.getUndoFormatString()));
-                }
-                break;
-            // previous action was an edit; set back the old task
-            case "edit":
-                try {
-                    Task temp = tasks.getTaskFromIndex(taskIndex);
-                    tasks.edit(taskIndex, userTask);
-                    previousActionUndoString = "edit" + " " + (taskIndex + 1) + " " + temp.getUndoFormatString();
-                } catch (TaskNotFoundException e) {
-                    return new CommandResult(
-                            String.format(Messages.MESSAGE_TASK_NOT_FOUND, userTask.getUndoFormatString()));
-                }
-                break;
-            // previous action was a complete; set the task back to pending
-            case "complete":
-                previousActionUndoString = userAction + " " + (taskIndex + 1);
-                userTask = tasks.getTaskFromIndex(taskIndex);
-                userTask.setPending();
-                break;
-            // previous action was a clear for completed tasks; add back the
-            // tasks that were completed
-            case "clear":
-                previousActionUndoString = userAction;
-                List<Task> lastCleared = previousClearedTasks.pop();
-                List<Integer> lastClearedIndices = previousClearedIndices.pop();
+    /**
+     * Returns the changes made to the undo history since the last call, oldest first.
+     */
+    public List<UndoHistoryChange> takeChanges() {
+        List<UndoHistoryChange> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        return changes;
+    }
 
-                for (int i = 0; i < lastCleared.size(); i++) {
-                    int indexToUnclear = lastClearedIndices.get(i);
-                    Task taskToUnclear = lastCleared.get(i);
-                    taskToUnclear.setComplete();
-                    try {
-                        tasks.add(indexToUnclear, taskToUnclear);
-                    } catch (DuplicateTaskException e) {
-                        return new CommandResult(
-                                String.format(Messages.MESSAGE_DUPLICATE_TASK_FOUND, userTask.getUndoFormatString()));
-                    }
-                }
-                break;
-            // previous action was a clear all regardless of status; add back
-            // the tasks that were cleared
-            case "clear all":
-                previousActionUndoString = "clear /a";
-                List<Task> lastClearedAll = previousClearedTasks.pop();
-                List<Integer> lastClearedAllIndices = previousClearedIndices.pop();
-                List<String> lastClearedStatuses = previousClearedStatus.pop();
+    /**
+     * Adds a pending change. Once more changes are pending than the history can hold twice over,
+     * they are replaced by the records of the history as it is now.
+     */
+    private void recordChange(UndoHistoryChange change) {
+        pendingChanges.add(change);
+        if (pendingChanges.size() > 2 * historyDepth + 1) {
+            pendingChanges.clear();
+            pendingChanges.add(UndoHistoryChange.cleared());
+            Iterator<UndoRecord> oldestFirst = undoRecords.descendingIterator();
+            while (oldestFirst.hasNext()) {
+                pendingChanges.add(UndoHistoryChange.pushed(oldestFirst.next()));
+            }
+        }
+    }
 
-                for (int i = 0; i < lastClearedAll.size(); i++) {
-                    int indexToUnclear = lastClearedAllIndices.get(i);
-                    Task taskToUnclear = lastClearedAll.get(i);
-                    String taskStatus = lastClearedStatuses.get(i);
-                    if (taskStatus.equals("Complete")) {
-                        taskToUnclear.setComplete();
-                    } else {
-                        taskToUnclear.setPending();
-                    }
+    /**
+     * Undoes the most recent change that has not been undone.
+     *
+     * @throws EmptyStackException if there is nothing to undo, or the change no longer fits the task list,
+     *             in which case the whole history is dropped
+     */
+    public void undo(UniqueTaskList tasks) {
+        if (undoRecords.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        UndoRecord record = undoRecords.pop();
+        try {
+            record.undo(tasks);
+        } catch (DuplicateTaskException | TaskNotFoundException | IndexOutOfBoundsException e) {
+            dropHistory(e);
+            throw new EmptyStackException();
+        }
+        recordChange(UndoHistoryChange.popped());
+        redoRecords.push(record);
+        previousActionUndoString = record.getDescription();
+    }
 
-                    try {
-                        tasks.add(indexToUnclear, taskToUnclear);
-                    } catch (DuplicateTaskException e) {
-                        return new CommandResult(
-                                String.format(Messages.MESSAGE_DUPLICATE_TASK_FOUND, userTask.getUndoFormatString()));
-                    }
-                }
-                break;
-            default:
-                System.out.println("Error occurred in undo stack");
-            }
-        } else {
+    /**
+     * Reapplies the most recently undone change.
+     *
+     * @throws EmptyStackException if nothing has been undone since the last change, or the change no longer
+     *             fits the task list, in which case the whole history is dropped
+     */
+    public void redo(UniqueTaskList tasks) {
+        if (redoRecords.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        UndoRecord record = redoRecords.pop();
+        try {
+            record.redo(tasks);
+        } catch (DuplicateTaskException | TaskNotFoundException | IndexOutOfBoundsException e) {
+            dropHistory(e);
             throw new EmptyStackException();
         }
-        return new CommandResult(MESSAGE_NOTHING_TO_UNDO);
+        undoRecords.push(record);
+        recordChange(UndoHistoryChange.pushed(record));
+        previousActionUndoString = record.getDescription();
+    }
+
+    private void dropHistory(Exception cause) {
+        logger.warning("Task list no longer matches the undo history, dropping it: " + cause);
+        undoRecords.clear();
+        redoRecords.clear();
+        recordChange(UndoHistoryChange.cleared());
     }
 
     /*
@@ -0,0 +1,190 @@
+package seedu.task.model;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A trie from words to values, which finds the words starting with a prefix, and the words within a
+ * number of edits of a given word, without visiting every word.
+ *
+ * A search for similar words fills in one row of the edit distance table per node, shared by every word
+ * below that node, and leaves out every node whose row shows it is already too far from the target.
+ */
+class WordTrie<V> {
+
+    private static final char[] NO_LETTERS = new char[0];
+
+    private final Node<V> root = new Node<>();
+
+    private static class Node<V> {
+        /** Letters leading to the children, in ascending order */
+        char[] letters = NO_LETTERS;
+        Node<V>[] children = newChildren(0);
+        /** The value of the word ending at this node, if any */
+        V value;
+
+        @SuppressWarnings("unchecked")
+        static <V> Node<V>[] newChildren(int size) {
+            return (Node<V>[]) new Node<?>[size];
+        }
+
+        Node<V> getChild(char letter) {
+            int index = Arrays.binarySearch(letters, letter);
+            return index < 0 ? null : children[index];
+        }
+
+        Node<V> getOrAddChild(char letter) {
+            int index = Arrays.binarySearch(letters, letter);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertionPoint = -index - 1;
+            char[] newLetters = new char[letters.length + 1];
+            Node<V>[] newChildren = newChildren(children.length + 1);
+            System.arraycopy(letters, 0, newLetters, 0, insertionPoint);
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+            System.arraycopy(letters, insertionPoint, newLetters, insertionPoint + 1, letters.length - insertionPoint);
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1,
+                    children.length - insertionPoint);
+            newLetters[insertionPoint] = letter;
+            newChildren[insertionPoint] = new Node<>();
+            letters = newLetters;
+            children = newChildren;
+            return newChildren[insertionPoint];
+        }
+
+        void removeChild(char letter) {
+            int index = Arrays.binarySearch(letters, letter);
+            char[] newLetters = new char[letters.length - 1];
+            Node<V>[] newChildren = newChildren(children.length - 1);
+            System.arraycopy(letters, 0, newLetters, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(letters, index + 1, newLetters, index, newLetters.length - index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            letters = newLetters;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return value == null && children.length == 0;
+        }
+    }
+
+    /**
+     * Sets the value of the given word.
+     */
+    void put(String word, V value) {
+        assert value != null;
+        Node<V> node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(word.charAt(i));
+        }
+        node.value = value;
+    }
+
+    /**
+     * Removes the given word and any nodes that only led to it.
+     */
+    void remove(String word) {
+        remove(root, word, 0);
+    }
+
+    private void remove(Node<V> node, String word, int depth) {
+        if (depth == word.length()) {
+            node.value = null;
+            return;
+        }
+        Node<V> child = node.getChild(word.charAt(depth));
+        if (child == null) {
+            return;
+        }
+        remove(child, word, depth + 1);
+        if (child.isEmpty()) {
+            node.removeChild(word.charAt(depth));
+        }
+    }
+
+    /**
+     * Calls {@code action} with the value of every word starting with the given prefix,
+     * and the number of letters the word has beyond the prefix.
+     */
+    void forEachWithPrefix(String prefix, ObjIntConsumer<V> action) {
+        Node<V> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.getChild(prefix.charAt(i));
+        }
+        if (node != null) {
+            forEachBelow(node, 0, action);
+        }
+    }
+
+    private void forEachBelow(Node<V> node, int depth, ObjIntConsumer<V> action) {
+        if (node.value != null) {
+            action.accept(node.value, depth);
+        }
+        for (Node<V> child : node.children) {
+            forEachBelow(child, depth + 1, action);
+        }
+    }
+
+    /**
+     * Calls {@code action} with the value of every word within {@code maxDistance} edits of {@code target},
+     * and the number of edits.
+     */
+    void forEachSimilar(String target, int maxDistance, ObjIntConsumer<V> action) {
+        forEachSimilarBelow(root, getFirstEditDistanceRow(target), target, maxDistance, action);
+    }
+
+    /**
+     * @param row the edit distances between the word leading to {@code node} and each prefix of {@code target}
+     */
+    private void forEachSimilarBelow(Node<V> node, int[] row, String target, int maxDistance,
+            ObjIntConsumer<V> action) {
+        if (node.value != null && row[target.length()] <= maxDistance) {
+            action.accept(node.value, row[target.length()]);
+        }
+        for (int i = 0; i < node.children.length; i++) {
+            int[] childRow = getNextEditDistanceRow(row, target, node.letters[i]);
+            if (getMinimum(childRow) <= maxDistance) {
+                forEachSimilarBelow(node.children[i], childRow, target, maxDistance, action);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of single letter insertions, deletions and substitutions that turn one string into the other.
+     */
+    static int computeEditDistance(String source, String target) {
+        int[] row = getFirstEditDistanceRow(target);
+        for (int i = 0; i < source.length(); i++) {
+            row = getNextEditDistanceRow(row, target, source.charAt(i));
+        }
+        return row[target.length()];
+    }
+
+    private static int[] getFirstEditDistanceRow(String target) {
+        int[] row = new int[target.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        return row;
+    }
+
+    private static int[] getNextEditDistanceRow(int[] previousRow, String target, char letter) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int substitutionCost = target.charAt(j - 1) == letter ? 0 : 1;
+            row[j] = Math.min(Math.min(previousRow[j] + 1, row[j - 1] + 1), previousRow[j - 1] + substitutionCost);
+        }
+        return row;
+    }
+
+    private static int getMinimum(int[] row) {
+        int minimum = row[0];
+        for (int value : row) {
+            minimum = Math.min(minimum, value);
+        }
+        return minimum;
+    }
+}
@@ -33,6 +33,11 @@ public class DeadlineTask extends Task{
 		this.endDate = newEndDate;
 	}
 	
+	@Override
+	public DeadlineTask withStatus(Status newStatus) {
+	    return new DeadlineTask(getName(), endDate, newStatus);
+	}
+
 	@Override
     public String toString() {
 	    StringBuilder sb = new StringBuilder();
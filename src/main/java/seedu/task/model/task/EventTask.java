@@ -43,6 +43,11 @@ public class EventTask extends Task {
         this.endDate = newEndDate;
     }
 
+    @Override
+    public EventTask withStatus(Status newStatus) {
+        return new EventTask(getName(), startDate, endDate, newStatus);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -101,6 +101,13 @@ public class Task implements ReadOnlyTask {
     	status.setPending();
     }
     
+    /**
+     * Returns a copy of this task with the given status.
+     */
+    public Task withStatus(Status newStatus) {
+        return new Task(name, newStatus);
+    }
+
     /**
      * Get proper formatted string to display for undo message success
      * @return
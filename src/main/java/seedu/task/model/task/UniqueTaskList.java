@@ -2,6 +2,7 @@
 package seedu.task.model.task;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.task.commons.exceptions.DuplicateDataException;
 import seedu.task.commons.util.CollectionUtil;
@@ -12,6 +13,8 @@ import java.util.*;
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * Lookups by task are answered from a hash index that is kept in sync with the
+ * observable list, so duplicate checks and index lookups do not scan the list.
  *
  * @see Task#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -45,19 +48,42 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public static class NoCompletedTasksFoundException extends Exception {}
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Task> internalList;
+
+    /**
+     * Tasks in the list grouped by name. Every task equivalent to a given task shares its name,
+     * so only the tasks in one bucket need to be compared.
+     */
+    private final Map<Name, List<Task>> nameIndex;
+
+    /**
+     * Position of each task in the list, keyed by identity.
+     */
+    private final Map<Task, Integer> positions;
 
     /**
      * Constructs empty TaskList.
      */
-    public UniqueTaskList() {}
+    public UniqueTaskList() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty TaskList with room for the given number of tasks.
+     */
+    public UniqueTaskList(int expectedSize) {
+        internalList = FXCollections.observableList(new ArrayList<>(expectedSize));
+        nameIndex = new HashMap<>(Math.max(16, expectedSize * 4 / 3 + 1));
+        positions = new IdentityHashMap<>(expectedSize);
+        internalList.addListener(this::updateIndex);
+    }
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(ReadOnlyTask toCheck) {
         assert toCheck != null;
-        return internalList.contains(toCheck);
+        return indexOf(toCheck) != -1;
     }
 
     /**
@@ -93,11 +119,12 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean remove(ReadOnlyTask toRemove) throws TaskNotFoundException {
         assert toRemove != null;
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
-        if (!taskFoundAndDeleted) {
+        final int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
-        return taskFoundAndDeleted;
+        internalList.remove(index);
+        return true;
     }
     
     /**
@@ -121,9 +148,62 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns the index of the given task.
      */
     public int getIndex(ReadOnlyTask target) throws TaskNotFoundException{
-    	return internalList.indexOf(target);
+    	return indexOf(target);
     }
     
+    /**
+     * Returns the position of the given task, which must be in the list, without comparing it to other tasks.
+     * Listeners of the internal list added after this list was created see positions that are already
+     * up to date with the change they are notified of.
+     */
+    public int getPosition(Task task) {
+        Integer position = positions.get(task);
+        assert position != null;
+        return position;
+    }
+
+    /**
+     * Returns the tasks that the current step of the given change both removes and adds back, by identity,
+     * such as the tasks that stay when the whole list is replaced, as clearing completed tasks does.
+     * Listeners keeping an index of the tasks can leave these as they are.
+     */
+    public static Set<Task> getKeptTasks(ListChangeListener.Change<? extends Task> change) {
+        if (change.getRemovedSize() == 0 || change.getAddedSize() == 0
+                || change.getRemovedSize() + change.getAddedSize() <= 2) {
+            return Collections.emptySet();
+        }
+        Set<Task> removedTasks = Collections.newSetFromMap(new IdentityHashMap<>(change.getRemovedSize()));
+        removedTasks.addAll(change.getRemoved());
+        Set<Task> keptTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Task added : change.getAddedSubList()) {
+            if (removedTasks.contains(added)) {
+                keptTasks.add(added);
+            }
+        }
+        return keptTasks;
+    }
+
+    /**
+     * Returns the index of the first task in {@code subsequence}, which holds tasks of this list in list order,
+     * that is at or after the given position. {@code task} is taken to be at that position even if it has
+     * just left the list, so that it can be found in a subsequence that has not caught up with the list yet.
+     */
+    public int findPositionIn(List<Task> subsequence, int position, Task task) {
+        int low = 0;
+        int high = subsequence.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Task candidate = subsequence.get(middle);
+            int candidatePosition = candidate == task ? position : getPosition(candidate);
+            if (candidatePosition < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     /**
      * Replaces the task in the list at the given index
      * 
@@ -137,6 +217,24 @@ public class UniqueTaskList implements Iterable<Task> {
         internalList.set(index, editTo);
     }
     
+    /**
+     * Checks that the list would stay unique if the given tasks were added to it,
+     * in place of the tasks at the given positions.
+     *
+     * @throws DuplicateTaskException if a new task equals another new task or a task that is not replaced
+     */
+    public void checkCanReplace(Collection<Task> newTasks, Set<Integer> replacedPositions)
+            throws DuplicateTaskException {
+        Set<Task> checkedTasks = new HashSet<>();
+        for (Task newTask : newTasks) {
+            assert newTask != null;
+            int existingIndex = indexOf(newTask);
+            if (!checkedTasks.add(newTask) || (existingIndex != -1 && !replacedPositions.contains(existingIndex))) {
+                throw new DuplicateTaskException();
+            }
+        }
+    }
+
     /**
      * Returns the size of the list.
      */
@@ -156,6 +254,68 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList;
     }
 
+    /**
+     * Returns the index of the first task in the list that the given task is equal to,
+     * or -1 if there is no such task. Mirrors {@link List#indexOf(Object)}.
+     */
+    private int indexOf(ReadOnlyTask target) {
+        List<Task> candidates = nameIndex.get(target.getName());
+        if (candidates == null) {
+            return -1;
+        }
+        int index = -1;
+        for (Task candidate : candidates) {
+            int position = positions.get(candidate);
+            if (target.equals(candidate) && (index == -1 || position < index)) {
+                index = position;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Brings the index up to date after a change to the internal list.
+     * Only tasks at or after the first position where tasks were added or removed need their positions
+     * refreshed. Replacing tasks, as editing or completing a task does, moves no other task.
+     */
+    private void updateIndex(ListChangeListener.Change<? extends Task> change) {
+        int firstShiftedIndex = internalList.size();
+        while (change.next()) {
+            Set<Task> keptTasks = getKeptTasks(change);
+            for (Task removed : change.getRemoved()) {
+                if (!keptTasks.contains(removed)) {
+                    removeFromIndex(removed);
+                }
+            }
+            if (change.wasAdded()) {
+                for (Task added : change.getAddedSubList()) {
+                    if (!keptTasks.contains(added)) {
+                        nameIndex.computeIfAbsent(added.getName(), name -> new ArrayList<>(1)).add(added);
+                    }
+                }
+            }
+            if (change.wasPermutated() || change.getRemovedSize() != change.getAddedSize()) {
+                firstShiftedIndex = Math.min(firstShiftedIndex, change.getFrom());
+            } else {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    positions.put(internalList.get(i), i);
+                }
+            }
+        }
+        for (int i = firstShiftedIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    private void removeFromIndex(Task task) {
+        positions.remove(task);
+        List<Task> bucket = nameIndex.get(task.getName());
+        bucket.removeIf(candidate -> candidate == task);
+        if (bucket.isEmpty()) {
+            nameIndex.remove(task.getName());
+        }
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
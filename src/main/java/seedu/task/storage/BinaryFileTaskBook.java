@@ -0,0 +1,286 @@
+package seedu.task.storage;
+
+import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.exceptions.IllegalValueException;
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.task.DeadlineTask;
+import seedu.task.model.task.EventTask;
+import seedu.task.model.task.Name;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Status;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.TaskDate;
+import seedu.task.model.task.UniqueTaskList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A task book backed by the contents of a binary task book file.
+ *
+ * The file is read into memory whole and closed straight away, so nothing keeps it open and the
+ * next save can replace it on any platform. Reading it only checks that the contents are laid out
+ * correctly and notes where each name and task record starts. {@link #getTaskList()} is a view whose
+ * tasks are decoded from the contents as they are accessed, and each name is decoded at most once.
+ * Only {@link #getUniqueTaskList()} creates a {@link Task} for every record, which is how the model
+ * is loaded.
+ */
+class BinaryFileTaskBook implements ReadOnlyTaskBook {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFileTaskBook.class);
+
+    private static final int VERSION_OFFSET = 4;
+    private static final int TASK_COUNT_OFFSET = 8;
+    private static final int NAME_COUNT_OFFSET = 12;
+    private static final int HEADER_SIZE = 16;
+    /** Offset of the flags byte in a task record, after the name index */
+    private static final int FLAGS_OFFSET = 4;
+    private static final int NAME_LENGTH_SIZE = 4;
+    private static final int RECORD_FIXED_SIZE = 5;
+    private static final int DATE_SIZE = 8;
+    private static final int SECONDS_PER_MINUTE = 60;
+    /** The largest array the JVM can allocate */
+    private static final long MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+    private static final long MIN_EPOCH_MINUTE = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    private static final long MAX_EPOCH_MINUTE = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+
+    private final ByteBuffer buffer;
+    /** Where each name starts in the file, followed by where the name table ends */
+    private final int[] nameOffsets;
+    private final int[] recordOffsets;
+    /** Names decoded so far, by index in the name table */
+    private final Name[] names;
+
+    private BinaryFileTaskBook(ByteBuffer buffer, int[] nameOffsets, int[] recordOffsets) {
+        this.buffer = buffer;
+        this.nameOffsets = nameOffsets;
+        this.recordOffsets = recordOffsets;
+        this.names = new Name[nameOffsets.length - 1];
+    }
+
+    /**
+     * Reads the given binary task book file into memory.
+     * @throws DataConversionException if the file is not laid out as a binary task book.
+     */
+    static BinaryFileTaskBook read(File file) throws IOException, DataConversionException {
+        if (Files.size(file.toPath()) > MAX_FILE_SIZE) {
+            throw new DataConversionException(new IllegalValueException("Task book file is too large"));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        try {
+            int[] nameOffsets = readNameOffsets(buffer);
+            return new BinaryFileTaskBook(buffer, nameOffsets, readRecordOffsets(buffer, nameOffsets));
+        } catch (IndexOutOfBoundsException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns where each name in the name table starts, followed by where the table ends.
+     */
+    private static int[] readNameOffsets(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.getInt(0) != BinaryTaskBookStorage.MAGIC_NUMBER) {
+            throw new IllegalValueException("Not a task book file");
+        }
+        int version = buffer.getInt(VERSION_OFFSET);
+        if (version != BinaryTaskBookStorage.FORMAT_VERSION) {
+            throw new IllegalValueException("Unsupported task book file version: " + version);
+        }
+        int nameCount = buffer.getInt(NAME_COUNT_OFFSET);
+        // every name takes at least its length, so a larger count cannot fit in the file
+        if (getTaskCount(buffer) < 0 || nameCount < 0
+                || nameCount > (buffer.limit() - HEADER_SIZE) / NAME_LENGTH_SIZE) {
+            throw new IllegalValueException("Corrupted task book file header");
+        }
+
+        int[] nameOffsets = new int[nameCount + 1];
+        int offset = HEADER_SIZE;
+        for (int i = 0; i < nameCount; i++) {
+            int length = buffer.getInt(offset);
+            if (length < 0 || length > buffer.limit() - offset - NAME_LENGTH_SIZE) {
+                throw new IllegalValueException("Corrupted task name");
+            }
+            nameOffsets[i] = offset;
+            offset += NAME_LENGTH_SIZE + length;
+        }
+        nameOffsets[nameCount] = offset;
+        return nameOffsets;
+    }
+
+    private static int[] readRecordOffsets(ByteBuffer buffer, int[] nameOffsets) throws IllegalValueException {
+        int nameCount = nameOffsets.length - 1;
+        int offset = nameOffsets[nameCount];
+        // every record takes at least its fixed size, so a larger count cannot fit in the file
+        if (getTaskCount(buffer) > (buffer.limit() - offset) / RECORD_FIXED_SIZE) {
+            throw new IllegalValueException("Corrupted task book file header");
+        }
+        int[] recordOffsets = new int[getTaskCount(buffer)];
+        for (int i = 0; i < recordOffsets.length; i++) {
+            int nameIndex = buffer.getInt(offset);
+            if (nameIndex < 0 || nameIndex >= nameCount) {
+                throw new IllegalValueException("Corrupted task record");
+            }
+            recordOffsets[i] = offset;
+            int dateCount = Integer.bitCount(buffer.get(offset + FLAGS_OFFSET)
+                    & (BinaryTaskBookStorage.FLAG_HAS_START | BinaryTaskBookStorage.FLAG_HAS_END));
+            offset += RECORD_FIXED_SIZE;
+            for (int j = 0; j < dateCount; j++) {
+                // checked here so that decoding a task later cannot fail on its dates
+                checkEpochMinute(buffer.getLong(offset));
+                offset += DATE_SIZE;
+            }
+        }
+        if (offset != buffer.limit()) {
+            throw new IllegalValueException("Corrupted task book file length");
+        }
+        return recordOffsets;
+    }
+
+    private static int getTaskCount(ByteBuffer buffer) {
+        return buffer.getInt(TASK_COUNT_OFFSET);
+    }
+
+    /**
+     * Returns a view of the tasks in the file, which are decoded as they are accessed.
+     * @throws IllegalStateException on access to a task whose name in the file is not a valid name.
+     */
+    @Override
+    public List<ReadOnlyTask> getTaskList() {
+        return new AbstractList<ReadOnlyTask>() {
+            @Override
+            public ReadOnlyTask get(int index) {
+                return new RecordTask(recordOffsets[index]);
+            }
+
+            @Override
+            public int size() {
+                return recordOffsets.length;
+            }
+        };
+    }
+
+    /**
+     * Decodes every task in the file into a new list.
+     * Tasks that are invalid or duplicated are skipped, as when loading an xml file.
+     */
+    @Override
+    public UniqueTaskList getUniqueTaskList() {
+        UniqueTaskList tasks = new UniqueTaskList(recordOffsets.length);
+        for (int recordOffset : recordOffsets) {
+            try {
+                tasks.add(new RecordTask(recordOffset).toModelType());
+            } catch (IllegalValueException | IllegalStateException e) {
+                logger.warning("Skipping task that cannot be loaded: " + e.getMessage());
+            }
+        }
+        return tasks;
+    }
+
+    private Name getName(int nameIndex) {
+        Name name = names[nameIndex];
+        if (name == null) {
+            int offset = nameOffsets[nameIndex];
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            ByteBuffer nameBuffer = buffer.duplicate();
+            nameBuffer.position(offset + NAME_LENGTH_SIZE);
+            nameBuffer.get(bytes);
+            try {
+                name = new Name(new String(bytes, StandardCharsets.UTF_8));
+            } catch (IllegalValueException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            names[nameIndex] = name;
+        }
+        return name;
+    }
+
+    /**
+     * A task read straight from its record in the file's contents.
+     */
+    private class RecordTask implements ReadOnlyTask {
+
+        private final int offset;
+
+        RecordTask(int offset) {
+            this.offset = offset;
+        }
+
+        private int getFlags() {
+            return buffer.get(offset + FLAGS_OFFSET);
+        }
+
+        private boolean hasFlag(int flag) {
+            return (getFlags() & flag) != 0;
+        }
+
+        @Override
+        public Name getName() {
+            return BinaryFileTaskBook.this.getName(buffer.getInt(offset));
+        }
+
+        @Override
+        public TaskDate getStart() {
+            if (!hasFlag(BinaryTaskBookStorage.FLAG_HAS_START)) {
+                return null;
+            }
+            return toTaskDate(buffer.getLong(offset + RECORD_FIXED_SIZE));
+        }
+
+        @Override
+        public TaskDate getEnd() {
+            if (!hasFlag(BinaryTaskBookStorage.FLAG_HAS_END)) {
+                return null;
+            }
+            int datesBefore = hasFlag(BinaryTaskBookStorage.FLAG_HAS_START) ? 1 : 0;
+            return toTaskDate(buffer.getLong(offset + RECORD_FIXED_SIZE + DATE_SIZE * datesBefore));
+        }
+
+        @Override
+        public Status getStatus() {
+            return new Status(hasFlag(BinaryTaskBookStorage.FLAG_COMPLETE));
+        }
+
+        /**
+         * Creates the task of the right type for the dates it has, in the same way as {@link XmlAdaptedTask}.
+         */
+        Task toModelType() {
+            Name name = getName();
+            TaskDate start = getStart();
+            TaskDate end = getEnd();
+            if (start != null && end != null) {
+                return new EventTask(name, start, end, getStatus());
+            }
+            if (end != null) {
+                return new DeadlineTask(name, end, getStatus());
+            }
+            return new Task(name, getStatus());
+        }
+
+        @Override
+        public String toString() {
+            return getAsText();
+        }
+    }
+
+    /**
+     * @throws IllegalValueException if the given minute is outside the dates a task can have.
+     */
+    static void checkEpochMinute(long epochMinute) throws IllegalValueException {
+        if (epochMinute < MIN_EPOCH_MINUTE || epochMinute > MAX_EPOCH_MINUTE) {
+            throw new IllegalValueException("Corrupted task date");
+        }
+    }
+
+    static TaskDate toTaskDate(long epochMinute) {
+        return new TaskDate(LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC));
+    }
+}
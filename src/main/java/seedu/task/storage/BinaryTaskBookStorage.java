@@ -0,0 +1,164 @@
+package seedu.task.storage;
+
+import seedu.task.commons.core.Config.SyncPolicy;
+import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.util.FileUtil;
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.TaskDate;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * A class to access TaskBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a header holding a magic number, the format version, the number of tasks
+ * and the number of distinct names. The names follow, each stored once, and then one record per
+ * task: the index of its name, a flags byte, and its dates as minutes since the epoch.
+ * Reading it needs no xml parsing and no date formatting, and the list can be sized up front.
+ * The file is read into memory whole and decoded from there, see {@link BinaryFileTaskBook}.
+ */
+public class BinaryTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskBookStorage.class);
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    /** "STBK" */
+    static final int MAGIC_NUMBER = 0x5354424B;
+    static final int FORMAT_VERSION = 1;
+
+    static final int FLAG_COMPLETE = 1;
+    static final int FLAG_HAS_START = 1 << 1;
+    static final int FLAG_HAS_END = 1 << 2;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private String filePath;
+    private final SyncTracker syncTracker;
+
+    public BinaryTaskBookStorage(String filePath) {
+        this(filePath, SyncPolicy.ALWAYS);
+    }
+
+    public BinaryTaskBookStorage(String filePath, SyncPolicy syncPolicy) {
+        this.filePath = filePath;
+        this.syncTracker = new SyncTracker(syncPolicy);
+    }
+
+    @Override
+    public String getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File taskBookFile = new File(filePath);
+        if (!taskBookFile.exists()) {
+            logger.info("TaskBook file " + taskBookFile + " not found");
+            return Optional.empty();
+        }
+
+        return Optional.of(BinaryFileTaskBook.read(taskBookFile));
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException {
+        assert taskBook != null;
+        assert filePath != null;
+
+        List<ReadOnlyTask> tasks = taskBook.getTaskList();
+        Map<String, Integer> nameIndexes = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        for (ReadOnlyTask task : tasks) {
+            String name = task.getName().fullName;
+            if (!nameIndexes.containsKey(name)) {
+                nameIndexes.put(name, names.size());
+                names.add(name);
+            }
+        }
+
+        File file = new File(filePath);
+        FileUtil.writeToFileAtomically(file, syncTracker.isSyncDue(file), stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(tasks.size());
+            out.writeInt(names.size());
+            for (String name : names) {
+                writeString(out, name);
+            }
+            for (ReadOnlyTask task : tasks) {
+                out.writeInt(nameIndexes.get(task.getName().fullName));
+                out.writeByte(getFlags(task));
+                if (task.getStart() != null) {
+                    out.writeLong(toEpochMinute(task.getStart()));
+                }
+                if (task.getEnd() != null) {
+                    out.writeLong(toEpochMinute(task.getEnd()));
+                }
+            }
+            out.flush();
+        });
+    }
+
+    static int getFlags(ReadOnlyTask task) {
+        int flags = 0;
+        if (task.getStatus().isComplete()) {
+            flags |= FLAG_COMPLETE;
+        }
+        if (task.getStart() != null) {
+            flags |= FLAG_HAS_START;
+        }
+        if (task.getEnd() != null) {
+            flags |= FLAG_HAS_END;
+        }
+        return flags;
+    }
+
+    /**
+     * Task dates carry no time zone, so they are counted from the epoch as if they were in UTC.
+     * Seconds are dropped, as they are when dates are saved as xml.
+     */
+    static long toEpochMinute(TaskDate date) {
+        return Math.floorDiv(date.getTaskDate().toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,277 @@
+package seedu.task.storage;
+
+import seedu.task.commons.core.Config.SyncPolicy;
+import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.exceptions.IllegalValueException;
+import seedu.task.commons.util.DateUtil;
+import seedu.task.commons.util.FileUtil;
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.TaskBook;
+import seedu.task.model.TaskListChange;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.UniqueTaskList;
+import seedu.task.model.task.UniqueTaskList.TaskNotFoundException;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * A class to access TaskBook data stored as a snapshot on the hard disk, plus a journal
+ * of the changes made since the snapshot was written.
+ *
+ * Saving changes appends one short record per change to the journal, so its cost does not depend
+ * on the size of the task book. The journal is compacted into a new snapshot once it holds more
+ * records than there are tasks, which keeps both replay time and the amortised save cost low.
+ * The journal starts with a checksum of the snapshot it applies to, so a journal left behind by an
+ * interrupted compaction is ignored rather than replayed onto the wrong snapshot.
+ */
+public class JournalTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskBookStorage.class);
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** The journal is never compacted before it holds this many records */
+    public static final int MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    private static final String JOURNAL_HEADER_PREFIX = "TASKBOOK-JOURNAL 1 ";
+    private static final String RECORD_ADD = "A";
+    private static final String RECORD_REMOVE = "R";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String RECORD_SEPARATOR = "\n";
+
+    private final TaskBookStorage snapshotStorage;
+
+    /** Number of records in the journal of this storage's file */
+    private int journalRecordCount;
+
+    /** True once the journal of this storage's file is known to apply to the snapshot on disk */
+    private boolean isJournalInSync;
+
+    private final SyncTracker syncTracker;
+
+    public JournalTaskBookStorage(String filePath) {
+        this(filePath, SyncPolicy.ALWAYS);
+    }
+
+    public JournalTaskBookStorage(String filePath, SyncPolicy syncPolicy) {
+        this(new XmlTaskBookStorage(filePath, syncPolicy), syncPolicy);
+    }
+
+    /**
+     * Creates a journal for the snapshots kept by the given storage, which must not be a journal itself.
+     */
+    public JournalTaskBookStorage(TaskBookStorage snapshotStorage, SyncPolicy syncPolicy) {
+        assert !(snapshotStorage instanceof JournalTaskBookStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.syncTracker = new SyncTracker(syncPolicy);
+    }
+
+    @Override
+    public String getTaskBookFilePath() {
+        return snapshotStorage.getTaskBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}
+     * Reads the snapshot in the given file and replays its journal, if there is one.
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        Optional<ReadOnlyTaskBook> snapshot = snapshotStorage.readTaskBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        UniqueTaskList tasks = snapshot.get().getUniqueTaskList();
+        List<String> lines = readJournalLines(new File(filePath));
+        // the last line is either empty or a record cut short by a crash during an append
+        List<String> records = lines.isEmpty() ? lines : lines.subList(0, lines.size() - 1);
+        for (String record : records) {
+            replay(record, tasks);
+        }
+
+        if (filePath.equals(getTaskBookFilePath())) {
+            // appending after an incomplete record would corrupt the next one, so compact instead
+            isJournalInSync = !lines.isEmpty() && lines.get(lines.size() - 1).isEmpty();
+            journalRecordCount = records.size();
+        }
+        return Optional.of(new TaskBook(tasks));
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}
+     * Writes a new snapshot to the given file and starts an empty journal for it.
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException {
+        assert taskBook != null;
+        assert filePath != null;
+
+        File snapshotFile = new File(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            isJournalInSync = false;
+        }
+        snapshotStorage.saveTaskBook(taskBook, filePath);
+        byte[] header = (JOURNAL_HEADER_PREFIX + computeChecksum(snapshotFile) + RECORD_SEPARATOR)
+                .getBytes(StandardCharsets.UTF_8);
+        File journalFile = getJournalFile(snapshotFile);
+        FileUtil.writeToFileAtomically(journalFile, syncTracker.isSyncDue(journalFile), out -> out.write(header));
+
+        if (filePath.equals(getTaskBookFilePath())) {
+            isJournalInSync = true;
+            journalRecordCount = 0;
+        }
+    }
+
+    /**
+     * Appends the given changes to the journal, or compacts the journal into a new snapshot of
+     * {@code taskBook} if it has grown large or the changes cannot be described record by record.
+     */
+    @Override
+    public void saveTaskBookChanges(ReadOnlyTaskBook taskBook, List<TaskListChange> changes) throws IOException {
+        assert taskBook != null;
+        assert changes != null;
+
+        if (!isJournalInSync || hasReset(changes) || isCompactionDue(taskBook, changes.size())) {
+            logger.fine("Compacting task book journal into a new snapshot");
+            saveTaskBook(taskBook);
+            return;
+        }
+
+        File journalFile = getJournalFile(new File(getTaskBookFilePath()));
+        // a failed append may leave the journal behind the task book, so compact on the next save
+        isJournalInSync = false;
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.APPEND)) {
+            Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1));
+            for (TaskListChange change : changes) {
+                writer.write(toRecord(change));
+                writer.write(RECORD_SEPARATOR);
+            }
+            writer.flush();
+            if (syncTracker.isSyncDue(journalFile)) {
+                channel.force(false);
+            }
+        }
+        journalRecordCount += changes.size();
+        isJournalInSync = true;
+    }
+
+    private boolean isCompactionDue(ReadOnlyTaskBook taskBook, int numberOfNewRecords) {
+        int compactionThreshold = Math.max(MIN_RECORDS_BEFORE_COMPACTION, taskBook.getTaskList().size());
+        return journalRecordCount + numberOfNewRecords > compactionThreshold;
+    }
+
+    private boolean hasReset(List<TaskListChange> changes) {
+        return changes.stream().anyMatch(change -> change.getType() == TaskListChange.Type.RESET);
+    }
+
+    /**
+     * Returns the journal file that belongs to the given snapshot file.
+     */
+    public static File getJournalFile(File snapshotFile) {
+        return new File(snapshotFile.getPath() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the lines of the journal of the given snapshot after its header, or an empty list
+     * if there is no journal or it was written for a different snapshot.
+     */
+    private List<String> readJournalLines(File snapshotFile) throws IOException {
+        File journalFile = getJournalFile(snapshotFile);
+        if (!FileUtil.isFileExists(journalFile)) {
+            return Collections.emptyList();
+        }
+
+        String content = FileUtil.readFromFile(journalFile);
+        List<String> lines = Arrays.asList(content.split(RECORD_SEPARATOR, -1));
+        String expectedHeader = JOURNAL_HEADER_PREFIX + computeChecksum(snapshotFile);
+        if (!lines.get(0).equals(expectedHeader)) {
+            logger.warning("Journal " + journalFile + " does not belong to the current snapshot, ignoring it");
+            return Collections.emptyList();
+        }
+        return lines.subList(1, lines.size());
+    }
+
+    /**
+     * Applies a single journal record to the given list.
+     * @throws DataConversionException if the record is not in the correct format.
+     */
+    private void replay(String record, UniqueTaskList tasks) throws DataConversionException {
+        String[] fields = record.split(FIELD_SEPARATOR, -1);
+        try {
+            int index = Integer.parseInt(fields[1]);
+            switch (fields[0]) {
+            case RECORD_ADD:
+                tasks.add(index, new XmlAdaptedTask(fields[2], fields[3], fields[4], fields[5]).toModelType());
+                break;
+            case RECORD_REMOVE:
+                tasks.remove(tasks.getTaskFromIndex(index));
+                break;
+            default:
+                throw new IllegalValueException("Unknown journal record: " + record);
+            }
+        } catch (IllegalValueException | TaskNotFoundException
+                | NumberFormatException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private String toRecord(TaskListChange change) {
+        switch (change.getType()) {
+        case ADD:
+            ReadOnlyTask task = change.getTask();
+            return String.join(FIELD_SEPARATOR, RECORD_ADD, String.valueOf(change.getIndex()),
+                    task.getName().fullName,
+                    DateUtil.convertTaskDateToJaxbString(task.getStart()),
+                    DateUtil.convertTaskDateToJaxbString(task.getEnd()),
+                    task.getStatus().toString());
+        case REMOVE:
+            return String.join(FIELD_SEPARATOR, RECORD_REMOVE, String.valueOf(change.getIndex()));
+        default:
+            throw new AssertionError("Resets are never written to the journal");
+        }
+    }
+
+    private static String computeChecksum(File file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new FileInputStream(file)) {
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, bytesRead);
+            }
+        }
+        return Long.toHexString(checksum.getValue());
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.task.storage;
+
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.UniqueTaskList;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A task book read from a file. Hands over its task list instead of a copy,
+ * since nothing else holds on to it.
+ */
+class LoadedTaskBook implements ReadOnlyTaskBook {
+
+    private final UniqueTaskList tasks;
+
+    LoadedTaskBook(UniqueTaskList tasks) {
+        this.tasks = tasks;
+    }
+
+    @Override
+    public UniqueTaskList getUniqueTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public List<ReadOnlyTask> getTaskList() {
+        return Collections.unmodifiableList(tasks.getInternalList());
+    }
+}
@@ -5,9 +5,11 @@ import seedu.task.commons.events.storage.DataSavingExceptionEvent;
 import seedu.task.commons.events.storage.StorageFilePathChangedEvent;
 import seedu.task.commons.exceptions.DataConversionException;
 import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.UndoRecord;
 import seedu.task.model.UserPrefs;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,11 +33,23 @@ public interface Storage extends TaskBookStorage, UserPrefsStorage {
     void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException;
 
     /**
-     * Saves the current version of the Task Book to the hard disk.
+     * Returns the undo history saved with the Task Book, oldest record first.
+     * @throws DataConversionException if the undo history file is not in the correct format.
+     */
+    List<UndoRecord> readUndoHistory() throws DataConversionException, IOException;
+
+    /**
+     * Saves the current version of the Task Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTaskBookChangedEvent(TaskBookChangedEvent abce);
+
+    /**
+     * Blocks until every change reported so far has been written to the hard disk, and forced to the
+     * storage device if the sync policy deferred that.
+     */
+    void flushTaskBookSaves();
     
     /**
      * Saves the current version of the Task Book to a new location.
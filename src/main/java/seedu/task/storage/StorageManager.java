@@ -3,26 +3,70 @@ package seedu.task.storage;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.task.commons.core.ComponentManager;
+import seedu.task.commons.core.Config;
+import seedu.task.commons.core.Config.StorageFormat;
+import seedu.task.commons.core.Config.SyncPolicy;
 import seedu.task.commons.core.LogsCenter;
 import seedu.task.commons.events.model.TaskBookChangedEvent;
 import seedu.task.commons.events.storage.DataSavingExceptionEvent;
 import seedu.task.commons.events.storage.StorageFilePathChangedEvent;
+import seedu.task.commons.events.ui.ExitAppRequestEvent;
 import seedu.task.commons.exceptions.DataConversionException;
 import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.TaskListChange;
+import seedu.task.model.UndoHistoryChange;
+import seedu.task.model.UndoRecord;
 import seedu.task.model.UserPrefs;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 /**
  * Manages storage of TaskBook data in local storage.
+ *
+ * Changes to the task book are saved by a single background writer so that commands do not wait
+ * for the file to be written. Each {@link TaskBookChangedEvent} carries an immutable snapshot, so the
+ * writer reads it without holding any lock. Changes that arrive while a save is in progress are coalesced:
+ * at most one snapshot waits to be written, and it is always the latest one. A snapshot of a revision
+ * that was already queued, with nothing new to save, is not saved again.
+ *
+ * When created from a {@link Config}, the undo history is saved next to the task book as well.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private TaskBookStorage taskBookStorage;
+    private volatile TaskBookStorage taskBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** Only accessed by the writer thread, or after {@link #flushTaskBookSaves()}. Null if not saved. */
+    private UndoHistoryStorage undoHistoryStorage;
+    /** Decides how the storage for a new task book file path is set up */
+    private Config config = new Config();
+
+    private final ExecutorService taskBookWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TaskBook writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The latest snapshot waiting to be written, or null if there is none. Guarded by this. */
+    private ReadOnlyTaskBook pendingSave;
+    /** The changes made since the last snapshot taken by the writer, in order. Guarded by this. */
+    private List<TaskListChange> pendingChanges = new ArrayList<>();
+    /** The changes to the undo history not taken by the writer yet, in order. Guarded by this. */
+    private List<UndoHistoryChange> pendingUndoHistoryChanges = new ArrayList<>();
+    /** True while the writer has work queued or in progress. Guarded by this. */
+    private boolean isWriting;
+    /** The revision of the latest snapshot queued, if it is to be saved. Guarded by this. */
+    private long lastQueuedRevision = TaskBookChangedEvent.UNVERSIONED;
+    /**
+     * True if a save failed, so the changes it took are lost and the next save must rewrite the files
+     * instead of appending to them. Only accessed by the writer thread.
+     */
+    private boolean isRewriteDue;
 
 
     public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage) {
@@ -35,6 +79,40 @@ public class StorageManager extends ComponentManager implements Storage {
         this(new XmlTaskBookStorage(taskBookFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
     }
 
+    public StorageManager(Config config) {
+        this(createTaskBookStorage(config.getTaskBookFilePath(), config),
+                new JsonUserPrefsStorage(config.getUserPrefsFilePath()));
+        this.config = config;
+        this.undoHistoryStorage = new UndoHistoryStorage(config.getTaskBookFilePath(),
+                config.getUndoHistoryDepth(), config.getTaskBookSyncPolicy());
+    }
+
+    /**
+     * Returns the storage for the task book at the given path, in the format and with the
+     * durability set in the config.
+     */
+    static TaskBookStorage createTaskBookStorage(String filePath, Config config) {
+        SyncPolicy syncPolicy = config.getTaskBookSyncPolicy();
+        TaskBookStorage snapshotStorage = isBinaryFormat(filePath, config.getTaskBookStorageFormat())
+                ? new BinaryTaskBookStorage(filePath, syncPolicy)
+                : new XmlTaskBookStorage(filePath, syncPolicy);
+        if (config.isTaskBookJournalEnabled()) {
+            return new JournalTaskBookStorage(snapshotStorage, syncPolicy);
+        }
+        return snapshotStorage;
+    }
+
+    private static boolean isBinaryFormat(String filePath, StorageFormat format) {
+        switch (format) {
+        case BINARY:
+            return true;
+        case XML:
+            return false;
+        default:
+            return filePath.endsWith(BinaryTaskBookStorage.FILE_EXTENSION);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -76,15 +154,136 @@ public class StorageManager extends ComponentManager implements Storage {
         taskBookStorage.saveTaskBook(taskBook, filePath);
     }
 
+    @Override
+    public void saveTaskBookChanges(ReadOnlyTaskBook taskBook, List<TaskListChange> changes) throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to data file: "
+                + taskBookStorage.getTaskBookFilePath());
+        taskBookStorage.saveTaskBookChanges(taskBook, changes);
+    }
+
+    @Override
+    public List<UndoRecord> readUndoHistory() throws DataConversionException, IOException {
+        if (undoHistoryStorage == null) {
+            return new ArrayList<>();
+        }
+        return undoHistoryStorage.readUndoHistory();
+    }
+
     @Override
     @Subscribe
     public void handleTaskBookChangedEvent(TaskBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveTaskBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        queueSave(event.data, event.revision, event.changes, event.undoHistoryChanges);
+    }
+
+    @Override
+    public synchronized void flushTaskBookSaves() {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        SyncTracker.syncDeferredFiles();
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Writing pending changes before exit"));
+        flushTaskBookSaves();
+    }
+
+    /**
+     * Replaces any snapshot still waiting to be written with the given one, adds the changes that
+     * led to it to those still waiting, and starts the writer if it is idle.
+     * Does nothing if the snapshot is of the revision queued last and there are no changes to save.
+     */
+    private synchronized void queueSave(ReadOnlyTaskBook snapshot, long revision, List<TaskListChange> changes,
+            List<UndoHistoryChange> undoHistoryChanges) {
+        if (revision != TaskBookChangedEvent.UNVERSIONED && revision == lastQueuedRevision
+                && changes.isEmpty() && undoHistoryChanges.isEmpty()) {
+            logger.fine("Revision " + revision + " is already saved or being saved, skipping it");
+            return;
+        }
+        lastQueuedRevision = revision;
+        pendingSave = snapshot;
+        pendingChanges.addAll(changes);
+        pendingUndoHistoryChanges.addAll(undoHistoryChanges);
+        if (!isWriting) {
+            isWriting = true;
+            taskBookWriter.execute(this::writePendingSaves);
+        }
+    }
+
+    /**
+     * Runs on the writer thread. Keeps writing the latest snapshot until no more are pending.
+     * Raises {@link DataSavingExceptionEvent} for each failed write. The task book is written before the
+     * undo history, and the history is only written once the task book is, so a saved history is never
+     * ahead of the saved task book.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            ReadOnlyTaskBook toSave;
+            List<TaskListChange> changes;
+            List<UndoHistoryChange> undoHistoryChanges;
+            synchronized (this) {
+                toSave = pendingSave;
+                changes = pendingChanges;
+                undoHistoryChanges = pendingUndoHistoryChanges;
+                pendingSave = null;
+                pendingChanges = new ArrayList<>();
+                pendingUndoHistoryChanges = new ArrayList<>();
+                if (toSave == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+            boolean isRewrite = isRewriteDue;
+            isRewriteDue = false;
+            try {
+                if (isRewrite) {
+                    saveTaskBook(toSave);
+                } else {
+                    saveTaskBookChanges(toSave, changes);
+                }
+            } catch (IOException e) {
+                if (undoHistoryStorage != null) {
+                    undoHistoryStorage.applyUnsavedChanges(undoHistoryChanges);
+                }
+                handleSaveFailure(e);
+                continue;
+            }
+            try {
+                saveUndoHistoryChanges(undoHistoryChanges);
+            } catch (IOException e) {
+                handleSaveFailure(e);
+            }
+        }
+    }
+
+    private void saveUndoHistoryChanges(List<UndoHistoryChange> changes) throws IOException {
+        if (undoHistoryStorage != null) {
+            undoHistoryStorage.saveUndoHistoryChanges(changes);
+        }
+    }
+
+    /**
+     * Runs on the writer thread. Makes the next save rewrite the task book and undo history whole,
+     * as the files may no longer match what was saved before.
+     */
+    private void handleSaveFailure(IOException e) {
+        isRewriteDue = true;
+        if (undoHistoryStorage != null) {
+            undoHistoryStorage.rewriteOnNextSave();
+        }
+        synchronized (this) {
+            // the revision was not saved, so it is saved again if reported again
+            lastQueuedRevision = TaskBookChangedEvent.UNVERSIONED;
         }
+        raise(new DataSavingExceptionEvent(e));
     }
 
     //@@author A0138704E
@@ -92,9 +291,14 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleStorageFilePathChangedEvent(StorageFilePathChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Storage file path changed"));
-        TaskBookStorage newTaskBookStorage = new XmlTaskBookStorage(event.getNewFilePath());
+        flushTaskBookSaves();
+        TaskBookStorage newTaskBookStorage = createTaskBookStorage(event.getNewFilePath(), config);
         try {
             newTaskBookStorage.saveTaskBook(event.getCurrentTaskBook());
+            if (undoHistoryStorage != null) {
+                undoHistoryStorage = undoHistoryStorage.copyTo(event.getNewFilePath(),
+                        config.getTaskBookSyncPolicy());
+            }
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
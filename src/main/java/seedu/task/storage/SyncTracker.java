@@ -0,0 +1,119 @@
+package seedu.task.storage;
+
+import seedu.task.commons.core.Config.SyncPolicy;
+import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.util.FileUtil;
+import seedu.task.commons.util.StringUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Decides which writes to a file are forced to the storage device, according to a {@link SyncPolicy}.
+ *
+ * Under {@link SyncPolicy#BATCHED}, a write that is not forced has its file forced once the interval
+ * has passed instead, so the last write of a burst is not left to the operating system.
+ */
+class SyncTracker {
+
+    private static final Logger logger = LogsCenter.getLogger(SyncTracker.class);
+
+    /** Under {@link SyncPolicy#BATCHED}, at most one write per this interval is forced */
+    static final long BATCHED_SYNC_INTERVAL_MILLIS = 1000;
+
+    private static final ScheduledThreadPoolExecutor deferredSyncs = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "Deferred file sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SyncPolicy syncPolicy;
+    private final Consumer<File> syncer;
+
+    /** Guarded by this */
+    private long lastSyncTime;
+    /** The files written since the last sync without being forced, in order. Guarded by this. */
+    private final Set<File> unsyncedFiles = new LinkedHashSet<>();
+
+    SyncTracker(SyncPolicy syncPolicy) {
+        this(syncPolicy, SyncTracker::forceToDevice);
+    }
+
+    /**
+     * @param syncer forces a file whose sync was deferred to the storage device
+     */
+    SyncTracker(SyncPolicy syncPolicy, Consumer<File> syncer) {
+        assert syncPolicy != null;
+        this.syncPolicy = syncPolicy;
+        this.syncer = syncer;
+    }
+
+    SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    /**
+     * Returns true if the write about to be made to the given file should be forced to the storage device.
+     * If it should not be under {@link SyncPolicy#BATCHED}, the file is forced later instead.
+     */
+    synchronized boolean isSyncDue(File file) {
+        switch (syncPolicy) {
+        case ALWAYS:
+            return true;
+        case NEVER:
+            return false;
+        default:
+            long now = System.currentTimeMillis();
+            if (now - lastSyncTime < BATCHED_SYNC_INTERVAL_MILLIS) {
+                if (unsyncedFiles.isEmpty()) {
+                    deferredSyncs.schedule(this::syncUnsyncedFiles,
+                            lastSyncTime + BATCHED_SYNC_INTERVAL_MILLIS - now, TimeUnit.MILLISECONDS);
+                }
+                unsyncedFiles.add(file);
+                return false;
+            }
+            lastSyncTime = now;
+            unsyncedFiles.remove(file);
+            return true;
+        }
+    }
+
+    /**
+     * Forces every file whose sync is still deferred to the storage device now, such as before exiting.
+     */
+    static void syncDeferredFiles() {
+        // draining the queue would only take the syncs whose delay is over
+        for (Runnable sync : deferredSyncs.getQueue().toArray(new Runnable[0])) {
+            if (deferredSyncs.remove(sync)) {
+                sync.run();
+            }
+        }
+    }
+
+    private void syncUnsyncedFiles() {
+        List<File> files;
+        synchronized (this) {
+            files = new ArrayList<>(unsyncedFiles);
+            unsyncedFiles.clear();
+            lastSyncTime = System.currentTimeMillis();
+        }
+        files.forEach(syncer);
+    }
+
+    private static void forceToDevice(File file) {
+        try {
+            FileUtil.forceToDevice(file);
+        } catch (IOException e) {
+            // the file may have been moved or deleted since, in which case there is nothing left to force
+            logger.warning("Could not force " + file + " to the storage device " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.task.storage;
+
+import seedu.task.commons.core.Config;
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.model.ReadOnlyTaskBook;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+/**
+ * Converts a task book file from one storage format to another, e.g. an existing xml file
+ * into the binary format. The format of each file is taken from its extension.
+ *
+ * Usage: {@code java seedu.task.storage.TaskBookFileConverter data/taskbook.xml data/taskbook.bin}
+ */
+public class TaskBookFileConverter {
+
+    /**
+     * Copies the task book in {@code sourceFilePath} to {@code targetFilePath}.
+     * @throws FileNotFoundException if there is no task book in {@code sourceFilePath}.
+     * @throws DataConversionException if the source file is not in the correct format.
+     */
+    public static void convert(String sourceFilePath, String targetFilePath)
+            throws DataConversionException, IOException {
+        Config config = new Config();
+        ReadOnlyTaskBook taskBook = StorageManager.createTaskBookStorage(sourceFilePath, config).readTaskBook()
+                .orElseThrow(() -> new FileNotFoundException("File not found : " + sourceFilePath));
+        StorageManager.createTaskBookStorage(targetFilePath, config).saveTaskBook(taskBook);
+    }
+
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TaskBookFileConverter SOURCE_FILE TARGET_FILE");
+            System.exit(1);
+        }
+        convert(args[0], args[1]);
+    }
+}
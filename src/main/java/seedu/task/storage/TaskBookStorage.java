@@ -2,8 +2,10 @@ package seedu.task.storage;
 
 import seedu.task.commons.exceptions.DataConversionException;
 import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.TaskListChange;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -41,4 +43,15 @@ public interface TaskBookStorage {
      */
     void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException;
 
+    /**
+     * Saves the given changes, which turned the previously saved task book into {@code taskBook}.
+     * Storages that cannot save changes on their own save the whole of {@code taskBook} instead.
+     * @param taskBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveTaskBookChanges(ReadOnlyTaskBook taskBook, List<TaskListChange> changes) throws IOException {
+        saveTaskBook(taskBook);
+    }
+
 }
@@ -0,0 +1,374 @@
+package seedu.task.storage;
+
+import seedu.task.commons.core.Config.SyncPolicy;
+import seedu.task.commons.core.LogsCenter;
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.exceptions.IllegalValueException;
+import seedu.task.commons.util.FileUtil;
+import seedu.task.model.UndoHistoryChange;
+import seedu.task.model.UndoRecord;
+import seedu.task.model.task.DeadlineTask;
+import seedu.task.model.task.EventTask;
+import seedu.task.model.task.Name;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Status;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.TaskDate;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A class to access the undo history of a task book, stored in a binary file next to the task book file.
+ *
+ * The file is a log of changes to the history: records pushed, records popped by undo, and the history
+ * being dropped. Saving appends the latest changes, so its cost does not depend on how long the history is.
+ * Reading replays the log and keeps only the most recent records up to the history depth, so the log acts
+ * as a ring buffer of records. Once it holds twice as many entries as the history depth, it is rewritten
+ * with just the records still in the history.
+ *
+ * Tasks are stored as in {@link BinaryTaskBookStorage}.
+ */
+public class UndoHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistoryStorage.class);
+
+    public static final String UNDO_HISTORY_FILE_SUFFIX = ".undo";
+
+    /** The log is never rewritten before it holds this many entries */
+    public static final int MIN_ENTRIES_BEFORE_COMPACTION = 64;
+
+    /** "STUH" */
+    private static final int MAGIC_NUMBER = 0x53545548;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte ENTRY_PUSH = 1;
+    private static final byte ENTRY_POP = 2;
+    private static final byte ENTRY_CLEAR = 3;
+
+    private static final int NO_POSITIONS = -1;
+
+    private final File file;
+    private final int historyDepth;
+    private final SyncTracker syncTracker;
+
+    /** The records in the history as last saved, most recent first */
+    private final Deque<UndoRecord> records = new ArrayDeque<>();
+
+    /** Number of entries in the log */
+    private int entryCount;
+
+    /** True once the log is known to hold {@link #records} and end with a complete entry */
+    private boolean isInSync;
+
+    /**
+     * Creates the storage for the undo history of the task book at the given path.
+     */
+    public UndoHistoryStorage(String taskBookFilePath, int historyDepth, SyncPolicy syncPolicy) {
+        this.file = getUndoHistoryFile(new File(taskBookFilePath));
+        this.historyDepth = historyDepth;
+        this.syncTracker = new SyncTracker(syncPolicy);
+    }
+
+    /**
+     * Returns the undo history file that belongs to the given task book file.
+     */
+    public static File getUndoHistoryFile(File taskBookFile) {
+        return new File(taskBookFile.getPath() + UNDO_HISTORY_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the records in the saved history, oldest first, or an empty list if there is no saved history.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public List<UndoRecord> readUndoHistory() throws DataConversionException, IOException {
+        records.clear();
+        entryCount = 0;
+        isInSync = false;
+        if (!FileUtil.isFileExists(file)) {
+            return new ArrayList<>();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+        try {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION) {
+                throw new DataConversionException(new IllegalValueException("Not an undo history file: " + file));
+            }
+            while (in.available() > 0) {
+                applyEntry(readEntry(in));
+                entryCount++;
+            }
+            isInSync = true;
+        } catch (EOFException e) {
+            // the last entry was cut short by a crash during an append, so rewrite the log on the next save
+            logger.warning("Undo history " + file + " ends with an incomplete entry, ignoring it");
+        } catch (IllegalValueException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+        return getRecordsOldestFirst();
+    }
+
+    /**
+     * Appends the given changes to the log, or rewrites the log if it has grown large or may not hold the history.
+     */
+    public void saveUndoHistoryChanges(List<UndoHistoryChange> changes) throws IOException {
+        if (changes.isEmpty() && isInSync) {
+            return;
+        }
+        for (UndoHistoryChange change : changes) {
+            applyEntry(change);
+        }
+        if (!isInSync || entryCount + changes.size() > getCompactionThreshold()) {
+            logger.fine("Rewriting undo history " + file);
+            saveUndoHistory();
+            return;
+        }
+
+        // a failed append may leave an incomplete entry, so rewrite the log on the next save
+        isInSync = false;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.APPEND)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            for (UndoHistoryChange change : changes) {
+                writeEntry(out, change);
+            }
+            out.flush();
+            if (syncTracker.isSyncDue(file)) {
+                channel.force(false);
+            }
+        }
+        entryCount += changes.size();
+        isInSync = true;
+    }
+
+    /**
+     * Applies the given changes to the history without writing them, and makes the next save rewrite the log whole.
+     */
+    public void applyUnsavedChanges(List<UndoHistoryChange> changes) {
+        for (UndoHistoryChange change : changes) {
+            applyEntry(change);
+        }
+        isInSync = false;
+    }
+
+    /**
+     * Makes the next save rewrite the log whole, even if there are no changes to save.
+     */
+    public void rewriteOnNextSave() {
+        isInSync = false;
+    }
+
+    /**
+     * Saves the history as last saved here next to the task book at the given path, and returns the storage
+     * for it there.
+     */
+    public UndoHistoryStorage copyTo(String taskBookFilePath, SyncPolicy syncPolicy) throws IOException {
+        UndoHistoryStorage copy = new UndoHistoryStorage(taskBookFilePath, historyDepth, syncPolicy);
+        copy.records.addAll(records);
+        copy.saveUndoHistory();
+        return copy;
+    }
+
+    private int getCompactionThreshold() {
+        return Math.max(MIN_ENTRIES_BEFORE_COMPACTION, 2 * historyDepth);
+    }
+
+    /**
+     * Replaces the log with one that pushes each record in the history, oldest first.
+     */
+    private void saveUndoHistory() throws IOException {
+        isInSync = false;
+        List<UndoRecord> recordsOldestFirst = getRecordsOldestFirst();
+        FileUtil.writeToFileAtomically(file, syncTracker.isSyncDue(file), stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            for (UndoRecord record : recordsOldestFirst) {
+                writeEntry(out, UndoHistoryChange.pushed(record));
+            }
+            out.flush();
+        });
+        entryCount = recordsOldestFirst.size();
+        isInSync = true;
+    }
+
+    private List<UndoRecord> getRecordsOldestFirst() {
+        List<UndoRecord> recordsOldestFirst = new ArrayList<>(records.size());
+        Iterator<UndoRecord> oldestFirst = records.descendingIterator();
+        while (oldestFirst.hasNext()) {
+            recordsOldestFirst.add(oldestFirst.next());
+        }
+        return recordsOldestFirst;
+    }
+
+    private void applyEntry(UndoHistoryChange change) {
+        switch (change.getType()) {
+        case PUSH:
+            records.push(change.getRecord());
+            if (records.size() > historyDepth) {
+                records.removeLast();
+            }
+            break;
+        case POP:
+            records.poll();
+            break;
+        default:
+            records.clear();
+        }
+    }
+
+    //// encoding
+
+    private static void writeEntry(DataOutputStream out, UndoHistoryChange change) throws IOException {
+        switch (change.getType()) {
+        case PUSH:
+            out.writeByte(ENTRY_PUSH);
+            writeRecord(out, change.getRecord());
+            break;
+        case POP:
+            out.writeByte(ENTRY_POP);
+            break;
+        default:
+            out.writeByte(ENTRY_CLEAR);
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, UndoRecord record) throws IOException {
+        out.writeByte(record.getType().ordinal());
+        out.writeInt(record.getIndex());
+        List<ReadOnlyTask> tasks = record.getTasks();
+        out.writeInt(tasks.size());
+        for (ReadOnlyTask task : tasks) {
+            writeTask(out, task);
+        }
+        int[] positions = record.getPositions();
+        if (positions == null) {
+            out.writeInt(NO_POSITIONS);
+        } else {
+            out.writeInt(positions.length);
+            for (int position : positions) {
+                out.writeInt(position);
+            }
+        }
+    }
+
+    private static void writeTask(DataOutputStream out, ReadOnlyTask task) throws IOException {
+        BinaryTaskBookStorage.writeString(out, task.getName().fullName);
+        out.writeByte(BinaryTaskBookStorage.getFlags(task));
+        if (task.getStart() != null) {
+            out.writeLong(BinaryTaskBookStorage.toEpochMinute(task.getStart()));
+        }
+        if (task.getEnd() != null) {
+            out.writeLong(BinaryTaskBookStorage.toEpochMinute(task.getEnd()));
+        }
+    }
+
+    private static UndoHistoryChange readEntry(DataInputStream in) throws IOException, IllegalValueException {
+        byte entryType = in.readByte();
+        switch (entryType) {
+        case ENTRY_PUSH:
+            return UndoHistoryChange.pushed(readRecord(in));
+        case ENTRY_POP:
+            return UndoHistoryChange.popped();
+        case ENTRY_CLEAR:
+            return UndoHistoryChange.cleared();
+        default:
+            throw new IllegalValueException("Unknown undo history entry: " + entryType);
+        }
+    }
+
+    private static UndoRecord readRecord(DataInputStream in) throws IOException, IllegalValueException {
+        UndoRecord.Type type = UndoRecord.Type.values()[in.readByte()];
+        int index = in.readInt();
+        Task[] tasks = new Task[checkCount(in.readInt(), in)];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = readTask(in);
+        }
+        int positionCount = in.readInt();
+        int[] positions = null;
+        if (positionCount != NO_POSITIONS) {
+            positions = new int[checkCount(positionCount, in)];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = in.readInt();
+            }
+        }
+        if (UndoRecord.hasPositions(type) != (positions != null)
+                || (positions != null && positions.length != tasks.length)) {
+            throw new IllegalValueException("Undo record of " + type + " has the wrong positions");
+        }
+        if (!isValidTaskCount(type, tasks.length)) {
+            throw new IllegalValueException("Undo record of " + type + " has " + tasks.length + " tasks");
+        }
+        if (type == UndoRecord.Type.BATCH && (index < 0 || index > tasks.length)) {
+            throw new IllegalValueException("Undo record of " + type + " has " + index + " removed tasks");
+        }
+        return new UndoRecord(type, index, tasks, positions);
+    }
+
+    private static boolean isValidTaskCount(UndoRecord.Type type, int taskCount) {
+        switch (type) {
+        case ADD:
+        case DELETE:
+            return taskCount == 1;
+        case EDIT:
+        case COMPLETE:
+            return taskCount == 2;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Creates the task of the right type for the dates it has, in the same way as {@link XmlAdaptedTask}.
+     */
+    private static Task readTask(DataInputStream in) throws IOException, IllegalValueException {
+        byte[] nameBytes = new byte[checkCount(in.readInt(), in)];
+        in.readFully(nameBytes);
+        Name name = new Name(new String(nameBytes, StandardCharsets.UTF_8));
+        int flags = in.readByte();
+        TaskDate start = (flags & BinaryTaskBookStorage.FLAG_HAS_START) != 0 ? readTaskDate(in) : null;
+        TaskDate end = (flags & BinaryTaskBookStorage.FLAG_HAS_END) != 0 ? readTaskDate(in) : null;
+        Status status = new Status((flags & BinaryTaskBookStorage.FLAG_COMPLETE) != 0);
+        if (start != null && end != null) {
+            return new EventTask(name, start, end, status);
+        }
+        if (end != null) {
+            return new DeadlineTask(name, end, status);
+        }
+        return new Task(name, status);
+    }
+
+    private static TaskDate readTaskDate(DataInputStream in) throws IOException, IllegalValueException {
+        long epochMinute = in.readLong();
+        BinaryFileTaskBook.checkEpochMinute(epochMinute);
+        return BinaryFileTaskBook.toTaskDate(epochMinute);
+    }
+
+    /**
+     * Returns the given count of items still to be read, if the rest of the input could hold that many.
+     */
+    private static int checkCount(int count, DataInputStream in) throws IOException, IllegalValueException {
+        if (count < 0) {
+            throw new IllegalValueException("Negative count in undo history: " + count);
+        }
+        if (count > in.available()) {
+            throw new EOFException();
+        }
+        return count;
+    }
+}
@@ -47,6 +47,16 @@ public class XmlAdaptedTask {
 		status = source.getStatus().toString();
 	}
 
+	/**
+	 * Creates an adapted task from its stored fields, in the same format as the xml elements.
+	 */
+	XmlAdaptedTask(String name, String startDate, String endDate, String status) {
+	    this.name = name;
+	    this.startDate = startDate;
+	    this.endDate = endDate;
+	    this.status = status;
+	}
+
     /**
 	 * Converts this jaxb-friendly adapted task object into the model's Task
 	 * object.
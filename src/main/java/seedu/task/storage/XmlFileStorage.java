@@ -1,23 +1,53 @@
 package seedu.task.storage;
 
+import seedu.task.commons.core.LogsCenter;
 import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.exceptions.IllegalValueException;
 import seedu.task.commons.util.XmlUtil;
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.task.UniqueTaskList;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.logging.Logger;
 
 /**
  * Stores taskbook data in an XML file
  */
 public class XmlFileStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlFileStorage.class);
+
+    private static final String ROOT_ELEMENT = "taskbook";
+    private static final String TASK_ELEMENT = "tasks";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+
     /**
      * Saves the given taskbook data to the specified file.
      */
     public static void saveDataToFile(File file, XmlSerializableTaskBook taskBook)
-            throws FileNotFoundException {
+            throws IOException {
+        saveDataToFile(file, taskBook, false);
+    }
+
+    /**
+     * Saves the given taskbook data to the specified file, replacing it atomically.
+     * @param isSyncRequired if true, the data is forced to the storage device before returning.
+     */
+    public static void saveDataToFile(File file, XmlSerializableTaskBook taskBook, boolean isSyncRequired)
+            throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, taskBook);
+            XmlUtil.saveDataToFile(file, taskBook, isSyncRequired);
         } catch (JAXBException e) {
             assert false : "Unexpected exception " + e.getMessage();
         }
@@ -35,4 +65,84 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the task book in the file, reading its tasks one at a time straight into the task list
+     * instead of unmarshalling the whole document first.
+     * Tasks that are invalid or duplicated are skipped, as in {@link XmlSerializableTaskBook#getUniqueTaskList()}.
+     */
+    public static ReadOnlyTaskBook loadTaskBookFromSaveFile(File file) throws DataConversionException,
+                                                                             FileNotFoundException {
+        UniqueTaskList tasks = new UniqueTaskList();
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(input);
+            reader.nextTag();
+            if (!reader.getLocalName().equals(ROOT_ELEMENT)) {
+                throw new DataConversionException(new IllegalValueException(
+                        "Unexpected root element: " + reader.getLocalName()));
+            }
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if (!reader.getLocalName().equals(TASK_ELEMENT)) {
+                    skipElement(reader);
+                    continue;
+                }
+                try {
+                    tasks.add(readTask(reader).toModelType());
+                } catch (IllegalValueException e) {
+                    logger.warning("Skipping task that cannot be loaded: " + e.getMessage());
+                }
+            }
+            reader.close();
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (XMLStreamException | IOException e) {
+            throw new DataConversionException(e);
+        }
+        return new LoadedTaskBook(tasks);
+    }
+
+    /**
+     * Reads the fields of the task element the reader is on, leaving the reader on its end tag.
+     * Fields that are missing are left null, as JAXB does.
+     */
+    private static XmlAdaptedTask readTask(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String startDate = null;
+        String endDate = null;
+        String status = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "startDate":
+                startDate = reader.getElementText();
+                break;
+            case "endDate":
+                endDate = reader.getElementText();
+                break;
+            case "status":
+                status = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedTask(name, startDate, endDate, status);
+    }
+
+    /**
+     * Moves the reader from the start tag of an element to its end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
 }
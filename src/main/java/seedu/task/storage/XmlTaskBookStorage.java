@@ -1,5 +1,6 @@
 package seedu.task.storage;
 
+import seedu.task.commons.core.Config.SyncPolicy;
 import seedu.task.commons.core.LogsCenter;
 import seedu.task.commons.exceptions.DataConversionException;
 import seedu.task.commons.util.FileUtil;
@@ -13,15 +14,22 @@ import java.util.logging.Logger;
 
 /**
  * A class to access TaskBook data stored as an xml file on the hard disk.
+ * The file is replaced atomically on every save, so a crash never leaves it half written.
  */
 public class XmlTaskBookStorage implements TaskBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlTaskBookStorage.class);
 
     private String filePath;
+    private final SyncTracker syncTracker;
 
     public XmlTaskBookStorage(String filePath){
+        this(filePath, SyncPolicy.ALWAYS);
+    }
+
+    public XmlTaskBookStorage(String filePath, SyncPolicy syncPolicy) {
         this.filePath = filePath;
+        this.syncTracker = new SyncTracker(syncPolicy);
     }
 
     public String getTaskBookFilePath(){
@@ -43,7 +51,7 @@ public class XmlTaskBookStorage implements TaskBookStorage {
             return Optional.empty();
         }
 
-        ReadOnlyTaskBook taskBookOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyTaskBook taskBookOptional = XmlFileStorage.loadTaskBookFromSaveFile(taskBookFile);
 
         return Optional.of(taskBookOptional);
     }
@@ -58,7 +66,7 @@ public class XmlTaskBookStorage implements TaskBookStorage {
 
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskBook(taskBook));
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskBook(taskBook), syncTracker.isSyncDue(file));
     }
 
     @Override
@@ -15,9 +15,13 @@ import javafx.stage.Stage;
 import seedu.task.commons.core.LogsCenter;
 import seedu.task.commons.events.ui.IncorrectCommandAttemptedEvent;
 import seedu.task.commons.util.FxViewUtil;
+import seedu.task.commons.util.StringUtil;
 import seedu.task.logic.Logic;
 import seedu.task.logic.commands.*;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 public class CommandBox extends UiPart {
@@ -31,6 +35,9 @@ public class CommandBox extends UiPart {
 
     private UserCommandLog userCommandLog = new UserCommandLog();
 
+    /** The commands entered that have not finished executing, oldest first */
+    private final Queue<String> executingCommands = new ArrayDeque<>();
+
     private Logic logic;
 
     @FXML
@@ -86,7 +93,20 @@ public class CommandBox extends UiPart {
          * #handleIncorrectCommandAttempted}
          */
         setStyleToIndicateCorrectCommand();
-        mostRecentResult = logic.execute(previousCommandTest);
+        executingCommands.add(previousCommandTest);
+        // the command is executed off the FX thread, so the window stays responsive while it runs
+        logic.executeAsync(previousCommandTest).whenCompleteAsync(this::showResult, Platform::runLater);
+    }
+
+    private void showResult(CommandResult result, Throwable error) {
+        String commandText = executingCommands.remove();
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            logger.severe("Failed to execute " + commandText + ": " + StringUtil.getDetails(cause));
+            resultDisplay.postMessage(cause.toString());
+            return;
+        }
+        mostRecentResult = result;
         resultDisplay.postMessage(mostRecentResult.feedbackToUser);
         logger.info("Result: " + mostRecentResult.feedbackToUser);
     }
@@ -101,16 +121,23 @@ public class CommandBox extends UiPart {
 
     @Subscribe
     private void handleIncorrectCommandAttempted(IncorrectCommandAttemptedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Invalid command: " + previousCommandTest));
-        setStyleToIndicateIncorrectCommand();
-        restoreCommandText();
+        FxViewUtil.runOnFxThread(() -> {
+            // the oldest command still executing is the one that raised the event
+            String incorrectCommand = executingCommands.peek();
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Invalid command: " + incorrectCommand));
+            // leaves alone whatever has been typed since
+            if (incorrectCommand != null && commandTextField.getText().isEmpty()) {
+                setStyleToIndicateIncorrectCommand();
+                restoreCommandText(incorrectCommand);
+            }
+        });
     }
 
     /**
-     * Restores the command box text to the previously entered command
+     * Restores the command box text to the given previously entered command
      */
-    private void restoreCommandText() {
-        commandTextField.setText(previousCommandTest);
+    private void restoreCommandText(String commandText) {
+        commandTextField.setText(commandText);
     }
 
     /**
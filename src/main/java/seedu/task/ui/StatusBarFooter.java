@@ -90,8 +90,11 @@ public class StatusBarFooter extends UiPart {
     public void handleTaskBookChangedEvent(TaskBookChangedEvent abce) {
         String lastUpdated = (new Date()).toString();
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
-        setSyncStatus(" Last Updated: " + lastUpdated);
-        setNumberOfTasksStatus(abce.data.getTaskList().size());
+        int numberOfTasks = abce.data.getTaskList().size();
+        FxViewUtil.runOnFxThread(() -> {
+            setSyncStatus(" Last Updated: " + lastUpdated);
+            setNumberOfTasksStatus(numberOfTasks);
+        });
     }
     
     //@@author A0138704E
@@ -102,7 +105,7 @@ public class StatusBarFooter extends UiPart {
     public void handleStorageFilePathChangedEvent(StorageFilePathChangedEvent event) {
         String newSaveLocation = event.getNewFilePath();
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting save location to " + newSaveLocation));
-        setSaveLocation(newSaveLocation);
+        FxViewUtil.runOnFxThread(() -> setSaveLocation(newSaveLocation));
     }
     
 }
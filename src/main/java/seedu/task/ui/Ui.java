@@ -1,6 +1,7 @@
 package seedu.task.ui;
 
 import javafx.stage.Stage;
+import seedu.task.logic.commands.CommandResult;
 
 /**
  * API of UI component
@@ -13,4 +14,7 @@ public interface Ui {
     /** Stops the UI. */
     void stop();
 
+    /** Shows the result of a command that was not entered in the command box. */
+    void showResult(CommandResult result);
+
 }
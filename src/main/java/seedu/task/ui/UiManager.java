@@ -1,6 +1,7 @@
 package seedu.task.ui;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.Futures;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
@@ -12,6 +13,7 @@ import seedu.task.commons.core.ComponentManager;
 import seedu.task.commons.core.Config;
 import seedu.task.commons.core.LogsCenter;
 import seedu.task.commons.events.storage.DataSavingExceptionEvent;
+import seedu.task.commons.events.ui.CommandProgressEvent;
 import seedu.task.commons.events.ui.DatePickedOnCalendarEvent;
 import seedu.task.commons.events.ui.DisplayDirectoryChooserRequestEvent;
 import seedu.task.commons.events.ui.JumpToListRequestEvent;
@@ -23,12 +25,15 @@ import seedu.task.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.task.commons.events.ui.ShowHelpRequestEvent;
 import seedu.task.commons.events.ui.TaskPanelDataChangedEvent;
 import seedu.task.commons.util.DateUtil;
+import seedu.task.commons.util.FxViewUtil;
 import seedu.task.commons.util.StringUtil;
 import seedu.task.logic.Logic;
+import seedu.task.logic.commands.CommandResult;
 import seedu.task.logic.commands.ListCommand;
 import seedu.task.model.UserPrefs;
 
 import java.io.File;
+import java.util.concurrent.FutureTask;
 import java.util.logging.Logger;
 
 /**
@@ -76,6 +81,11 @@ public class UiManager extends ComponentManager implements Ui {
        
     }
 
+    @Override
+    public void showResult(CommandResult result) {
+        mainWindow.getResultDisplay().postMessage(result.feedbackToUser);
+    }
+
     private void showFileOperationAlertAndWait(String description, String details, Throwable cause) {
         final String content = details + ":\n" + cause.toString();
         showAlertDialogAndWait(AlertType.ERROR, "File Op Error", description, content);
@@ -113,13 +123,21 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        // saves happen on a background thread, so the alert has to be shown on the FX thread
+        Platform.runLater(() -> showFileOperationAlertAndWait("Could not save data", "Could not save data to file",
+                event.exception));
     }
 
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        mainWindow.handleHelp();
+        FxViewUtil.runOnFxThread(mainWindow::handleHelp);
+    }
+
+    @Subscribe
+    private void handleCommandProgressEvent(CommandProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event, event.message));
+        FxViewUtil.runOnFxThread(() -> mainWindow.getResultDisplay().postMessage(event.message));
     }
 
     @Subscribe
@@ -137,7 +155,7 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleTaskPanelDataChangedEvent(TaskPanelDataChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        mainWindow.getTaskListPanel().refresh();
+        FxViewUtil.runOnFxThread(() -> mainWindow.getTaskListPanel().refresh());
     }
     //@@author A0153723J
     /**
@@ -177,8 +195,11 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDisplayDirectoryChooserRequestEvent(DisplayDirectoryChooserRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        final DirectoryChooser directoryChooser = new DirectoryChooser();
-        final File selectedDirectory = directoryChooser.showDialog(mainWindow.getPrimaryStage());
+        // the command asking for the directory waits for the dialog, which has to be shown on the FX thread
+        final FutureTask<File> chooseDirectory = new FutureTask<>(
+                () -> new DirectoryChooser().showDialog(mainWindow.getPrimaryStage()));
+        FxViewUtil.runOnFxThread(chooseDirectory);
+        final File selectedDirectory = Futures.getUnchecked(chooseDirectory);
         if (selectedDirectory != null) {
         	event.setSelectedFilePath(selectedDirectory.getAbsolutePath());
         } else {
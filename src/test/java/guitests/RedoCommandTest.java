@@ -0,0 +1,49 @@
+package guitests;
+
+import org.junit.Test;
+
+import seedu.task.logic.commands.RedoCommand;
+
+public class RedoCommandTest extends TaskBookGuiTest {
+    @Test
+    public void redo() {
+        // list all tasks
+        commandBox.runCommand("list /a");
+
+        // nothing has been undone yet
+        commandBox.runCommand("redo");
+        assertResultMessage(RedoCommand.MESSAGE_REDO_STACK_END);
+
+        // test redo for adding a task
+        commandBox.runCommand("add \"do laundry\"");
+        commandBox.runCommand("undo");
+        assertRedoCommandSuccess(String.format(RedoCommand.MESSAGE_REDO_TASK_SUCCESS, "add do laundry"));
+
+        // test redo for deleting a task
+        commandBox.runCommand("delete 1");
+        commandBox.runCommand("undo");
+        assertRedoCommandSuccess(String.format(RedoCommand.MESSAGE_REDO_TASK_SUCCESS, "delete 1"));
+
+        // test redo for clear all, undone twice in a row
+        commandBox.runCommand("clear /a");
+        commandBox.runCommand("undo");
+        assertRedoCommandSuccess(String.format(RedoCommand.MESSAGE_REDO_TASK_SUCCESS, "clear /a"));
+        commandBox.runCommand("undo");
+        assertRedoCommandSuccess(String.format(RedoCommand.MESSAGE_REDO_TASK_SUCCESS, "clear /a"));
+
+        // a new command discards the undone commands
+        commandBox.runCommand("undo");
+        commandBox.runCommand("add \"buy milk\"");
+        commandBox.runCommand("redo");
+        assertResultMessage(RedoCommand.MESSAGE_REDO_STACK_END);
+    }
+
+    /**
+     * Runs the redo command to reapply the last undone command and confirms that the
+     * result is correct.
+     */
+    private void assertRedoCommandSuccess(String expectedMessage) {
+        commandBox.runCommand("redo");
+        assertResultMessage(expectedMessage);
+    }
+}
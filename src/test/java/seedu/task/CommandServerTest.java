@@ -0,0 +1,162 @@
+package seedu.task;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.task.commons.core.EventsCenter;
+import seedu.task.logic.LogicManager;
+import seedu.task.logic.commands.AddCommand;
+import seedu.task.logic.commands.CommandResult;
+import seedu.task.logic.commands.ExitCommand;
+import seedu.task.logic.commands.StoreCommand;
+import seedu.task.model.ModelManager;
+import seedu.task.model.UserPrefs;
+import seedu.task.storage.StorageManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CommandServerTest {
+
+    @Rule
+    public TemporaryFolder saveFolder = new TemporaryFolder();
+
+    private ModelManager model;
+    private CommandServer server;
+
+    @Before
+    public void setup() {
+        model = new ModelManager();
+        String tempTaskBookFile = saveFolder.getRoot().getPath() + "TempTaskBook.xml";
+        String tempPreferencesFile = saveFolder.getRoot().getPath() + "TempPreferences.json";
+        StorageManager storage = new StorageManager(tempTaskBookFile, tempPreferencesFile);
+        server = new CommandServer(new LogicManager(model, storage), storage, new UserPrefs());
+    }
+
+    @After
+    public void teardown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void serve_commandsOnePerLine_feedbackForEachInOrder() throws Exception {
+        StringWriter out = new StringWriter();
+        server.serve(new BufferedReader(new StringReader("add \"first\"\n\nadd \"second\"\n")), out);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, "first") + CommandServer.RESULT_SEPARATOR
+                + String.format(AddCommand.MESSAGE_SUCCESS, "second") + CommandServer.RESULT_SEPARATOR,
+                out.toString());
+        assertEquals(2, model.getTaskBook().getTaskList().size());
+    }
+
+    @Test
+    public void serve_exitCommand_stopsReading() throws Exception {
+        StringWriter out = new StringWriter();
+        server.serve(new BufferedReader(new StringReader("exit\nadd \"ignored\"\n")), out);
+
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + CommandServer.RESULT_SEPARATOR, out.toString());
+        assertEquals(0, model.getTaskBook().getTaskList().size());
+    }
+
+    @Test
+    public void serve_storeWithoutDirectoryChooser_cancelledAndServingGoesOn() throws Exception {
+        StringWriter out = new StringWriter();
+        server.serve(new BufferedReader(new StringReader("store\nadd \"after store\"\n")), out);
+
+        assertEquals(StoreCommand.MESSAGE_CANCEL_STORE_OPERATION + CommandServer.RESULT_SEPARATOR
+                + String.format(AddCommand.MESSAGE_SUCCESS, "after store") + CommandServer.RESULT_SEPARATOR,
+                out.toString());
+    }
+
+    @Test
+    public void serve_commandThrows_errorReportedAndServingGoesOn() throws Exception {
+        IllegalStateException failure = new IllegalStateException("command broke");
+        StorageManager storage = new StorageManager(saveFolder.getRoot().getPath() + "Other.xml",
+                saveFolder.getRoot().getPath() + "OtherPreferences.json");
+        LogicManager throwingLogic = new LogicManager(model, storage) {
+            @Override
+            public CommandResult execute(String commandText) {
+                if (commandText.equals("broken")) {
+                    throw failure;
+                }
+                return super.execute(commandText);
+            }
+        };
+        CommandServer throwingServer = new CommandServer(throwingLogic, storage, new UserPrefs());
+        StringWriter out = new StringWriter();
+        throwingServer.serve(new BufferedReader(new StringReader("broken\nadd \"after\"\n")), out);
+
+        assertEquals(String.format(CommandServer.MESSAGE_COMMAND_ERROR, failure) + CommandServer.RESULT_SEPARATOR
+                + String.format(AddCommand.MESSAGE_SUCCESS, "after") + CommandServer.RESULT_SEPARATOR,
+                out.toString());
+    }
+
+    @Test
+    public void listen_commandsOverSocket_feedbackStreamedBack() throws Exception {
+        int port;
+        try (ServerSocket freePort = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            port = freePort.getLocalPort();
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> listening = executor.submit(() -> {
+            server.listen(port);
+            return null;
+        });
+
+        try (Socket socket = connect(port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            out.write("add \"over the socket\"\nexit\n");
+            out.flush();
+
+            assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, "over the socket"), in.readLine());
+            assertEquals("", in.readLine());
+            assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT, in.readLine());
+            assertEquals("", in.readLine());
+            assertNull(in.readLine());
+        }
+
+        // the exit command also stops the server
+        listening.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+        assertEquals(1, model.getTaskBook().getTaskList().size());
+    }
+
+    /**
+     * Connects to the given port once the server is listening on it.
+     */
+    private Socket connect(int port) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return new Socket(InetAddress.getLoopbackAddress(), port);
+            } catch (ConnectException e) {
+                if (attempt == 100) {
+                    throw e;
+                }
+                Thread.sleep(50);
+            }
+        }
+    }
+}
@@ -20,7 +20,11 @@ public class ConfigTest {
                 "Current log level : INFO\n" +
                 "Preference file Location : preferences.json\n" +
                 "Local data file location : data/taskbook.xml\n" +
-                "TaskBook name : MyTaskBook";
+                "TaskBook name : MyTaskBook\n" +
+                "Journal enabled : false\n" +
+                "Sync policy : ALWAYS\n" +
+                "Storage format : AUTO\n" +
+                "Undo history depth : 100";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,84 @@
+package seedu.task.commons.core;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class FxThreadObservableListTest {
+
+    private ObservableList<Integer> source;
+    private List<Runnable> fxThreadQueue;
+    private FxThreadObservableList<Integer> copy;
+
+    @Before
+    public void setup() {
+        source = FXCollections.observableArrayList(5, 3, 8);
+        fxThreadQueue = new ArrayList<>();
+        copy = new FxThreadObservableList<>(source, fxThreadQueue::add);
+    }
+
+    @Test
+    public void sourceChanged_copyChangedOnlyOnFxThread() {
+        source.add(1);
+        source.remove(Integer.valueOf(3));
+        assertEquals(Arrays.asList(5, 3, 8), copy);
+
+        runFxThread();
+        assertEquals(source, copy);
+    }
+
+    @Test
+    public void manyChangesBeforeFxThreadRuns_madeInOrderAsOneChange() {
+        // a list kept up to date from the reported changes alone, as a list view does
+        List<Integer> viewed = new ArrayList<>(copy);
+        int[] reportedChangeCount = {0};
+        copy.addListener((ListChangeListener<Integer>) change -> {
+            reportedChangeCount[0]++;
+            while (change.next()) {
+                viewed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                viewed.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        source.addAll(0, Arrays.asList(1, 2));
+        source.set(2, 9);
+        source.sort(Comparator.naturalOrder());
+        source.removeIf(i -> i % 2 == 0);
+        source.add(7);
+        source.setAll(4, 6, 1, 7, 9);
+        source.remove(1, 3);
+        assertEquals(1, fxThreadQueue.size());
+
+        runFxThread();
+        assertEquals(source, copy);
+        assertEquals(source, viewed);
+        assertEquals(1, reportedChangeCount[0]);
+    }
+
+    @Test
+    public void sourceCleared_copyCleared() {
+        for (int i = 0; i < 1000; i++) {
+            source.add(i);
+        }
+        runFxThread();
+        source.clear();
+        runFxThread();
+        assertEquals(0, copy.size());
+    }
+
+    private void runFxThread() {
+        List<Runnable> queued = new ArrayList<>(fxThreadQueue);
+        fxThreadQueue.clear();
+        queued.forEach(Runnable::run);
+    }
+}
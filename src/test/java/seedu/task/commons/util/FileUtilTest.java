@@ -9,13 +9,23 @@ import seedu.task.commons.util.FileUtil;
 import seedu.task.testutil.SerializableTestClass;
 import seedu.task.testutil.TestUtil;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class FileUtilTest {
     private static final File SERIALIZATION_FILE = new File(TestUtil.getFilePathInSandboxFolder("serialize.json"));
+    private static final File ATOMIC_FILE = new File(TestUtil.getFilePathInSandboxFolder("atomic.txt"));
+    private static final File ATOMIC_TEMP_FILE = new File(ATOMIC_FILE.getPath() + ".tmp");
+    private static final String OLD_CONTENT = "old content";
 
 
     @Rule
@@ -57,4 +67,79 @@ public class FileUtilTest {
         assertEquals(serializableTestClass.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
+
+    @Test
+    public void writeToFileAtomically_validContent_fileReplaced() throws IOException {
+        FileUtil.writeToFile(ATOMIC_FILE, OLD_CONTENT);
+        FileUtil.writeToFileAtomically(ATOMIC_FILE, true,
+                out -> out.write("new content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new content", FileUtil.readFromFile(ATOMIC_FILE));
+        assertFalse(ATOMIC_TEMP_FILE.exists());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFailsMidStream_oldContentKept() throws IOException {
+        FileUtil.writeToFile(ATOMIC_FILE, OLD_CONTENT);
+        try {
+            FileUtil.writeToFileAtomically(ATOMIC_FILE, true, out -> {
+                out.write("half of the new".getBytes(StandardCharsets.UTF_8));
+                throw new IOException("disk full");
+            });
+            fail();
+        } catch (IOException e) {
+            assertEquals("disk full", e.getMessage());
+        }
+
+        assertEquals(OLD_CONTENT, FileUtil.readFromFile(ATOMIC_FILE));
+        assertFalse(ATOMIC_TEMP_FILE.exists());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerKilledMidStream_oldContentKept() throws Exception {
+        FileUtil.writeToFile(ATOMIC_FILE, OLD_CONTENT);
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process writer = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                EndlessWriter.class.getName(), ATOMIC_FILE.getPath()).redirectErrorStream(true).start();
+
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(writer.getInputStream()))) {
+            assertEquals(EndlessWriter.STARTED_MESSAGE, output.readLine());
+        }
+        writer.destroyForcibly();
+        assertTrue(writer.waitFor(10, TimeUnit.SECONDS));
+
+        assertEquals(OLD_CONTENT, FileUtil.readFromFile(ATOMIC_FILE));
+
+        // a temp file left behind by the killed writer does not get in the way of the next write
+        FileUtil.writeToFileAtomically(ATOMIC_FILE, false,
+                out -> out.write("new content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new content", FileUtil.readFromFile(ATOMIC_FILE));
+    }
+
+    /**
+     * Writes to the given file forever, once it has written enough to have replaced it if writes were not atomic.
+     */
+    public static class EndlessWriter {
+        static final String STARTED_MESSAGE = "started";
+
+        public static void main(String[] args) throws IOException {
+            FileUtil.writeToFileAtomically(new File(args[0]), true, out -> {
+                byte[] chunk = new byte[64 * 1024];
+                for (int i = 0; i < 4; i++) {
+                    out.write(chunk);
+                }
+                out.flush();
+                System.out.println(STARTED_MESSAGE);
+                System.out.flush();
+                while (true) {
+                    out.write(chunk);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+            });
+        }
+    }
 }
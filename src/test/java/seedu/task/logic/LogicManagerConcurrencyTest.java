@@ -0,0 +1,197 @@
+package seedu.task.logic;
+
+import com.google.common.eventbus.Subscribe;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.task.commons.core.EventsCenter;
+import seedu.task.commons.events.model.TaskBookChangedEvent;
+import seedu.task.commons.events.ui.DisplayDirectoryChooserRequestEvent;
+import seedu.task.commons.events.ui.ListAllButtonEvent;
+import seedu.task.logic.commands.CommandResult;
+import seedu.task.logic.commands.HelpCommand;
+import seedu.task.logic.commands.StoreCommand;
+import seedu.task.model.ModelManager;
+import seedu.task.model.TaskBook;
+import seedu.task.model.TaskBookSnapshot;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.storage.StorageManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs commands from several threads at once while other threads read snapshots of the task book,
+ * and checks that the UI is not blocked by commands in progress.
+ */
+public class LogicManagerConcurrencyTest {
+
+    private static final int WRITER_COUNT = 6;
+    private static final int READER_COUNT = 2;
+    private static final int COMMANDS_PER_WRITER = 400;
+
+    private static final String[] COMMANDS = {
+        "delete 1", "delete 1-3", "complete 1", "complete 1,2", "edit 1 \"renamed %d\"", "undo", "redo",
+        "list /a", "list /p", "find task", "sort", "clear"
+    };
+
+    @Rule
+    public TemporaryFolder saveFolder = new TemporaryFolder();
+
+    private ModelManager model;
+    private Logic logic;
+
+    private long lastEventRevision = TaskBookChangedEvent.UNVERSIONED;
+    private boolean eventsInOrder = true;
+
+    @Subscribe
+    private void handleTaskBookChangedEvent(TaskBookChangedEvent event) {
+        // events are raised while the model is locked, so they arrive one at a time and in order
+        if (event.revision < lastEventRevision) {
+            eventsInOrder = false;
+        }
+        lastEventRevision = event.revision;
+    }
+
+    /** Stands in for the JavaFX thread, which shows the directory chooser and handles button presses */
+    private final ExecutorService fxThread = Executors.newSingleThreadExecutor();
+    private boolean isFxThreadBlocked;
+
+    @Subscribe
+    private void handleDisplayDirectoryChooserRequestEvent(DisplayDirectoryChooserRequestEvent event) {
+        // as the UI does, the command waits for the chooser on the FX thread, where a button is pressed meanwhile
+        Future<?> chooser = fxThread.submit(() -> EventsCenter.getInstance().post(new ListAllButtonEvent()));
+        try {
+            chooser.get(10, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            isFxThreadBlocked = true;
+        } catch (InterruptedException | ExecutionException e) {
+            throw new AssertionError(e);
+        }
+        event.setSelectedFilePath("");
+    }
+
+    @Before
+    public void setup() {
+        model = new ModelManager();
+        String tempTaskBookFile = saveFolder.getRoot().getPath() + "TempTaskBook.xml";
+        String tempPreferencesFile = saveFolder.getRoot().getPath() + "TempPreferences.json";
+        logic = new LogicManager(model, new StorageManager(tempTaskBookFile, tempPreferencesFile));
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @After
+    public void teardown() {
+        EventsCenter.clearSubscribers();
+        fxThread.shutdownNow();
+    }
+
+    @Test
+    public void executeAsync_buttonPressedDuringStore_fxThreadNotBlocked() throws Exception {
+        logic.execute("add \"pending task\"");
+        logic.execute("add \"complete task\"");
+        logic.execute("complete 2");
+        logic.execute("list /p");
+        assertEquals(1, logic.getFilteredTaskList().size());
+
+        CommandResult result = logic.executeAsync(StoreCommand.COMMAND_WORD).get(1, TimeUnit.MINUTES);
+        assertFalse(isFxThreadBlocked);
+        assertEquals(StoreCommand.MESSAGE_CANCEL_STORE_OPERATION, result.feedbackToUser);
+
+        // the list picked with the button is shown after the command, before any later command
+        logic.executeAsync(HelpCommand.COMMAND_WORD).get(1, TimeUnit.MINUTES);
+        assertEquals(2, logic.getFilteredTaskList().size());
+    }
+
+    @Test
+    public void execute_manyThreadsAtOnce_taskBookStaysConsistent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            int writer = w;
+            writers.add(executor.submit(() -> {
+                Random random = new Random(writer);
+                start.await();
+                for (int i = 0; i < COMMANDS_PER_WRITER; i++) {
+                    String name = "task " + writer + " " + i;
+                    if (random.nextInt(3) == 0) {
+                        logic.execute("add \"" + name + "\"");
+                    } else {
+                        logic.execute(String.format(COMMANDS[random.nextInt(COMMANDS.length)], i + writer * 1000));
+                    }
+                }
+                return null;
+            }));
+        }
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int r = 0; r < READER_COUNT; r++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                int reads = 0;
+                long lastRevision = -1;
+                while (writing.get()) {
+                    TaskBookSnapshot snapshot = model.getSnapshot();
+                    assertTrue(snapshot.getRevision() >= lastRevision);
+                    lastRevision = snapshot.getRevision();
+                    assertUnique(snapshot.getTaskList());
+                    reads++;
+                }
+                return reads;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(2, TimeUnit.MINUTES);
+        }
+        writing.set(false);
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get(1, TimeUnit.MINUTES) > 0);
+        }
+        executor.shutdown();
+
+        assertTrue(eventsInOrder);
+        synchronized (model) {
+            List<ReadOnlyTask> tasks = model.getTaskBook().getTaskList();
+            assertUnique(tasks);
+            assertEquals(tasks, model.getSnapshot().getTaskList());
+            for (int i = 0; i < tasks.size(); i++) {
+                assertEquals(i, model.getIndex(tasks.get(i)));
+            }
+            // the indexes behind the filtered list agree with the task list
+            model.updateFilteredListToShowAll();
+            assertEquals(tasks, new ArrayList<>(model.getFilteredTaskList()));
+            assertEquals(tasks, new TaskBook(model.getSnapshot()).getTaskList());
+        }
+    }
+
+    private void assertUnique(List<? extends ReadOnlyTask> tasks) {
+        Set<Task> distinctTasks = new HashSet<>();
+        for (ReadOnlyTask task : tasks) {
+            assertTrue(distinctTasks.add(new Task(task)));
+        }
+    }
+}
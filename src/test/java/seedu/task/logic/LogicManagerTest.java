@@ -10,12 +10,14 @@ import org.junit.rules.TemporaryFolder;
 import seedu.task.commons.core.EventsCenter;
 import seedu.task.commons.core.Messages;
 import seedu.task.commons.events.model.TaskBookChangedEvent;
+import seedu.task.commons.events.ui.CommandProgressEvent;
 import seedu.task.commons.events.ui.JumpToListRequestEvent;
 import seedu.task.commons.events.ui.ShowHelpRequestEvent;
 import seedu.task.commons.util.DateUtil;
 import seedu.task.logic.Logic;
 import seedu.task.logic.LogicManager;
 import seedu.task.logic.commands.*;
+import seedu.task.logic.parser.Parser;
 import seedu.task.model.Model;
 import seedu.task.model.ModelManager;
 import seedu.task.model.ReadOnlyTaskBook;
@@ -23,14 +25,22 @@ import seedu.task.model.TaskBook;
 import seedu.task.model.task.*;
 import seedu.task.storage.StorageManager;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.task.commons.core.Messages.*;
 
 public class LogicManagerTest {
@@ -46,12 +56,22 @@ public class LogicManagerTest {
 
     //These are for checking the correctness of the events raised
     private ReadOnlyTaskBook latestSavedTaskBook;
+    private int taskBookChangedEventCount;
+    private Thread taskBookChangedThread;
+    private List<String> progressMessages;
     private boolean helpShown;
     private int targetedJumpIndex;
 
     @Subscribe
     private void handleLocalModelChangedEvent(TaskBookChangedEvent abce) {
         latestSavedTaskBook = new TaskBook(abce.data);
+        taskBookChangedEventCount++;
+        taskBookChangedThread = Thread.currentThread();
+    }
+
+    @Subscribe
+    private void handleCommandProgressEvent(CommandProgressEvent event) {
+        progressMessages.add(event.message);
     }
 
     @Subscribe
@@ -74,6 +94,7 @@ public class LogicManagerTest {
 
         latestSavedTaskBook = new TaskBook(model.getTaskBook()); // last saved assumed to be up to date before.
         helpShown = false;
+        progressMessages = new ArrayList<>();
         targetedJumpIndex = -1; // non yet
     }
 
@@ -376,6 +397,106 @@ public class LogicManagerTest {
                 expectedAB,
                 expectedList);
     }
+
+    @Test
+    public void execute_listDateRange_showsTasksActiveInRange() throws Exception {
+        // prepare expectations
+        LocalDateTime today = DateUtil.getTodayAsLocalDateTime();
+        TestDataHelper helper = new TestDataHelper();
+        Task test, trip, meeting, lunch;
+        test = helper.generateDeadlineWithName("test", today);
+        trip = new EventTask(new Name("trip"), new TaskDate(today.minusDays(3)), new TaskDate(today.plusDays(1)));
+        meeting = helper.generateDeadlineWithName("meeting", today.plusDays(2));
+        lunch = helper.generateDeadlineWithName("lunch", today.plusDays(5));
+        TaskBook expectedAB = helper.generateTaskBook(test, trip, meeting, lunch);
+        List<? extends ReadOnlyTask> expectedList = helper.generateTaskList(trip, meeting);
+
+        helper.addToModel(model, test, trip, meeting, lunch);
+
+        // execute command and verify result
+        LocalDateTime from = today.toLocalDate().plusDays(1).atStartOfDay();
+        LocalDateTime to = today.toLocalDate().plusDays(2).atTime(LocalTime.MAX);
+        assertCommandBehavior("list tomorrow to 2 days from now",
+                String.format(ListCommand.MESSAGE_LIST_DATE_RANGE_SUCCESS,
+                        DateUtil.formatLocalDateTimeToString(from), DateUtil.formatLocalDateTimeToString(to)),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_listNextDue_showsPendingTasksSoonestFirst() throws Exception {
+        // prepare expectations
+        LocalDateTime now = LocalDateTime.now();
+        TestDataHelper helper = new TestDataHelper();
+        Task test, exam, meeting, lunch;
+        test = helper.generateDeadlineWithName("test", now.plusDays(3));
+        exam = helper.generateDeadlineWithName("exam", now.minusDays(1));
+        meeting = helper.generateDeadlineWithName("meeting", now.plusDays(1));
+        lunch = helper.generateDeadlineWithName("lunch", now.plusDays(5));
+        TaskBook expectedAB = helper.generateTaskBook(test, exam, meeting, lunch);
+        List<? extends ReadOnlyTask> expectedList = helper.generateTaskList(meeting, test);
+
+        helper.addToModel(model, test, exam, meeting, lunch);
+
+        // execute command and verify result
+        assertCommandBehavior("list /n 2",
+                String.format(ListCommand.MESSAGE_LIST_NEXT_DUE_SUCCESS, 2),
+                expectedAB,
+                expectedList);
+        assertCommandBehavior("list /n 0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_listOverlapping_showsOtherTasksDuringEvent() throws Exception {
+        // prepare expectations
+        LocalDateTime today = DateUtil.getTodayAsLocalDateTime();
+        TestDataHelper helper = new TestDataHelper();
+        Task trip, test, lunch, meeting;
+        trip = new EventTask(new Name("trip"), new TaskDate(today.minusDays(1)), new TaskDate(today.plusDays(1)));
+        test = helper.generateDeadlineWithName("test", today);
+        lunch = helper.generateTaskWithName("lunch");
+        meeting = helper.generateDeadlineWithName("meeting", today.plusDays(2));
+        TaskBook expectedAB = helper.generateTaskBook(trip, test, lunch, meeting);
+        List<? extends ReadOnlyTask> expectedList = helper.generateTaskList(test);
+
+        helper.addToModel(model, trip, test, lunch, meeting);
+        model.updateFilteredListToShowAll();
+
+        // execute command and verify result
+        assertCommandBehavior("list /o 2",
+                ListCommand.MESSAGE_NOT_AN_EVENT,
+                expectedAB,
+                expectedAB.getTaskList());
+        assertCommandBehavior("list /o 5",
+                MESSAGE_INVALID_TASK_DISPLAYED_INDEX,
+                expectedAB,
+                expectedAB.getTaskList());
+        assertCommandBehavior("list /o 1",
+                String.format(ListCommand.MESSAGE_LIST_OVERLAPPING_SUCCESS, trip.getName()),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_listNextDueMoreThanUpcoming_reportsNumberShown() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        TestDataHelper helper = new TestDataHelper();
+        Task exam = helper.generateDeadlineWithName("exam", now.minusDays(1));
+        Task meeting = helper.generateDeadlineWithName("meeting", now.plusDays(1));
+        Task test = helper.generateDeadlineWithName("test", now.plusDays(3));
+        TaskBook expectedAB = helper.generateTaskBook(exam, meeting, test);
+        List<? extends ReadOnlyTask> expectedList = helper.generateTaskList(meeting, test);
+
+        helper.addToModel(model, exam, meeting, test);
+
+        assertCommandBehavior("list /n 5",
+                String.format(ListCommand.MESSAGE_LIST_NEXT_DUE_SUCCESS, 2),
+                expectedAB,
+                expectedList);
+    }
     //@@author
     /**
      * Confirms the 'invalid argument index number behaviour' for the given command
@@ -463,6 +584,212 @@ public class LogicManagerTest {
                 expectedAB.getTaskList());
     }
 
+    @Test
+    public void execute_deleteRangesOfIndexes_removesCorrectTasks() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> fiveTasks = helper.generateTaskList(5);
+
+        TaskBook expectedAB = helper.generateTaskBook(fiveTasks);
+        expectedAB.removeTask(fiveTasks.get(0), "delete");
+        expectedAB.removeTask(fiveTasks.get(1), "delete");
+        expectedAB.removeTask(fiveTasks.get(3), "delete");
+        helper.addToModel(model, fiveTasks);
+
+        assertCommandBehavior("delete 4, 1-2",
+                String.format(DeleteCommand.MESSAGE_DELETE_TASKS_SUCCESS, 3),
+                expectedAB,
+                expectedAB.getTaskList());
+    }
+
+    @Test
+    public void execute_deleteInvalidRangesOfIndexes_nothingDeleted() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE);
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> threeTasks = helper.generateTaskList(3);
+        model.resetData(new TaskBook());
+        for (Task p : threeTasks) {
+            model.addTask(p);
+        }
+
+        assertCommandBehavior("delete 3-1", expectedMessage, model.getTaskBook(), threeTasks);
+        assertCommandBehavior("delete 1,", expectedMessage, model.getTaskBook(), threeTasks);
+        assertCommandBehavior("delete 1-2-3", expectedMessage, model.getTaskBook(), threeTasks);
+        assertCommandBehavior("delete 1,-2", expectedMessage, model.getTaskBook(), threeTasks);
+        assertCommandBehavior("delete 1,4", MESSAGE_INVALID_TASK_DISPLAYED_INDEX, model.getTaskBook(), threeTasks);
+    }
+
+    @Test
+    public void execute_completeListOfIndexes_completesTasksAsOneChange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> threeTasks = helper.generateTaskList(3);
+
+        TaskBook expectedAB = helper.generateTaskBook(threeTasks);
+        expectedAB.completeTask(threeTasks.get(0));
+        expectedAB.completeTask(threeTasks.get(2));
+        helper.addToModel(model, threeTasks);
+
+        assertCommandBehavior("complete 3,1",
+                String.format(CompleteCommand.MESSAGE_COMPLETE_TASKS_SUCCESS, 2),
+                expectedAB,
+                Collections.singletonList(threeTasks.get(1)));
+
+        // both tasks are pending again after a single undo
+        logic.execute("undo");
+        for (ReadOnlyTask task : model.getTaskBook().getTaskList()) {
+            assertFalse(task.getStatus().isComplete());
+        }
+    }
+
+
+    @Test
+    public void execute_runScript_runsLinesInOrderAsOneChange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTaskList(50);
+        List<String> lines = new ArrayList<>();
+        lines.add("# tasks for the week");
+        for (Task task : tasks) {
+            lines.add(helper.generateAddCommand(task));
+        }
+        lines.add("");
+        lines.add("delete 99");
+        lines.add("exit");
+        File script = saveFolder.newFile("script.txt");
+        Files.write(script.toPath(), lines);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 52, script.getPath())
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 2)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 53, "delete 99", MESSAGE_INVALID_TASK_DISPLAYED_INDEX)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 54, "exit", RunCommand.MESSAGE_NOT_ALLOWED_IN_SCRIPT);
+        TaskBook expectedAB = helper.generateTaskBook(tasks);
+        assertCommandBehavior("run " + script.getPath(), expectedMessage, expectedAB, tasks);
+        assertEquals(1, taskBookChangedEventCount);
+    }
+
+    @Test
+    public void execute_runScriptWithDuplicateAdd_duplicateReportedAsFailedLine() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTaskList(2);
+        String addFirst = helper.generateAddCommand(tasks.get(0));
+        File script = saveFolder.newFile("script.txt");
+        Files.write(script.toPath(), Arrays.asList(addFirst, addFirst, helper.generateAddCommand(tasks.get(1))));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 3, script.getPath())
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 1)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, addFirst, AddCommand.MESSAGE_DUPLICATE_TASK);
+        assertCommandBehavior("run " + script.getPath(), expectedMessage, helper.generateTaskBook(tasks), tasks);
+    }
+
+    @Test
+    public void execute_runLongScript_progressReported() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTaskList(250);
+        List<String> lines = new ArrayList<>();
+        for (Task task : tasks) {
+            lines.add(helper.generateAddCommand(task));
+        }
+        File script = saveFolder.newFile("script.txt");
+        Files.write(script.toPath(), lines);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 250, script.getPath());
+        assertCommandBehavior("run " + script.getPath(), expectedMessage, helper.generateTaskBook(tasks), tasks);
+        assertEquals(Arrays.asList(String.format(RunCommand.MESSAGE_PROGRESS, script.getPath(), 100, 250),
+                String.format(RunCommand.MESSAGE_PROGRESS, script.getPath(), 200, 250)), progressMessages);
+    }
+
+    @Test
+    public void executeAsync_manyCommands_executedInOrderOffCallingThread() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTaskList(20);
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        for (Task task : tasks) {
+            results.add(logic.executeAsync(helper.generateAddCommand(task)));
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, tasks.get(i)),
+                    results.get(i).get(1, TimeUnit.MINUTES).feedbackToUser);
+        }
+        assertEquals(helper.generateTaskBook(tasks), model.getTaskBook());
+        assertNotSame(Thread.currentThread(), taskBookChangedThread);
+    }
+
+    @Test
+    public void execute_runLineParserThrows_reportedAsFailedLine() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTaskList(2);
+        List<String> lines = Arrays.asList(helper.generateAddCommand(tasks.get(0)), "unparseable",
+                helper.generateAddCommand(tasks.get(1)));
+        IllegalStateException parseFailure = new IllegalStateException("parser broke");
+        RunCommand command = new RunCommand("script.txt", lines, line -> {
+            if (line.equals("unparseable")) {
+                throw parseFailure;
+            }
+            return Parser.initialise().parseCommand(line);
+        });
+        command.setData(model);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 3, "script.txt")
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 1)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, "unparseable",
+                        String.format(RunCommand.MESSAGE_PARSE_FAIL, parseFailure));
+        assertEquals(expectedMessage, command.execute().feedbackToUser);
+        assertEquals(helper.generateTaskBook(tasks), model.getTaskBook());
+    }
+
+    @Test
+    public void execute_runLineThrowsWhileExecuted_reportedAsFailedLineAndRestSaved() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTaskList(2);
+        List<String> lines = Arrays.asList(helper.generateAddCommand(tasks.get(0)), "broken",
+                helper.generateAddCommand(tasks.get(1)));
+        IllegalStateException executeFailure = new IllegalStateException("command broke");
+        RunCommand command = new RunCommand("script.txt", lines, line -> {
+            if (line.equals("broken")) {
+                return new Command() {
+                    @Override
+                    public CommandResult execute() {
+                        throw executeFailure;
+                    }
+                };
+            }
+            return Parser.initialise().parseCommand(line);
+        });
+        command.setData(model);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 3, "script.txt")
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 1)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, "broken",
+                        String.format(RunCommand.MESSAGE_EXECUTE_FAIL, executeFailure));
+        assertEquals(expectedMessage, command.execute().feedbackToUser);
+        assertEquals(helper.generateTaskBook(tasks), latestSavedTaskBook);
+    }
+
+    @Test
+    public void runAsOneChange_exceptionPartWay_changesSoFarSaved() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> tasks = helper.generateTaskList(1);
+        try {
+            model.runAsOneChange(() -> {
+                try {
+                    model.addTask(tasks.get(0));
+                } catch (UniqueTaskList.DuplicateTaskException e) {
+                    throw new AssertionError(e);
+                }
+                throw new IllegalStateException("part way");
+            });
+            fail("The exception should not be swallowed");
+        } catch (IllegalStateException e) {
+            assertEquals(1, taskBookChangedEventCount);
+            assertEquals(helper.generateTaskBook(tasks), latestSavedTaskBook);
+        }
+    }
+
+    @Test
+    public void execute_runMissingFile_errorMessageShown() throws Exception {
+        String missingFile = saveFolder.getRoot().getPath() + File.separator + "missing.txt";
+        assertCommandBehavior("run " + missingFile, String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+        assertCommandBehavior("run ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
 
     @Test
     public void execute_find_invalidArgsFormat() throws Exception {
@@ -527,6 +854,48 @@ public class LogicManagerTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_findWithOptionOnly_invalidArgsFormat() throws Exception {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertCommandBehavior("find /t", expectedMessage);
+    }
+
+    @Test
+    public void execute_findByPrefix_wholeWordsFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task pTarget1 = helper.generateTaskWithName("bla keyboard");
+        Task pTarget2 = helper.generateTaskWithName("bla KEY bla");
+        Task p1 = helper.generateTaskWithName("bla monkey");
+
+        List<Task> threeTasks = helper.generateTaskList(pTarget1, p1, pTarget2);
+        TaskBook expectedAB = helper.generateTaskBook(threeTasks);
+        List<Task> expectedList = helper.generateTaskList(pTarget2, pTarget1);
+        helper.addToModel(model, threeTasks);
+
+        assertCommandBehavior("find /s key",
+                Command.getMessageForTaskListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_findSimilar_closestFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task pTarget1 = helper.generateTaskWithName("bla repot");
+        Task pTarget2 = helper.generateTaskWithName("bla Report bla");
+        Task p1 = helper.generateTaskWithName("bla reproach");
+
+        List<Task> threeTasks = helper.generateTaskList(pTarget1, p1, pTarget2);
+        TaskBook expectedAB = helper.generateTaskBook(threeTasks);
+        List<Task> expectedList = helper.generateTaskList(pTarget2, pTarget1);
+        helper.addToModel(model, threeTasks);
+
+        assertCommandBehavior("find /t REPORT",
+                Command.getMessageForTaskListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+    }
+
     /**
      * A utility class to generate test data.
      */
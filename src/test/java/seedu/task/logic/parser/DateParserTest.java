@@ -0,0 +1,81 @@
+package seedu.task.logic.parser;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DateParserTest {
+
+    private final DateParser dateParser = DateParser.getInstance();
+
+    @Test
+    public void parse_samePhraseWrittenDifferently_cachedDatesReused() {
+        // a shape left to Natty, so that the cache is used
+        List<LocalDateTime> dates = dateParser.parse("Dec 24 2027 5pm");
+        assertEquals(1, dates.size());
+        assertEquals(LocalDateTime.of(2027, 12, 24, 17, 0), dates.get(0));
+        assertSame(dates, dateParser.parse("  dec 24   2027 5PM "));
+    }
+
+    @Test
+    public void parse_commonShapeWrittenDifferently_readWithoutNatty() {
+        List<LocalDateTime> expected = Collections.singletonList(LocalDate.now().plusDays(1).atTime(17, 0));
+        assertEquals(expected, dateParser.parse("tomorrow 5pm"));
+        assertEquals(expected, dateParser.parse("  Tomorrow   5PM "));
+    }
+
+    @Test
+    public void parse_timeTakenFromCurrentTime_notCached() {
+        List<LocalDateTime> dates = dateParser.parse("tomorrow");
+        assertEquals(LocalDate.now().plusDays(1), dates.get(0).toLocalDate());
+        assertNotSame(dates, dateParser.parse("tomorrow"));
+        assertNotSame(dateParser.parse("in 3 hours"), dateParser.parse("in 3 hours"));
+    }
+
+    @Test
+    public void parse_twoDates_bothReturnedInOrder() {
+        List<LocalDateTime> dates = dateParser.parse("Oct 1 2pm to 4pm");
+        assertEquals(2, dates.size());
+        assertEquals(LocalTime.of(14, 0), dates.get(0).toLocalTime());
+        assertEquals(LocalTime.of(16, 0), dates.get(1).toLocalTime());
+        assertTrue(dateParser.parse("no dates here").isEmpty());
+    }
+
+    @Test
+    public void parse_manyThreadsAtOnce_sameDatesAsOneThread() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<LocalDateTime>>> results = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // most phrases are new, so the threads run Natty at the same time
+            String phrase = "dec " + getDay(i) + " 2027 " + getHour(i) + ":00";
+            results.add(executor.submit(() -> dateParser.parse(phrase)));
+        }
+        for (int i = 0; i < results.size(); i++) {
+            List<LocalDateTime> dates = results.get(i).get(1, TimeUnit.MINUTES);
+            assertEquals(Collections.singletonList(LocalDateTime.of(2027, 12, getDay(i), getHour(i), 0)), dates);
+        }
+        executor.shutdown();
+    }
+
+    private int getDay(int i) {
+        return i % 28 + 1;
+    }
+
+    private int getHour(int i) {
+        return i % 11 + 10;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.task.logic.parser;
+
+import org.junit.Test;
+
+import seedu.task.logic.commands.AddCommand;
+import seedu.task.logic.commands.Command;
+import seedu.task.logic.commands.ExitCommand;
+import seedu.task.logic.commands.IncorrectCommand;
+import seedu.task.logic.commands.ListCommand;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParserManagerTest {
+
+    private final ParserManager parser = Parser.initialise();
+
+    @Test
+    public void initialise_calledTwice_sameParsers() {
+        assertSame(parser, Parser.initialise());
+    }
+
+    @Test
+    public void parseCommand_commandWordFollowedByAnyWhitespace_registeredParserUsed() {
+        assertTrue(parser.parseCommand("add \"a task\"") instanceof AddCommand);
+        assertTrue(parser.parseCommand("  add\t\"a task\" ") instanceof AddCommand);
+        assertTrue(parser.parseCommand("list") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_unregisteredCommandWord_incorrectCommand() {
+        assertTrue(parser.parseCommand("") instanceof IncorrectCommand);
+        assertTrue(parser.parseCommand("ad \"a task\"") instanceof IncorrectCommand);
+        assertTrue(parser.parseCommand("addd \"a task\"") instanceof IncorrectCommand);
+        assertTrue(parser.parseCommand("ADD \"a task\"") instanceof IncorrectCommand);
+    }
+
+    @Test
+    public void parseCommand_commandWithoutArguments_newCommandEachTime() {
+        Command exit = parser.parseCommand("exit");
+        assertTrue(exit instanceof ExitCommand);
+        assertNotSame(exit, parser.parseCommand("exit"));
+    }
+}
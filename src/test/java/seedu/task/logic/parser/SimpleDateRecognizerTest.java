@@ -0,0 +1,85 @@
+package seedu.task.logic.parser;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import com.joestelmach.natty.DateGroup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class SimpleDateRecognizerTest {
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate tomorrow = today.plusDays(1);
+
+    @Test
+    public void recognize_emptyPhrase_noDates() {
+        assertEquals(Collections.emptyList(), SimpleDateRecognizer.recognize("", today));
+    }
+
+    @Test
+    public void recognize_oneDate_sameAsNatty() {
+        assertRecognizedSameAsNatty("25 dec 2026 10:00", LocalDateTime.of(2026, 12, 25, 10, 0));
+        assertRecognizedSameAsNatty("1 mar 2027 0:05", LocalDateTime.of(2027, 3, 1, 0, 5));
+        assertRecognizedSameAsNatty("2026-12-25 10:00", LocalDateTime.of(2026, 12, 25, 10, 0));
+        assertRecognizedSameAsNatty("2026-12-25t23:59", LocalDateTime.of(2026, 12, 25, 23, 59));
+        assertRecognizedSameAsNatty("today 17:00", today.atTime(17, 0));
+        assertRecognizedSameAsNatty("tomorrow 5:30pm", tomorrow.atTime(17, 30));
+        assertRecognizedSameAsNatty("tomorrow at 5pm", tomorrow.atTime(17, 0));
+        assertRecognizedSameAsNatty("tomorrow 12am", tomorrow.atTime(0, 0));
+        assertRecognizedSameAsNatty("tomorrow 12pm", tomorrow.atTime(12, 0));
+    }
+
+    @Test
+    public void recognize_twoDates_sameAsNatty() {
+        assertRecognizedSameAsNatty("tomorrow 5pm to 7pm", tomorrow.atTime(17, 0), tomorrow.atTime(19, 0));
+        assertRecognizedSameAsNatty("tomorrow 9pm to 8am", tomorrow.atTime(21, 0), tomorrow.atTime(8, 0));
+        assertRecognizedSameAsNatty("25 dec 2026 10:00 to 26 dec 2026 12:00",
+                LocalDateTime.of(2026, 12, 25, 10, 0), LocalDateTime.of(2026, 12, 26, 12, 0));
+        assertRecognizedSameAsNatty("today 9:00 to tomorrow 17:00", today.atTime(9, 0), tomorrow.atTime(17, 0));
+    }
+
+    @Test
+    public void recognize_otherShapes_leftToNatty() {
+        // no time, so Natty takes the time from the current time
+        assertNull(SimpleDateRecognizer.recognize("2026-12-25", today));
+        assertNull(SimpleDateRecognizer.recognize("tomorrow", today));
+        // times Natty reads in its own way
+        assertNull(SimpleDateRecognizer.recognize("tomorrow 13pm", today));
+        assertNull(SimpleDateRecognizer.recognize("tomorrow 5 pm", today));
+        assertNull(SimpleDateRecognizer.recognize("25 dec 2026 24:00", today));
+        assertNull(SimpleDateRecognizer.recognize("25 dec 2026 10:60", today));
+        assertNull(SimpleDateRecognizer.recognize("31 feb 2026 10:00", today));
+        assertNull(SimpleDateRecognizer.recognize("2026-1-5 10:00", today));
+        // free-form text
+        assertNull(SimpleDateRecognizer.recognize("next friday 5pm", today));
+        assertNull(SimpleDateRecognizer.recognize("tomorrow 5pm until 7pm", today));
+        assertNull(SimpleDateRecognizer.recognize("tomorrow 5pm to", today));
+        assertNull(SimpleDateRecognizer.recognize("tomorrow 5pmish", today));
+    }
+
+    private void assertRecognizedSameAsNatty(String phrase, LocalDateTime... expected) {
+        List<LocalDateTime> expectedDates = Arrays.asList(expected);
+        assertEquals(expectedDates, SimpleDateRecognizer.recognize(phrase, today));
+        assertEquals(expectedDates, parseWithNatty(phrase));
+    }
+
+    private List<LocalDateTime> parseWithNatty(String phrase) {
+        List<LocalDateTime> dates = new ArrayList<>();
+        for (DateGroup group : new com.joestelmach.natty.Parser().parse(phrase)) {
+            for (Date date : group.getDates()) {
+                dates.add(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
+            }
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.task.model;
+
+import org.junit.Test;
+
+import seedu.task.model.task.Name;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.UniqueTaskList;
+import seedu.task.testutil.TypicalTestTasks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class PersistentTaskListTest {
+
+    @Test
+    public void changes_randomPositions_sameAsArrayListAndOldVersionsUnchanged() throws Exception {
+        Random random = new Random(15);
+        List<Task> expected = new ArrayList<>();
+        PersistentTaskList list = PersistentTaskList.empty();
+        List<List<Task>> expectedVersions = new ArrayList<>();
+        List<PersistentTaskList> versions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            Task task = new Task(new Name("task " + i));
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, task);
+                list = list.add(index, task);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, task);
+                list = list.set(index, task);
+            }
+            if (i % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(list);
+            }
+        }
+
+        assertSameTasks(expected, list.asList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertSameTasks(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void of_tasksInOrder_sameTasks() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Task(new Name("task " + i)));
+        }
+        PersistentTaskList list = PersistentTaskList.of(tasks);
+        assertSameTasks(tasks, list.asList());
+        assertSame(tasks.get(37), list.get(37));
+        assertSameTasks(Collections.emptyList(), PersistentTaskList.of(Collections.emptyList()).asList());
+    }
+
+    @Test
+    public void getSnapshot_taskBookChangedAfterwards_snapshotUnchanged() throws Exception {
+        TaskBook taskBook = new TypicalTestTasks().getTypicalTaskBook();
+        List<Task> original = new ArrayList<>(taskBook.getTasks());
+        TaskBookSnapshot snapshot = taskBook.getSnapshot();
+
+        taskBook.completeTask(original.get(1));
+        taskBook.removeTask(original.get(0), "delete");
+        taskBook.addTask(new Task(new Name("new task")));
+        taskBook.sort();
+
+        assertSameTasks(original, snapshot.getTaskList());
+        assertFalse(snapshot.getTaskList().get(1).getStatus().isComplete());
+        assertSameTasks(taskBook.getTasks(), taskBook.getSnapshot().getTaskList());
+
+        taskBook.clearAllTasks();
+        assertEquals(0, taskBook.getSnapshot().getTaskList().size());
+        UniqueTaskList restored = snapshot.getUniqueTaskList();
+        assertSameTasks(original, restored.getInternalList());
+    }
+
+    private void assertSameTasks(List<? extends ReadOnlyTask> expected, List<? extends ReadOnlyTask> actual) {
+        assertEquals(expected.size(), actual.size());
+        int i = 0;
+        for (ReadOnlyTask task : actual) {
+            assertSame(expected.get(i++), task);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.task.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.task.model.task.DeadlineTask;
+import seedu.task.model.task.EventTask;
+import seedu.task.model.task.Name;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.TaskDate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class TaskIntervalIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2016, 11, 7, 0, 0);
+
+    private TaskBook taskBook;
+
+    @Before
+    public void setup() throws Exception {
+        taskBook = new TaskBook();
+        taskBook.addTask(event("conference", MONDAY.plusHours(9), MONDAY.plusDays(2).plusHours(17)));
+        taskBook.addTask(deadline("report", MONDAY.plusDays(1).plusHours(12)));
+        taskBook.addTask(new Task(new Name("floating")));
+        taskBook.addTask(event("lunch", MONDAY.plusHours(12), MONDAY.plusHours(13)));
+        taskBook.addTask(deadline("essay", MONDAY.plusDays(4)));
+    }
+
+    @Test
+    public void findTasksActiveBetween_overlappingEventsAndDeadlinesInside_inListOrder() {
+        assertEquals(Arrays.asList("conference", "report", "lunch"),
+                toNames(taskBook.findTasksActiveBetween(MONDAY, MONDAY.plusDays(1).plusHours(23))));
+        // an event running through the whole period
+        assertEquals(Arrays.asList("conference"),
+                toNames(taskBook.findTasksActiveBetween(MONDAY.plusDays(2), MONDAY.plusDays(2).plusHours(1))));
+        // the ends of the period are included
+        assertEquals(Arrays.asList("essay"),
+                toNames(taskBook.findTasksActiveBetween(MONDAY.plusDays(2).plusHours(18), MONDAY.plusDays(4))));
+        assertEquals(Arrays.asList("conference", "lunch"),
+                toNames(taskBook.findTasksActiveBetween(MONDAY.plusHours(13), MONDAY.plusHours(14))));
+        assertEquals(0, taskBook.findTasksActiveBetween(MONDAY.plusDays(5), MONDAY.plusDays(6)).size());
+    }
+
+    @Test
+    public void findTasksOverlapping_event_otherTasksDuringIt() {
+        Task conference = taskBook.getTasks().get(0);
+        assertEquals(Arrays.asList("report", "lunch"), toNames(taskBook.findTasksOverlapping(conference)));
+    }
+
+    @Test
+    public void findNextDueTasks_pendingTasksSoonestFirst() throws Exception {
+        assertEquals(Arrays.asList("lunch", "report"), toNames(taskBook.findNextDueTasks(MONDAY.plusHours(12), 2)));
+        taskBook.completeTask(taskBook.getTasks().get(1));
+        assertEquals(Arrays.asList("lunch", "conference", "essay"),
+                toNames(taskBook.findNextDueTasks(MONDAY.plusHours(12), 5)));
+    }
+
+    @Test
+    public void findNextDueTasks_completionUndone_dueAgain() throws Exception {
+        taskBook.completeTask(taskBook.getTasks().get(3));
+        assertEquals(Arrays.asList("report"), toNames(taskBook.findNextDueTasks(MONDAY.plusHours(12), 1)));
+        taskBook.undoTask();
+        assertEquals(Arrays.asList("lunch"), toNames(taskBook.findNextDueTasks(MONDAY.plusHours(12), 1)));
+    }
+
+    @Test
+    public void findTasksActiveBetween_randomChanges_matchesScan() throws Exception {
+        Random random = new Random(42);
+        taskBook = new TaskBook();
+        for (int i = 0; i < 2000; i++) {
+            if (i % 3 == 2 && !taskBook.getTasks().isEmpty()) {
+                Task toRemove = taskBook.getTasks().get(random.nextInt(taskBook.getTasks().size()));
+                taskBook.removeTask(toRemove, "delete");
+                continue;
+            }
+            LocalDateTime start = MONDAY.plusHours(random.nextInt(24 * 30));
+            String name = "task " + i;
+            taskBook.addTask(random.nextBoolean() ? deadline(name, start)
+                    : event(name, start, start.plusHours(random.nextInt(24 * 3))));
+        }
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime from = MONDAY.plusHours(random.nextInt(24 * 30));
+            LocalDateTime to = from.plusHours(random.nextInt(24 * 2));
+            List<Task> expected = new ArrayList<>();
+            for (Task task : taskBook.getTasks()) {
+                if (TaskIntervalIndex.isActiveBetween(task, from, to)) {
+                    expected.add(task);
+                }
+            }
+            assertEquals(expected, taskBook.findTasksActiveBetween(from, to));
+        }
+    }
+
+    private Task event(String name, LocalDateTime start, LocalDateTime end) throws Exception {
+        return new EventTask(new Name(name), new TaskDate(start), new TaskDate(end));
+    }
+
+    private Task deadline(String name, LocalDateTime end) throws Exception {
+        return new DeadlineTask(new Name(name), new TaskDate(end));
+    }
+
+    private List<String> toNames(List<? extends ReadOnlyTask> tasks) {
+        return tasks.stream().map(task -> task.getName().fullName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.task.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.task.model.task.Name;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.testutil.TypicalTestTasks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class TaskNameIndexTest {
+
+    private TaskBook taskBook;
+
+    @Before
+    public void setup() {
+        taskBook = new TypicalTestTasks().getTypicalTaskBook();
+    }
+
+    @Test
+    public void findTasks_partialWordsAnyCase_matchesInListOrder() {
+        assertFound(keywords("ASSIGN"), "assignment", "software engineering project assignment");
+        assertFound(keywords("exam", "john"), "meeting with John", "programming exam");
+        assertFound(keywords("engineering project"));
+        assertFound(keywords("nothing"));
+    }
+
+    @Test
+    public void findTasks_afterAddRemoveEdit_indexUpdated() throws Exception {
+        taskBook.addTask(0, new Task(new Name("assignment two")));
+        taskBook.removeTask(new Task(TypicalTestTasks.assignment), "delete");
+        assertFound(keywords("assignment"), "assignment two", "software engineering project assignment");
+
+        int index = taskBook.getIndex(new Task(TypicalTestTasks.exam));
+        taskBook.editTask(index, taskBook.getUniqueTaskList().getTaskFromIndex(index),
+                new Task(new Name("final assignment")));
+        assertFound(keywords("exam"));
+        assertFound(keywords("assignment"),
+                "assignment two", "final assignment", "software engineering project assignment");
+
+        taskBook.undoTask();
+        assertFound(keywords("exam"), "programming exam");
+    }
+
+    @Test
+    public void findTasks_afterClearCompleted_indexUpdatedByOneListChange() throws Exception {
+        taskBook.completeTask(new Task(TypicalTestTasks.assignment));
+        taskBook.completeTask(new Task(TypicalTestTasks.exam));
+        int[] listChanges = {0};
+        taskBook.getTasks().addListener((ListChangeListener<Task>) change -> listChanges[0]++);
+
+        taskBook.clearCompletedTasks();
+        assertEquals(1, listChanges[0]);
+        assertFound(keywords("assignment"), "software engineering project assignment");
+        assertFound(keywords("exam"));
+        assertEquals(2, taskBook.getIndex(new Task(TypicalTestTasks.project)));
+
+        taskBook.undoTask();
+        assertFound(keywords("assignment"), "assignment", "software engineering project assignment");
+        assertFound(keywords("exam"), "programming exam");
+    }
+
+    @Test
+    public void findTasksByPrefix_wholeWordsRankFirst() throws Exception {
+        taskBook.addTask(new Task(new Name("Assign roles")));
+        Map<Task, Integer> ranks = taskBook.findTasksByPrefix(keywords("ASSIGN", "prog"));
+        assertEquals(Arrays.asList("Assign roles", "assignment", "software engineering project assignment",
+                "programming exam"), toNames(rank(ranks)));
+        assertEquals(Integer.valueOf(0), ranks.get(taskBook.getTasks().get(7)));
+        assertEquals(0, taskBook.findTasksByPrefix(keywords("ssign")).size());
+    }
+
+    @Test
+    public void findSimilarTasks_typos_closestFirst() throws Exception {
+        taskBook.addTask(new Task(new Name("sign assignments")));
+        // two typos allowed in longer keywords
+        assertEquals(Arrays.asList("assignment", "software engineering project assignment", "sign assignments"),
+                toNames(rank(taskBook.findSimilarTasks(keywords("asignment")))));
+        // one typo allowed in shorter keywords, and a swap of two letters is two typos
+        assertEquals(Arrays.asList("meeting with John", "programming exam"),
+                toNames(rank(taskBook.findSimilarTasks(keywords("jon", "exan")))));
+        assertEquals(0, taskBook.findSimilarTasks(keywords("exma")).size());
+        // short keywords must match a whole word
+        assertEquals(0, taskBook.findSimilarTasks(keywords("wi")).size());
+    }
+
+    @Test
+    public void updateFilteredTaskListBySimilarity_laterChanges_keptInRankOrder() throws Exception {
+        ModelManager model = new ModelManager(taskBook, new UserPrefs());
+        List<ReadOnlyTask> shownTasks = model.getFilteredTaskList();
+
+        model.updateFilteredTaskListBySimilarity(keywords("assignmnt"));
+        assertEquals(2, shownTasks.size());
+        model.deleteTask(shownTasks.get(0), "delete");
+
+        editTask(model, TypicalTestTasks.test, "assignments");
+        editTask(model, TypicalTestTasks.exam, "assignmnt zero");
+        assertEquals(Arrays.asList("assignmnt zero", "software engineering project assignment", "assignments"),
+                toNames(shownTasks));
+    }
+
+    @Test
+    public void updateFilteredTaskList_laterChanges_followedByShownList() throws Exception {
+        ModelManager model = new ModelManager(taskBook, new UserPrefs());
+        List<ReadOnlyTask> shownTasks = model.getFilteredTaskList();
+
+        model.updateFilteredTaskList(keywords("assignment"));
+        assertEquals(2, shownTasks.size());
+
+        model.deleteTask(shownTasks.get(0), "delete");
+        assertEquals(Arrays.asList("software engineering project assignment"), toNames(shownTasks));
+
+        model.addTask(0, new Task(new Name("assignment two")));
+        model.updateFilteredTaskList(keywords("assignment"));
+        assertEquals(Arrays.asList("assignment two", "software engineering project assignment"),
+                toNames(shownTasks));
+    }
+
+    private void editTask(Model model, ReadOnlyTask target, String newName) throws Exception {
+        int index = model.getIndex(new Task(target));
+        Task taskToEdit = model.getTaskBook().getUniqueTaskList().getTaskFromIndex(index);
+        model.editTask(index, taskToEdit, new Task(new Name(newName)));
+    }
+
+    private void assertFound(Set<String> keywords, String... expectedNames) {
+        assertEquals(Arrays.asList(expectedNames), toNames(taskBook.findTasks(keywords)));
+    }
+
+    /**
+     * Returns the ranked tasks, lowest rank first, and then in list order.
+     */
+    private List<Task> rank(Map<Task, Integer> ranks) {
+        return taskBook.getTasks().stream()
+                .filter(ranks::containsKey)
+                .sorted(Comparator.comparingInt(ranks::get))
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> keywords(String... keywords) {
+        return new HashSet<>(Arrays.asList(keywords));
+    }
+
+    private List<String> toNames(List<? extends ReadOnlyTask> tasks) {
+        return tasks.stream().map(task -> task.getName().fullName).collect(Collectors.toList());
+    }
+}
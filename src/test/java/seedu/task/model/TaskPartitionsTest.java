@@ -0,0 +1,132 @@
+package seedu.task.model;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.task.model.task.DeadlineTask;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Status;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.TaskDate;
+import seedu.task.testutil.TypicalTestTasks;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class TaskPartitionsTest {
+
+    private static final LocalDate MOVIE_DATE = LocalDate.of(2015, 8, 2);
+
+    private TaskBook taskBook;
+    private TaskPartitions partitions;
+
+    @Before
+    public void setup() {
+        taskBook = new TypicalTestTasks().getTypicalTaskBook();
+        partitions = new TaskPartitions(taskBook.getUniqueTaskList());
+    }
+
+    @Test
+    public void constructor_existingTasks_partitioned() {
+        assertPartitionsMatchTaskBook();
+        assertEquals(7, partitions.getTasksByStatus(Status.STATUS_PENDING).size());
+        assertEquals(1, partitions.getTasksByEndDate(MOVIE_DATE).size());
+    }
+
+    @Test
+    public void update_singleTaskChanges_partitionsInListOrder() throws Exception {
+        taskBook.completeTask(new Task(TypicalTestTasks.exam));
+        taskBook.completeTask(new Task(TypicalTestTasks.assignment));
+        assertPartitionsMatchTaskBook();
+
+        taskBook.addTask(2, new DeadlineTask(TypicalTestTasks.report.getName(), new TaskDate("2 Aug 2015 09:00")));
+        taskBook.removeTask(new Task(TypicalTestTasks.meeting), "delete");
+        assertPartitionsMatchTaskBook();
+        assertEquals(2, partitions.getTasksByEndDate(MOVIE_DATE).size());
+
+        Task editedTask = new DeadlineTask(TypicalTestTasks.test.getName(), new TaskDate("3 Aug 2015 09:00"));
+        int index = taskBook.getIndex(new Task(TypicalTestTasks.test));
+        taskBook.editTask(index, taskBook.getUniqueTaskList().getTaskFromIndex(index), editedTask);
+        assertPartitionsMatchTaskBook();
+
+        taskBook.undoTask();
+        assertPartitionsMatchTaskBook();
+    }
+
+    @Test
+    public void update_sortAndReset_partitionsRebuilt() throws Exception {
+        taskBook.completeTask(new Task(TypicalTestTasks.project));
+        taskBook.sort();
+        assertPartitionsMatchTaskBook();
+
+        TaskBook other = new TaskBook();
+        other.addTask(new DeadlineTask(TypicalTestTasks.report.getName(), new TaskDate("2 Aug 2015 09:00")));
+        taskBook.resetData(other);
+        assertPartitionsMatchTaskBook();
+        assertEquals(1, partitions.getTasksByStatus(Status.STATUS_PENDING).size());
+        assertEquals(0, partitions.getTasksByEndDate(MOVIE_DATE).size());
+    }
+
+    @Test
+    public void getTasksByEndDate_emptiedDate_forgottenUnlessListenedTo() throws Exception {
+        ObservableList<Task> movieTasks = partitions.getTasksByEndDate(MOVIE_DATE);
+        ListChangeListener<Task> listener = change -> { };
+        movieTasks.addListener(listener);
+        taskBook.removeTask(new Task(TypicalTestTasks.movie), "delete");
+        assertSame(movieTasks, partitions.getTasksByEndDate(MOVIE_DATE));
+
+        taskBook.addTask(new DeadlineTask(TypicalTestTasks.report.getName(), new TaskDate("2 Aug 2015 09:00")));
+        assertEquals(1, movieTasks.size());
+
+        movieTasks.removeListener(listener);
+        taskBook.undoTask();
+        assertNotSame(movieTasks, partitions.getTasksByEndDate(MOVIE_DATE));
+        assertEquals(0, partitions.getTasksByEndDate(MOVIE_DATE).size());
+        assertPartitionsMatchTaskBook();
+    }
+
+    @Test
+    public void updateFilteredList_switchViews_followsLaterChanges() throws Exception {
+        ModelManager model = new ModelManager(new TypicalTestTasks().getTypicalTaskBook(), new UserPrefs());
+        List<ReadOnlyTask> shownTasks = model.getFilteredTaskList();
+
+        model.updateFilteredListByStatus(Status.STATUS_COMPLETE);
+        assertEquals(0, shownTasks.size());
+        model.completeTask(new Task(TypicalTestTasks.exam));
+        assertEquals(1, shownTasks.size());
+
+        model.updateFilteredListByDate(MOVIE_DATE);
+        assertEquals(1, shownTasks.size());
+
+        model.updateFilteredListToShowAll();
+        assertEquals(7, shownTasks.size());
+    }
+
+    private void assertPartitionsMatchTaskBook() {
+        List<Task> tasks = taskBook.getTasks();
+        assertEquals(filter(tasks, true), partitions.getTasksByStatus(Status.STATUS_COMPLETE));
+        assertEquals(filter(tasks, false), partitions.getTasksByStatus(Status.STATUS_PENDING));
+        for (Task task : tasks) {
+            if (task.getEnd() != null) {
+                LocalDate date = task.getEnd().getTaskDate().toLocalDate();
+                assertEquals(tasks.stream()
+                        .filter(other -> other.getEnd() != null
+                                && other.getEnd().getTaskDate().toLocalDate().equals(date))
+                        .collect(Collectors.toList()),
+                        partitions.getTasksByEndDate(date));
+            }
+        }
+    }
+
+    private List<Task> filter(List<Task> tasks, boolean isComplete) {
+        return tasks.stream().filter(task -> task.isComplete() == isComplete).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.task.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.task.model.task.Name;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.UniqueTaskList;
+import seedu.task.testutil.TypicalTestTasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class UndoTaskStackTest {
+
+    private TaskBook taskBook;
+
+    @Before
+    public void setup() {
+        taskBook = new TypicalTestTasks().getTypicalTaskBook();
+    }
+
+    @Test
+    public void undoRedo_singleTaskChanges_restoreEachState() throws Exception {
+        List<Task> original = new ArrayList<>(taskBook.getTasks());
+
+        taskBook.addTask(new Task(new Name("new task")));
+        List<Task> afterAdd = new ArrayList<>(taskBook.getTasks());
+        taskBook.removeTask(new Task(TypicalTestTasks.exam), "delete");
+        List<Task> afterDelete = new ArrayList<>(taskBook.getTasks());
+        taskBook.editTask(0, taskBook.getTasks().get(0), new Task(new Name("edited task")));
+        List<Task> afterEdit = new ArrayList<>(taskBook.getTasks());
+        taskBook.completeTask(taskBook.getTasks().get(1));
+
+        taskBook.undoTask();
+        assertEquals("complete 2", taskBook.getUndoInformation());
+        assertTrue(!taskBook.getTasks().get(1).isComplete());
+        taskBook.undoTask();
+        assertSameTasks(afterDelete, taskBook.getTasks());
+        taskBook.undoTask();
+        assertSameTasks(afterAdd, taskBook.getTasks());
+        taskBook.undoTask();
+        assertSameTasks(original, taskBook.getTasks());
+
+        taskBook.redoTask();
+        taskBook.redoTask();
+        taskBook.redoTask();
+        assertSameTasks(afterEdit, taskBook.getTasks());
+        taskBook.redoTask();
+        assertTrue(taskBook.getTasks().get(1).isComplete());
+        assertRedoEmpty();
+    }
+
+    @Test
+    public void undoRedo_clearAll_sameTasksRestoredInOrder() throws Exception {
+        List<Task> original = new ArrayList<>(taskBook.getTasks());
+        taskBook.completeTask(original.get(2));
+        List<Task> afterComplete = new ArrayList<>(taskBook.getTasks());
+
+        taskBook.clearAllTasks();
+        assertEquals(0, taskBook.getTasks().size());
+        taskBook.undoTask();
+        assertEquals("clear /a", taskBook.getUndoInformation());
+        assertSameTasks(afterComplete, taskBook.getTasks());
+        assertTrue(taskBook.getTasks().get(2).isComplete());
+
+        taskBook.redoTask();
+        assertEquals(0, taskBook.getTasks().size());
+        taskBook.undoTask();
+        taskBook.undoTask();
+        assertSameTasks(original, taskBook.getTasks());
+    }
+
+    @Test
+    public void undoRedo_clearCompleted_tasksMergedBackAtTheirPositions() throws Exception {
+        List<Task> original = new ArrayList<>(taskBook.getTasks());
+        taskBook.completeTask(original.get(0));
+        taskBook.completeTask(original.get(3));
+        taskBook.completeTask(original.get(original.size() - 1));
+        List<Task> afterComplete = new ArrayList<>(taskBook.getTasks());
+
+        taskBook.clearCompletedTasks();
+        assertEquals(original.size() - 3, taskBook.getTasks().size());
+        taskBook.undoTask();
+        assertSameTasks(afterComplete, taskBook.getTasks());
+
+        taskBook.redoTask();
+        assertEquals(original.size() - 3, taskBook.getTasks().size());
+        taskBook.undoTask();
+        taskBook.undoTask();
+        taskBook.undoTask();
+        taskBook.undoTask();
+        assertSameTasks(original, taskBook.getTasks());
+    }
+
+    @Test
+    public void undoRedo_batch_wholeBatchReversedAndReappliedAtOnce() throws Exception {
+        List<Task> original = new ArrayList<>(taskBook.getTasks());
+        Task edited = new Task(new Name("edited task"));
+        Task added = new Task(new Name("added task"));
+        taskBook.applyBatch(new TaskBatch()
+                .delete(original.get(1))
+                .delete(original.get(2))
+                .complete(original.get(3))
+                .delete(original.get(4))
+                .edit(original.get(0), edited)
+                .add(added));
+        List<Task> afterBatch = new ArrayList<>(taskBook.getTasks());
+        assertEquals(original.size() - 2, afterBatch.size());
+        assertSame(edited, afterBatch.get(0));
+        assertTrue(afterBatch.get(1).isComplete());
+        assertSame(original.get(5), afterBatch.get(2));
+        assertSame(added, afterBatch.get(afterBatch.size() - 1));
+
+        taskBook.undoTask();
+        assertSameTasks(original, taskBook.getTasks());
+        taskBook.redoTask();
+        assertSameTasks(afterBatch, taskBook.getTasks());
+        taskBook.undoTask();
+        assertSameTasks(original, taskBook.getTasks());
+    }
+
+    @Test
+    public void applyBatch_oneChangeFails_nothingChanged() throws Exception {
+        List<Task> original = new ArrayList<>(taskBook.getTasks());
+        try {
+            taskBook.applyBatch(new TaskBatch()
+                    .delete(original.get(0))
+                    .add(new Task(original.get(1))));
+            fail();
+        } catch (UniqueTaskList.DuplicateTaskException e) {
+            // expected
+        }
+        assertSameTasks(original, taskBook.getTasks());
+
+        // a task may take the place of an equal task that the same batch deletes
+        taskBook.applyBatch(new TaskBatch()
+                .delete(original.get(0))
+                .add(new Task(original.get(0))));
+        assertEquals(original.size(), taskBook.getTasks().size());
+    }
+
+    @Test
+    public void undo_completeAfterSortMovedTask_nothingOverwritten() throws Exception {
+        taskBook = new TaskBook();
+        Task second = new Task(new Name("second"));
+        taskBook.addTask(second);
+        taskBook.addTask(new Task(new Name("first")));
+        taskBook.completeTask(second);
+        taskBook.sort();
+        List<Task> sorted = new ArrayList<>(taskBook.getTasks());
+        assertEquals("first", sorted.get(0).getName().fullName);
+
+        try {
+            taskBook.undoTask();
+            fail();
+        } catch (EmptyStackException e) {
+            // expected
+        }
+        assertSameTasks(sorted, taskBook.getTasks());
+    }
+
+    @Test
+    public void undo_restoredClearDoesNotFitList_noDuplicateInserted() throws Exception {
+        taskBook = new TaskBook();
+        Task kept = new Task(new Name("kept"));
+        taskBook.addTask(kept);
+        // a history saved ahead of the task book, whose clear did not really happen
+        taskBook.restoreUndoHistory(Arrays.asList(UndoRecord.clearedAll(
+                new Task[] {new Task(new Name("kept")), new Task(new Name("other"))})));
+
+        try {
+            taskBook.undoTask();
+            fail();
+        } catch (EmptyStackException e) {
+            // expected
+        }
+        assertSameTasks(Arrays.asList(kept), taskBook.getTasks());
+    }
+
+    @Test
+    public void redo_afterNewChange_nothingToRedo() throws Exception {
+        taskBook.addTask(new Task(new Name("first")));
+        taskBook.undoTask();
+        taskBook.addTask(new Task(new Name("second")));
+        assertRedoEmpty();
+    }
+
+    @Test
+    public void undo_beyondHistoryDepth_oldestChangesForgotten() throws Exception {
+        taskBook = new TaskBook();
+        taskBook.setUndoHistoryDepth(3);
+        for (int i = 0; i < 5; i++) {
+            taskBook.addTask(new Task(new Name("task " + i)));
+        }
+        taskBook.undoTask();
+        taskBook.undoTask();
+        taskBook.undoTask();
+        assertEquals(2, taskBook.getTasks().size());
+        try {
+            taskBook.undoTask();
+            fail();
+        } catch (EmptyStackException e) {
+            // expected
+        }
+    }
+
+    private void assertRedoEmpty() {
+        try {
+            taskBook.redoTask();
+            fail();
+        } catch (EmptyStackException e) {
+            // expected
+        }
+    }
+
+    private void assertSameTasks(List<Task> expected, List<Task> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.task.model.task;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.task.model.task.UniqueTaskList.DuplicateTaskException;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UniqueTaskListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private UniqueTaskList list;
+    private Task floating;
+    private DeadlineTask deadline;
+    private EventTask event;
+
+    @Before
+    public void setup() throws Exception {
+        list = new UniqueTaskList();
+        floating = new Task(new Name("buy milk"));
+        deadline = new DeadlineTask(new Name("submit report"), new TaskDate("2 Aug 2015 14:00"));
+        event = new EventTask(new Name("team retreat"), new TaskDate("2 Feb 2020 14:00"),
+                new TaskDate("3 Feb 2020 14:00"));
+        list.add(floating);
+        list.add(deadline);
+        list.add(event);
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() throws Exception {
+        thrown.expect(DuplicateTaskException.class);
+        list.add(new Task(new Name("buy milk")));
+    }
+
+    @Test
+    public void contains_equivalentTask_true() throws Exception {
+        assertTrue(list.contains(new Task(new Name("buy milk"))));
+        assertTrue(list.contains(new DeadlineTask(new Name("submit report"), new TaskDate("2 Aug 2015 14:00"))));
+        assertFalse(list.contains(new DeadlineTask(new Name("submit report"), new TaskDate("3 Aug 2015 14:00"))));
+        assertFalse(list.contains(new Task(new Name("buy bread"))));
+    }
+
+    @Test
+    public void getIndex_afterInsertAndRemove_tracksPositions() throws Exception {
+        Task inserted = new Task(new Name("call mum"));
+        list.add(0, inserted);
+        assertEquals(0, list.getIndex(inserted));
+        assertEquals(1, list.getIndex(floating));
+        assertEquals(3, list.getIndex(event));
+
+        list.remove(deadline);
+        assertEquals(-1, list.getIndex(deadline));
+        assertEquals(2, list.getIndex(event));
+    }
+
+    @Test
+    public void getIndex_afterReplaceAndSort_tracksPositions() throws Exception {
+        Task replacement = new Task(new Name("adopt a cat"));
+        list.replace(0, replacement);
+        assertFalse(list.contains(floating));
+        assertEquals(0, list.getIndex(replacement));
+
+        list.sort();
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.getIndex(list.getTaskFromIndex(i)));
+        }
+    }
+
+    @Test
+    public void getIndex_afterSetAll_tracksPositions() throws Exception {
+        list.getInternalList().setAll(Arrays.asList(event, floating));
+        assertEquals(0, list.getIndex(event));
+        assertEquals(1, list.getIndex(floating));
+        assertFalse(list.contains(deadline));
+    }
+
+    @Test(timeout = 10000)
+    public void add_manyTasks_scalesLinearly() throws Exception {
+        UniqueTaskList largeList = new UniqueTaskList();
+        for (int i = 0; i < 100000; i++) {
+            largeList.add(new Task(new Name("task " + i)));
+        }
+        assertEquals(100000, largeList.size());
+        assertEquals(54321, largeList.getIndex(new Task(new Name("task 54321"))));
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.task.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.util.DateUtil;
+import seedu.task.commons.util.FileUtil;
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.TaskBook;
+import seedu.task.model.task.DeadlineTask;
+import seedu.task.model.task.Name;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.TaskDate;
+import seedu.task.testutil.TypicalTestTasks;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class BinaryTaskBookStorageTest {
+    private static String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/BinaryTaskBookStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskBookStorage(TEST_DATA_FOLDER + "NonExistentFile.bin").readTaskBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage(TEST_DATA_FOLDER + "NotBinaryFormatTaskBook.bin").readTaskBook();
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        new BinaryTaskBookStorage(filePath).saveTaskBook(new TypicalTestTasks().getTypicalTaskBook());
+        byte[] content = Files.readAllBytes(new File(filePath).toPath());
+        Files.write(new File(filePath).toPath(), Arrays.copyOf(content, content.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage(filePath).readTaskBook();
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        original.completeTask(new Task(TypicalTestTasks.exam));
+        BinaryTaskBookStorage binaryTaskBookStorage = new BinaryTaskBookStorage(filePath);
+
+        //Save in new file and read back
+        binaryTaskBookStorage.saveTaskBook(original);
+        ReadOnlyTaskBook readBack = binaryTaskBookStorage.readTaskBook().get();
+        assertSameTasks(original, readBack);
+
+        //Modify data, overwrite exiting file, and read back
+        original.addTask(new Task(TypicalTestTasks.report));
+        original.removeTask(new Task(TypicalTestTasks.assignment), "delete");
+        binaryTaskBookStorage.saveTaskBook(original, filePath);
+        readBack = binaryTaskBookStorage.readTaskBook(filePath).get();
+        assertSameTasks(original, readBack);
+    }
+
+    @Test
+    public void readTaskBook_tasksWithSameName_nameStoredOnce() throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        TaskBook original = new TaskBook();
+        original.addTask(new Task(new Name("submit report")));
+        original.addTask(new DeadlineTask(new Name("submit report"), new TaskDate("2 Aug 2015 14:00")));
+        new BinaryTaskBookStorage(filePath).saveTaskBook(original);
+
+        ReadOnlyTaskBook readBack = new BinaryTaskBookStorage(filePath).readTaskBook().get();
+        assertSameTasks(original, readBack);
+        assertSame(readBack.getTaskList().get(0).getName(), readBack.getTaskList().get(1).getName());
+    }
+
+    @Test
+    public void readTaskBook_taskListView_decodesTasksOnAccess() throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        original.completeTask(new Task(TypicalTestTasks.exam));
+        new BinaryTaskBookStorage(filePath).saveTaskBook(original);
+
+        List<ReadOnlyTask> view = new BinaryTaskBookStorage(filePath).readTaskBook().get().getTaskList();
+        assertEquals(original.getTaskList().size(), view.size());
+        ReadOnlyTask last = view.get(view.size() - 1);
+        ReadOnlyTask expectedLast = original.getTaskList().get(view.size() - 1);
+        assertEquals(expectedLast.getName(), last.getName());
+        assertEquals(expectedLast.getStart(), last.getStart());
+        assertEquals(expectedLast.getEnd(), last.getEnd());
+        for (int i = 0; i < view.size(); i++) {
+            assertEquals(original.getTaskList().get(i).getStatus().toString(), view.get(i).getStatus().toString());
+        }
+    }
+
+    @Test
+    public void read_corruptedNameIndex_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        TaskBook original = new TaskBook();
+        original.addTask(new Task(new Name("submit report")));
+        new BinaryTaskBookStorage(filePath).saveTaskBook(original);
+        byte[] content = Files.readAllBytes(new File(filePath).toPath());
+        // the name index of the only task record, which is followed by its flags byte
+        content[content.length - 2] = 7;
+        Files.write(new File(filePath).toPath(), content);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage(filePath).readTaskBook();
+    }
+
+    @Test
+    public void read_taskCountLargerThanFile_exceptionThrown() throws Exception {
+        assertHeaderCountRejected(8);
+    }
+
+    @Test
+    public void read_nameCountLargerThanFile_exceptionThrown() throws Exception {
+        assertHeaderCountRejected(12);
+    }
+
+    @Test
+    public void read_dateOutOfRange_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        TaskBook original = new TaskBook();
+        original.addTask(new DeadlineTask(new Name("submit report"), new TaskDate("1 Jan 2017 09:00")));
+        new BinaryTaskBookStorage(filePath).saveTaskBook(original);
+        byte[] content = Files.readAllBytes(new File(filePath).toPath());
+        // the end date of the only task record, which ends the file
+        ByteBuffer.wrap(content).putLong(content.length - 8, Long.MAX_VALUE);
+        Files.write(new File(filePath).toPath(), content);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage(filePath).readTaskBook();
+    }
+
+    /**
+     * Asserts that a file whose header has a huge count at the given offset is rejected as corrupt.
+     */
+    private void assertHeaderCountRejected(int countOffset) throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        new BinaryTaskBookStorage(filePath).saveTaskBook(new TypicalTestTasks().getTypicalTaskBook());
+        byte[] content = Files.readAllBytes(new File(filePath).toPath());
+        ByteBuffer.wrap(content).putInt(countOffset, Integer.MAX_VALUE - 1);
+        Files.write(new File(filePath).toPath(), content);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage(filePath).readTaskBook();
+    }
+
+    @Test
+    public void convert_xmlFileToBinary_sameTasks() throws Exception {
+        String xmlFilePath = getTempFilePath("TempTaskBook.xml");
+        String binaryFilePath = getTempFilePath("TempTaskBook.bin");
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        new XmlTaskBookStorage(xmlFilePath).saveTaskBook(original);
+
+        TaskBookFileConverter.convert(xmlFilePath, binaryFilePath);
+        assertSameTasks(original, new BinaryTaskBookStorage(binaryFilePath).readTaskBook().get());
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    private void assertSameTasks(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        assertEquals(toText(expected.getTaskList()), toText(new TaskBook(actual).getTaskList()));
+    }
+
+    private List<String> toText(List<ReadOnlyTask> tasks) {
+        return tasks.stream()
+                .map(task -> task.getClass().getSimpleName() + "|" + task.getName()
+                        + "|" + DateUtil.convertTaskDateToJaxbString(task.getStart())
+                        + "|" + DateUtil.convertTaskDateToJaxbString(task.getEnd()) + "|" + task.getStatus())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.task.storage;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.task.commons.util.DateUtil;
+import seedu.task.commons.util.FileUtil;
+import seedu.task.model.ReadOnlyTaskBook;
+import seedu.task.model.TaskBook;
+import seedu.task.model.TaskListChange;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.testutil.TypicalTestTasks;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JournalTaskBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private File journalFile;
+    private JournalTaskBookStorage storage;
+    private TaskBook taskBook;
+
+    @Before
+    public void setup() throws Exception {
+        filePath = testFolder.getRoot().getPath() + File.separator + "TempTaskBook.xml";
+        journalFile = JournalTaskBookStorage.getJournalFile(new File(filePath));
+        storage = new JournalTaskBookStorage(filePath);
+        taskBook = new TypicalTestTasks().getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        taskBook.takeChanges();
+    }
+
+    @Test
+    public void saveTaskBookChanges_addRemoveComplete_replayedOnRead() throws Exception {
+        taskBook.addTask(new Task(TypicalTestTasks.report));
+        taskBook.removeTask(new Task(TypicalTestTasks.assignment), "delete");
+        taskBook.completeTask(new Task(TypicalTestTasks.exam));
+        storage.saveTaskBookChanges(taskBook, taskBook.takeChanges());
+
+        // the snapshot is untouched, the changes only live in the journal
+        TaskBook snapshot = new TaskBook(new XmlTaskBookStorage(filePath).readTaskBook().get());
+        assertEquals(new TypicalTestTasks().getTypicalTaskBook(), snapshot);
+
+        assertSameTasks(taskBook, new JournalTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBookChanges_reset_compactsJournal() throws Exception {
+        taskBook.addTask(new Task(TypicalTestTasks.report));
+        storage.saveTaskBookChanges(taskBook, taskBook.takeChanges());
+        assertEquals(2, FileUtil.readFromFile(journalFile).split("\n").length);
+
+        taskBook.sort();
+        List<TaskListChange> changes = taskBook.takeChanges();
+        assertEquals(TaskListChange.Type.RESET, changes.get(0).getType());
+        storage.saveTaskBookChanges(taskBook, changes);
+
+        assertEquals(1, FileUtil.readFromFile(journalFile).split("\n").length);
+        assertSameTasks(taskBook, new XmlTaskBookStorage(filePath).readTaskBook().get());
+        assertSameTasks(taskBook, new JournalTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void readTaskBook_journalOfOtherSnapshot_ignored() throws Exception {
+        taskBook.addTask(new Task(TypicalTestTasks.report));
+        storage.saveTaskBookChanges(taskBook, taskBook.takeChanges());
+
+        // e.g. a crash between writing a new snapshot and resetting its journal
+        TaskBook replacement = new TaskBook();
+        replacement.addTask(new Task(TypicalTestTasks.powerpoint));
+        new XmlTaskBookStorage(filePath).saveTaskBook(replacement);
+
+        assertSameTasks(replacement, new JournalTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void readTaskBook_incompleteLastRecord_ignored() throws Exception {
+        taskBook.addTask(new Task(TypicalTestTasks.report));
+        storage.saveTaskBookChanges(taskBook, taskBook.takeChanges());
+        String journal = FileUtil.readFromFile(journalFile);
+        FileUtil.writeToFile(journalFile, journal + "A\t0\tcreate power");
+
+        JournalTaskBookStorage reopened = new JournalTaskBookStorage(filePath);
+        assertSameTasks(taskBook, reopened.readTaskBook().get());
+
+        // the next save starts from a clean journal instead of appending after the partial record
+        taskBook.addTask(new Task(TypicalTestTasks.powerpoint));
+        reopened.saveTaskBookChanges(taskBook, taskBook.takeChanges());
+        assertFalse(FileUtil.readFromFile(journalFile).contains("create power\n"));
+        assertSameTasks(taskBook, new JournalTaskBookStorage(filePath).readTaskBook().get());
+    }
+
+    @Test
+    public void readTaskBook_missingSnapshot_emptyResult() throws Exception {
+        String missingFilePath = testFolder.getRoot().getPath() + File.separator + "Missing.xml";
+        assertFalse(new JournalTaskBookStorage(missingFilePath).readTaskBook().isPresent());
+        assertTrue(FileUtil.isFileExists(journalFile));
+    }
+
+    private void assertSameTasks(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        assertEquals(toText(expected.getTaskList()), toText(actual.getTaskList()));
+    }
+
+    private List<String> toText(List<ReadOnlyTask> tasks) {
+        return tasks.stream()
+                .map(task -> task.getName() + "|" + DateUtil.convertTaskDateToJaxbString(task.getStart())
+                        + "|" + DateUtil.convertTaskDateToJaxbString(task.getEnd()) + "|" + task.getStatus())
+                .collect(Collectors.toList());
+    }
+}
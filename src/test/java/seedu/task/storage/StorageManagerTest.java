@@ -5,19 +5,27 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.task.commons.core.Config;
 import seedu.task.commons.events.model.TaskBookChangedEvent;
 import seedu.task.commons.events.storage.DataSavingExceptionEvent;
 import seedu.task.model.ReadOnlyTaskBook;
 import seedu.task.model.TaskBook;
+import seedu.task.model.TaskBookSnapshot;
+import seedu.task.model.UndoRecord;
 import seedu.task.model.UserPrefs;
+import seedu.task.model.task.Name;
+import seedu.task.model.task.Task;
 import seedu.task.storage.JsonUserPrefsStorage;
 import seedu.task.storage.Storage;
 import seedu.task.storage.StorageManager;
 import seedu.task.storage.XmlTaskBookStorage;
 import seedu.task.testutil.EventsCollector;
+import seedu.task.testutil.TestUtil;
 import seedu.task.testutil.TypicalTestTasks;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
@@ -66,6 +74,19 @@ public class StorageManagerTest {
         //More extensive testing of TaskBook saving/reading is done in XmlTaskBookStorageTest
     }
 
+    @Test
+    public void taskBookReadSave_binaryFileExtension_savedAsBinary() throws Exception {
+        Config config = new Config();
+        config.setTaskBookFilePath(getTempFilePath("ab.bin"));
+        config.setUserPrefsFilePath(getTempFilePath("prefs"));
+        StorageManager binaryStorageManager = new StorageManager(config);
+
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        binaryStorageManager.saveTaskBook(original);
+        ReadOnlyTaskBook retrieved = new BinaryTaskBookStorage(getTempFilePath("ab.bin")).readTaskBook().get();
+        assertEquals(original, new TaskBook(retrieved));
+    }
+
     @Test
     public void getTaskBookFilePath(){
         assertNotNull(storageManager.getTaskBookFilePath());
@@ -77,9 +98,127 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlTaskBookStorageExceptionThrowingStub("dummy"), new JsonUserPrefsStorage("dummy"));
         EventsCollector eventCollector = new EventsCollector();
         storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(new TaskBook()));
+        storage.flushTaskBookSaves();
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleTaskBookChangedEvent_burstOfChanges_latestVersionSaved() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        for (Task task : TestUtil.generateSampleTaskData()) {
+            taskBook.addTask(task);
+            storageManager.handleTaskBookChangedEvent(new TaskBookChangedEvent(taskBook));
+        }
+        storageManager.flushTaskBookSaves();
+        assertEquals(taskBook, new TaskBook(storageManager.readTaskBook().get()));
+    }
+
+
+    @Test
+    public void handleTaskBookChangedEvent_unchangedRevision_notSavedAgain() throws Exception {
+        XmlTaskBookStorageSaveCountingStub taskBookStorage = new XmlTaskBookStorageSaveCountingStub(
+                getTempFilePath("ab"));
+        StorageManager storage = new StorageManager(taskBookStorage, new JsonUserPrefsStorage("dummy"));
+        TaskBook taskBook = new TypicalTestTasks().getTypicalTaskBook();
+
+        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(taskBook.getSnapshot(),
+                taskBook.takeChanges(), taskBook.takeUndoHistoryChanges()));
+        storage.flushTaskBookSaves();
+        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(taskBook.getSnapshot(),
+                taskBook.takeChanges(), taskBook.takeUndoHistoryChanges()));
+        storage.flushTaskBookSaves();
+        assertEquals(1, taskBookStorage.saveCount);
+
+        taskBook.addTask(new Task(TypicalTestTasks.report));
+        TaskBookSnapshot snapshot = taskBook.getSnapshot();
+        taskBook.addTask(new Task(new Name("not saved yet")));
+        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(snapshot,
+                taskBook.takeChanges(), taskBook.takeUndoHistoryChanges()));
+        storage.flushTaskBookSaves();
+        assertEquals(2, taskBookStorage.saveCount);
+        assertEquals(new TaskBook(snapshot), new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void handleTaskBookChangedEvent_undoHistorySaveFails_taskBookSavedAndBothRewrittenLater() throws Exception {
+        Config config = new Config();
+        config.setTaskBookFilePath(getTempFilePath("ab.xml"));
+        config.setTaskBookJournalEnabled(true);
+        StorageManager storage = new StorageManager(config);
+        TaskBook taskBook = new TypicalTestTasks().getTypicalTaskBook();
+        saveChanges(storage, taskBook);
+        int savedUndoRecordCount = readUndoHistory(config).size();
+
+        // appending to a directory fails, as a full disk would
+        File undoHistoryFile = UndoHistoryStorage.getUndoHistoryFile(new File(config.getTaskBookFilePath()));
+        assertTrue(undoHistoryFile.delete() && undoHistoryFile.mkdir());
+        EventsCollector eventCollector = new EventsCollector();
+        taskBook.addTask(new Task(TypicalTestTasks.report));
+        saveChanges(storage, taskBook);
+        assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
+        assertEquals(taskBook, new TaskBook(storage.readTaskBook().get()));
+
+        assertTrue(undoHistoryFile.delete());
+        taskBook.addTask(new Task(new Name("saved after the failure")));
+        saveChanges(storage, taskBook);
+        assertEquals(taskBook, new TaskBook(storage.readTaskBook().get()));
+        assertEquals(savedUndoRecordCount + 2, readUndoHistory(config).size());
+    }
+
+    @Test
+    public void handleTaskBookChangedEvent_taskBookSaveFails_undoHistoryNotSavedAheadAndBothRewrittenLater()
+            throws Exception {
+        Config config = new Config();
+        config.setTaskBookFilePath(getTempFilePath("ab.xml"));
+        StorageManager storage = new StorageManager(config);
+        TaskBook taskBook = new TypicalTestTasks().getTypicalTaskBook();
+        saveChanges(storage, taskBook);
+        int savedUndoRecordCount = readUndoHistory(config).size();
+
+        // writing over a directory fails
+        File taskBookFile = new File(config.getTaskBookFilePath());
+        assertTrue(taskBookFile.delete() && taskBookFile.mkdir());
+        EventsCollector eventCollector = new EventsCollector();
+        taskBook.addTask(new Task(TypicalTestTasks.report));
+        saveChanges(storage, taskBook);
+        assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
+        assertEquals(savedUndoRecordCount, readUndoHistory(config).size());
+
+        assertTrue(taskBookFile.delete());
+        taskBook.addTask(new Task(new Name("saved after the failure")));
+        saveChanges(storage, taskBook);
+        assertEquals(taskBook, new TaskBook(storage.readTaskBook().get()));
+        assertEquals(savedUndoRecordCount + 2, readUndoHistory(config).size());
+    }
+
+    private void saveChanges(StorageManager storage, TaskBook taskBook) {
+        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(taskBook.getSnapshot(),
+                taskBook.takeChanges(), taskBook.takeUndoHistoryChanges()));
+        storage.flushTaskBookSaves();
+    }
+
+    private List<UndoRecord> readUndoHistory(Config config) throws Exception {
+        return new UndoHistoryStorage(config.getTaskBookFilePath(), config.getUndoHistoryDepth(),
+                config.getTaskBookSyncPolicy()).readUndoHistory();
+    }
+
+    /**
+     * A Stub class to count the saves of a task book
+     */
+    class XmlTaskBookStorageSaveCountingStub extends XmlTaskBookStorage {
+
+        private int saveCount;
+
+        public XmlTaskBookStorageSaveCountingStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException {
+            saveCount++;
+            super.saveTaskBook(taskBook, filePath);
+        }
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -0,0 +1,56 @@
+package seedu.task.storage;
+
+import org.junit.Test;
+
+import seedu.task.commons.core.Config.SyncPolicy;
+
+import java.io.File;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SyncTrackerTest {
+
+    private final File file = new File("taskbook.xml");
+    private final BlockingQueue<File> syncedFiles = new LinkedBlockingQueue<>();
+
+    @Test
+    public void isSyncDue_alwaysAndNever_nothingDeferred() {
+        SyncTracker always = new SyncTracker(SyncPolicy.ALWAYS, syncedFiles::add);
+        SyncTracker never = new SyncTracker(SyncPolicy.NEVER, syncedFiles::add);
+        assertTrue(always.isSyncDue(file));
+        assertTrue(always.isSyncDue(file));
+        assertFalse(never.isSyncDue(file));
+
+        SyncTracker.syncDeferredFiles();
+        assertTrue(syncedFiles.isEmpty());
+    }
+
+    @Test
+    public void isSyncDue_batchedBurst_lastWriteSyncedAfterInterval() throws Exception {
+        SyncTracker tracker = new SyncTracker(SyncPolicy.BATCHED, syncedFiles::add);
+        assertTrue(tracker.isSyncDue(file));
+        assertFalse(tracker.isSyncDue(file));
+        assertFalse(tracker.isSyncDue(file));
+        assertTrue(syncedFiles.isEmpty());
+
+        assertEquals(file, syncedFiles.poll(10 * SyncTracker.BATCHED_SYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+        assertNull(syncedFiles.poll(SyncTracker.BATCHED_SYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void syncDeferredFiles_batchedBurst_lastWriteSyncedAtOnce() {
+        SyncTracker tracker = new SyncTracker(SyncPolicy.BATCHED, syncedFiles::add);
+        assertTrue(tracker.isSyncDue(file));
+        assertFalse(tracker.isSyncDue(file));
+
+        SyncTracker.syncDeferredFiles();
+        assertEquals(file, syncedFiles.poll());
+        assertTrue(syncedFiles.isEmpty());
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.task.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.task.commons.core.Config.SyncPolicy;
+import seedu.task.commons.exceptions.DataConversionException;
+import seedu.task.commons.util.DateUtil;
+import seedu.task.model.TaskBook;
+import seedu.task.model.UndoRecord;
+import seedu.task.model.task.DeadlineTask;
+import seedu.task.model.task.Name;
+import seedu.task.model.task.ReadOnlyTask;
+import seedu.task.model.task.Task;
+import seedu.task.model.task.TaskDate;
+import seedu.task.testutil.TypicalTestTasks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class UndoHistoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readUndoHistory_missingFile_emptyResult() throws Exception {
+        assertTrue(createStorage(10).readUndoHistory().isEmpty());
+    }
+
+    @Test
+    public void readUndoHistory_notUndoHistoryFile_exceptionThrown() throws Exception {
+        File file = UndoHistoryStorage.getUndoHistoryFile(new File(getTaskBookFilePath()));
+        Files.write(file.toPath(), "not an undo history".getBytes());
+
+        thrown.expect(DataConversionException.class);
+        createStorage(10).readUndoHistory();
+    }
+
+    @Test
+    public void readUndoHistory_afterRestart_everyChangeCanBeUndone() throws Exception {
+        TaskBook taskBook = new TaskBook(new TypicalTestTasks().getTypicalTaskBook());
+        List<String> original = toText(taskBook.getTaskList());
+        UndoHistoryStorage storage = createStorage(10);
+        storage.readUndoHistory();
+
+        taskBook.addTask(new DeadlineTask(new Name("new task"), new TaskDate("2 Aug 2015 14:00")));
+        taskBook.editTask(0, taskBook.getTasks().get(0), new Task(new Name("edited task")));
+        storage.saveUndoHistoryChanges(taskBook.takeUndoHistoryChanges());
+        taskBook.removeTask(new Task(TypicalTestTasks.exam), "delete");
+        taskBook.completeTask(taskBook.getTasks().get(1));
+        taskBook.completeTask(taskBook.getTasks().get(3));
+        taskBook.clearCompletedTasks();
+        storage.saveUndoHistoryChanges(taskBook.takeUndoHistoryChanges());
+
+        TaskBook restarted = new TaskBook(taskBook);
+        restarted.restoreUndoHistory(createStorage(10).readUndoHistory());
+        for (int i = 0; i < 6; i++) {
+            restarted.undoTask();
+        }
+        assertEquals(original, toText(restarted.getTaskList()));
+        assertUndoEmpty(restarted);
+    }
+
+    @Test
+    public void readUndoHistory_undoneChangesSaved_notRestored() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        UndoHistoryStorage storage = createStorage(10);
+        storage.readUndoHistory();
+        taskBook.addTask(new Task(new Name("first")));
+        taskBook.addTask(new Task(new Name("second")));
+        taskBook.undoTask();
+        storage.saveUndoHistoryChanges(taskBook.takeUndoHistoryChanges());
+
+        List<UndoRecord> records = createStorage(10).readUndoHistory();
+        assertEquals(1, records.size());
+        assertEquals("first", records.get(0).getTasks().get(0).getName().fullName);
+    }
+
+    @Test
+    public void saveUndoHistoryChanges_manySaves_fileStaysSmallAndKeepsLatestRecords() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        taskBook.setUndoHistoryDepth(3);
+        UndoHistoryStorage storage = createStorage(3);
+        storage.readUndoHistory();
+        File file = UndoHistoryStorage.getUndoHistoryFile(new File(getTaskBookFilePath()));
+
+        long maxLength = 0;
+        for (int i = 0; i < 500; i++) {
+            taskBook.addTask(new Task(new Name("task " + i)));
+            storage.saveUndoHistoryChanges(taskBook.takeUndoHistoryChanges());
+            maxLength = Math.max(maxLength, file.length());
+        }
+        // each entry takes a few dozen bytes, and the log never holds much more than the minimum it compacts at
+        assertTrue(maxLength < 50 * (UndoHistoryStorage.MIN_ENTRIES_BEFORE_COMPACTION + 1));
+
+        List<UndoRecord> records = createStorage(3).readUndoHistory();
+        assertEquals(3, records.size());
+        assertEquals("task 497", records.get(0).getTasks().get(0).getName().fullName);
+        assertEquals("task 499", records.get(2).getTasks().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readUndoHistory_incompleteLastEntry_earlierRecordsKept() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        UndoHistoryStorage storage = createStorage(10);
+        storage.readUndoHistory();
+        taskBook.addTask(new Task(new Name("first")));
+        storage.saveUndoHistoryChanges(taskBook.takeUndoHistoryChanges());
+        taskBook.addTask(new Task(new Name("second")));
+        storage.saveUndoHistoryChanges(taskBook.takeUndoHistoryChanges());
+
+        File file = UndoHistoryStorage.getUndoHistoryFile(new File(getTaskBookFilePath()));
+        byte[] content = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(content, content.length - 3));
+
+        UndoHistoryStorage restarted = createStorage(10);
+        assertEquals(1, restarted.readUndoHistory().size());
+
+        // the next save replaces the incomplete entry instead of appending after it
+        taskBook.addTask(new Task(new Name("third")));
+        restarted.saveUndoHistoryChanges(taskBook.takeUndoHistoryChanges());
+        List<UndoRecord> records = createStorage(10).readUndoHistory();
+        assertEquals(2, records.size());
+        assertEquals("third", records.get(1).getTasks().get(0).getName().fullName);
+    }
+
+    private UndoHistoryStorage createStorage(int historyDepth) {
+        return new UndoHistoryStorage(getTaskBookFilePath(), historyDepth, SyncPolicy.NEVER);
+    }
+
+    private String getTaskBookFilePath() {
+        return testFolder.getRoot().getPath() + File.separator + "TempTaskBook.bin";
+    }
+
+    private void assertUndoEmpty(TaskBook taskBook) {
+        try {
+            taskBook.undoTask();
+            fail();
+        } catch (EmptyStackException e) {
+            // expected
+        }
+    }
+
+    private List<String> toText(List<ReadOnlyTask> tasks) {
+        return tasks.stream()
+                .map(task -> task.getClass().getSimpleName() + "|" + task.getName()
+                        + "|" + DateUtil.convertTaskDateToJaxbString(task.getStart())
+                        + "|" + DateUtil.convertTaskDateToJaxbString(task.getEnd()) + "|" + task.getStatus())
+                .collect(Collectors.toList());
+    }
+}
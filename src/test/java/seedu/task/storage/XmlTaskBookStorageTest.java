@@ -7,12 +7,14 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.task.commons.exceptions.DataConversionException;
 import seedu.task.commons.util.FileUtil;
+import seedu.task.commons.util.XmlUtil;
 import seedu.task.model.ReadOnlyTaskBook;
 import seedu.task.model.TaskBook;
 import seedu.task.model.task.Task;
 import seedu.task.storage.XmlTaskBookStorage;
 import seedu.task.testutil.TypicalTestTasks;
 
+import java.io.File;
 import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
@@ -59,6 +61,35 @@ public class XmlTaskBookStorageTest {
          */
     }
 
+    @Test
+    public void read_wrongRootElement_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readTaskBook("WrongRootElementTaskBook.xml");
+    }
+
+    @Test
+    public void read_validFile_allTasksRead() throws Exception {
+        ReadOnlyTaskBook readBack = readTaskBook("../XmlUtilTest/validTaskBook.xml").get();
+        XmlSerializableTaskBook expected = XmlUtil.getDataFromFile(
+                new File(TEST_DATA_FOLDER + "../XmlUtilTest/validTaskBook.xml"), XmlSerializableTaskBook.class);
+        assertEquals(new TaskBook(expected), new TaskBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveTaskBook_completedTask_statusKept() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempTaskBook.xml";
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        original.completeTask(new Task(TypicalTestTasks.exam));
+        XmlTaskBookStorage xmlTaskBookStorage = new XmlTaskBookStorage(filePath);
+
+        xmlTaskBookStorage.saveTaskBook(original);
+        ReadOnlyTaskBook readBack = xmlTaskBookStorage.readTaskBook().get();
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTaskList().get(i).getStatus().toString(),
+                    readBack.getTaskList().get(i).getStatus().toString());
+        }
+    }
+
     @Test
     public void readAndSaveTaskBook_allInOrder_success() throws Exception {
         String filePath = testFolder.getRoot().getPath() + "TempTaskBook.xml";